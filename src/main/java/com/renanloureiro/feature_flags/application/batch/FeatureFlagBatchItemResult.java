@@ -0,0 +1,46 @@
+package com.renanloureiro.feature_flags.application.batch;
+
+import com.renanloureiro.feature_flags.domain.FeatureFlag;
+
+import lombok.Value;
+
+/**
+ * Resultado de um item da criação em lote
+ */
+@Value
+public class FeatureFlagBatchItemResult {
+
+  /**
+   * Posição do item na requisição
+   */
+  int index;
+
+  String slug;
+
+  /**
+   * Status HTTP equivalente ao da criação individual: 201, 400 ou 409
+   */
+  int status;
+
+  /**
+   * Flag criada, nula quando o item falhou
+   */
+  FeatureFlag flag;
+
+  /**
+   * Motivo da falha, nulo quando o item foi criado
+   */
+  String error;
+
+  public static FeatureFlagBatchItemResult created(int index, FeatureFlag flag) {
+    return new FeatureFlagBatchItemResult(index, flag.getSlug(), 201, flag, null);
+  }
+
+  public static FeatureFlagBatchItemResult failed(int index, String slug, int status, String error) {
+    return new FeatureFlagBatchItemResult(index, slug, status, null, error);
+  }
+
+  public boolean isCreated() {
+    return flag != null;
+  }
+}
@@ -0,0 +1,12 @@
+package com.renanloureiro.feature_flags.application.cache;
+
+/**
+ * Nomes dos caches utilizados pela aplicação
+ */
+public final class CacheNames {
+
+  public static final String FEATURE_FLAGS_BY_ID = "feature-flags-by-id";
+
+  private CacheNames() {
+  }
+}
@@ -0,0 +1,32 @@
+package com.renanloureiro.feature_flags.application.dtos;
+
+import java.util.UUID;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Novo valor de uma feature flag dentro de um changeset")
+public class ChangesetValueDTO {
+
+  @NotNull(message = "ID da flag é obrigatório")
+  @Schema(description = "ID da feature flag", example = "550e8400-e29b-41d4-a716-446655440000")
+  private UUID flagId;
+
+  @NotNull(message = "Valor é obrigatório")
+  @JsonRawValue
+  @Schema(description = "Valor da feature flag. Deve ser compatível com o tipo da feature flag", example = "true")
+  private JsonNode value;
+
+}
@@ -0,0 +1,28 @@
+package com.renanloureiro.feature_flags.application.dtos;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "DTO para criação de várias feature flags em uma única requisição")
+public class CreateFeatureFlagsBatchDTO {
+
+  @NotEmpty(message = "Flags são obrigatórias")
+  @Size(max = 500, message = "No máximo 500 flags podem ser criadas por requisição")
+  @Schema(description = "Feature flags a serem criadas")
+  private List<@Valid @NotNull(message = "Flag não pode ser nula") CreateFeatureFlagDTO> flags;
+
+}
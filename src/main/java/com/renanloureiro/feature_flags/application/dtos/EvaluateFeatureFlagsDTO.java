@@ -0,0 +1,27 @@
+package com.renanloureiro.feature_flags.application.dtos;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "DTO para avaliação de várias feature flags em uma única requisição")
+public class EvaluateFeatureFlagsDTO {
+
+  @NotEmpty(message = "Slugs são obrigatórios")
+  @Size(max = 200, message = "No máximo 200 slugs podem ser avaliados por requisição")
+  @Schema(description = "Slugs das feature flags a serem avaliadas", example = "[\"dark-mode\", \"new-checkout\"]")
+  private List<@NotBlank(message = "Slug não pode ser vazio") String> slugs;
+
+}
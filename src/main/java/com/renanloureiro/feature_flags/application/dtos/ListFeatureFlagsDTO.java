@@ -0,0 +1,39 @@
+package com.renanloureiro.feature_flags.application.dtos;
+
+import com.renanloureiro.feature_flags.domain.FeatureFlagType;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Parâmetros da listagem paginada de feature flags")
+public class ListFeatureFlagsDTO {
+
+  public static final int DEFAULT_LIMIT = 100;
+
+  @Builder.Default
+  @Min(value = 1, message = "Limite deve ser no mínimo 1")
+  @Max(value = 500, message = "Limite deve ser no máximo 500")
+  @Schema(description = "Quantidade máxima de flags na página", example = "100", defaultValue = "100")
+  private int limit = DEFAULT_LIMIT;
+
+  @Schema(description = "Cursor retornado em nextCursor pela página anterior", example = "dark-mode")
+  private String after;
+
+  @Schema(description = "Filtra as flags pelo tipo", example = "BOOLEAN")
+  private FeatureFlagType type;
+
+  @Builder.Default
+  @Schema(description = "Inclui o schema de cada flag; com false os itens trazem apenas os campos de resumo", example = "false", defaultValue = "true")
+  private boolean includeSchema = true;
+
+}
@@ -0,0 +1,28 @@
+package com.renanloureiro.feature_flags.application.dtos;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "DTO para publicação atômica de valores de várias feature flags")
+public class PublishChangesetDTO {
+
+  @NotEmpty(message = "Valores são obrigatórios")
+  @Size(max = 100, message = "No máximo 100 valores podem ser publicados por changeset")
+  @Schema(description = "Valores a serem publicados, no máximo um por feature flag")
+  private List<@Valid @NotNull(message = "Valor não pode ser nulo") ChangesetValueDTO> values;
+
+}
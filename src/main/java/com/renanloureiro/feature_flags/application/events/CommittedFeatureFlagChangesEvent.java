@@ -0,0 +1,21 @@
+package com.renanloureiro.feature_flags.application.events;
+
+import java.util.List;
+
+import com.renanloureiro.feature_flags.domain.FeatureFlagOutboxEntry;
+
+import lombok.Value;
+
+/**
+ * Lote de alterações já commitadas, entregue a partir do outbox. Os listeners
+ * rodam na transação que remove o lote: uma exceção faz o lote ser entregue
+ * novamente, então o processamento precisa ser idempotente.
+ */
+@Value
+public class CommittedFeatureFlagChangesEvent {
+
+  /**
+   * Alterações em ordem de gravação
+   */
+  List<FeatureFlagOutboxEntry> changes;
+}
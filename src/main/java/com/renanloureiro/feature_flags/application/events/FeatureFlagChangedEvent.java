@@ -0,0 +1,36 @@
+package com.renanloureiro.feature_flags.application.events;
+
+import java.util.UUID;
+
+import com.renanloureiro.feature_flags.domain.FeatureFlag;
+import com.renanloureiro.feature_flags.domain.FeatureFlagValue;
+
+import lombok.Value;
+
+/**
+ * Evento publicado sempre que uma feature flag ou seus valores são alterados.
+ * Os listeners são notificados somente após o commit da transação.
+ */
+@Value
+public class FeatureFlagChangedEvent {
+
+  UUID flagId;
+
+  String slug;
+
+  FeatureFlag flag;
+
+  /**
+   * Valor publicado na alteração, nulo quando apenas a definição mudou
+   */
+  FeatureFlagValue value;
+
+  public static FeatureFlagChangedEvent of(FeatureFlag featureFlag) {
+    return new FeatureFlagChangedEvent(featureFlag.getId(), featureFlag.getSlug(), featureFlag, null);
+  }
+
+  public static FeatureFlagChangedEvent of(FeatureFlagValue featureFlagValue) {
+    FeatureFlag featureFlag = featureFlagValue.getFlag();
+    return new FeatureFlagChangedEvent(featureFlag.getId(), featureFlag.getSlug(), featureFlag, featureFlagValue);
+  }
+}
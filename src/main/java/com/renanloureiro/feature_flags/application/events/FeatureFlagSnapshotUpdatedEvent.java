@@ -0,0 +1,15 @@
+package com.renanloureiro.feature_flags.application.events;
+
+import com.renanloureiro.feature_flags.application.snapshot.FeatureFlagSnapshotEntry;
+
+import lombok.Value;
+
+/**
+ * Evento publicado depois que o snapshot passou a refletir a alteração de uma
+ * feature flag, seja ela local ou vinda de outra instância
+ */
+@Value
+public class FeatureFlagSnapshotUpdatedEvent {
+
+  FeatureFlagSnapshotEntry entry;
+}
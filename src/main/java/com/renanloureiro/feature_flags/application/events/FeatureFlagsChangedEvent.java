@@ -0,0 +1,15 @@
+package com.renanloureiro.feature_flags.application.events;
+
+import java.util.List;
+
+import lombok.Value;
+
+/**
+ * Evento publicado uma única vez quando várias feature flags são alteradas na
+ * mesma transação, para que os listeners processem o conjunto de uma vez
+ */
+@Value
+public class FeatureFlagsChangedEvent {
+
+  List<FeatureFlagChangedEvent> changes;
+}
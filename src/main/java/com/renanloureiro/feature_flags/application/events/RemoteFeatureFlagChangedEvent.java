@@ -0,0 +1,18 @@
+package com.renanloureiro.feature_flags.application.events;
+
+import java.util.UUID;
+
+import lombok.Value;
+
+/**
+ * Evento publicado localmente quando outra instância informa que uma feature
+ * flag foi alterada. Carrega apenas a identificação da flag; o estado atual
+ * deve ser lido do banco.
+ */
+@Value
+public class RemoteFeatureFlagChangedEvent {
+
+  UUID flagId;
+
+  String slug;
+}
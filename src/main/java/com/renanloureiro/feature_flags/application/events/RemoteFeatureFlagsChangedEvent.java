@@ -0,0 +1,16 @@
+package com.renanloureiro.feature_flags.application.events;
+
+import java.util.List;
+
+import lombok.Value;
+
+/**
+ * Evento publicado localmente quando outra instância informa que várias
+ * feature flags foram alteradas de uma vez. O estado atual deve ser lido do
+ * banco.
+ */
+@Value
+public class RemoteFeatureFlagsChangedEvent {
+
+  List<String> slugs;
+}
@@ -14,6 +14,9 @@ public class AppError {
   @Schema(description = "Mensagem de erro", example = "Feature flag with slug 'new-user-interface' already exists")
   private String message;
 
+  @Schema(description = "Código estável do erro", example = "SLUG_ALREADY_EXISTS")
+  private String code;
+
   @Schema(description = "Timestamp do erro", example = "2024-01-15T10:30:00")
   private LocalDateTime timestamp;
 
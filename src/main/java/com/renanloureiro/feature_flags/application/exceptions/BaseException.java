@@ -2,15 +2,41 @@ package com.renanloureiro.feature_flags.application.exceptions;
 
 import java.time.LocalDateTime;
 
+/**
+ * Erro de negócio esperado, traduzido em uma resposta 4xx. Não captura stack
+ * trace, já que o ponto de lançamento não interessa para um erro previsto, e
+ * só formata a mensagem na primeira leitura.
+ */
 public abstract class BaseException extends RuntimeException {
 
+  private static final Object[] NO_ARGUMENTS = new Object[0];
+
   private final LocalDateTime timestamp;
   private final int status;
+  private final String code;
+  private final String template;
+  private final Object[] arguments;
+  private String message;
+
+  protected BaseException(ErrorCode code, int status, Object... arguments) {
+    this(code.name(), code.getTemplate(), status, arguments);
+  }
 
-  protected BaseException(String message, int status) {
-    super(message);
+  protected BaseException(String code, String template, int status, Object... arguments) {
+    super(null, null, false, false);
     this.timestamp = LocalDateTime.now();
     this.status = status;
+    this.code = code;
+    this.template = template;
+    this.arguments = arguments == null ? NO_ARGUMENTS : arguments;
+  }
+
+  @Override
+  public String getMessage() {
+    if (message == null) {
+      message = arguments.length == 0 ? template : String.format(template, arguments);
+    }
+    return message;
   }
 
   public LocalDateTime getTimestamp() {
@@ -20,4 +46,8 @@ public abstract class BaseException extends RuntimeException {
   public int getStatus() {
     return status;
   }
-}
\ No newline at end of file
+
+  public String getCode() {
+    return code;
+  }
+}
@@ -0,0 +1,40 @@
+package com.renanloureiro.feature_flags.application.exceptions;
+
+/**
+ * Códigos estáveis dos erros de negócio devolvidos pela API, com o template
+ * da mensagem. Os argumentos só são aplicados ao template quando a mensagem é
+ * lida.
+ */
+public enum ErrorCode {
+  FEATURE_FLAG_NOT_FOUND("Feature flag not found"),
+  FEATURE_FLAGS_NOT_FOUND("Feature flags não encontradas: %s"),
+  FEATURE_FLAG_VALUE_NOT_FOUND("Feature flag value not found"),
+  RESOURCE_NOT_FOUND("%s"),
+  SLUG_ALREADY_EXISTS("Already exists a feature flag with this slug, please try another name"),
+  VALIDATION_FAILED("%s"),
+  VALUE_REQUIRED("Valor não pode ser nulo"),
+  BODY_NOT_OBJECT("Corpo da requisição deve ser um objeto JSON"),
+  BODY_MALFORMED("Corpo da requisição não é um JSON válido"),
+  CHANGESET_DUPLICATED_FLAG("A flag %s aparece mais de uma vez no changeset"),
+  SCHEMA_PROCESSING_FAILED("Erro ao processar schema JSON: %s"),
+  DOCUMENT_SCHEMA_MISMATCH("Documento não está de acordo com o schema: %s"),
+  DOCUMENT_VALIDATION_FAILED("Erro ao validar documento contra schema: %s"),
+  UNSUPPORTED_FLAG_TYPE("Tipo de feature flag não suportado: %s"),
+  SCHEMA_TYPE_MISMATCH("Schema para %s deve ser do tipo '%s'"),
+  SCHEMA_ITEMS_TYPE_REQUIRED("Schema para LIST deve definir o tipo dos itens"),
+  INVALID_REQUEST("Erro de validação"),
+  INVALID_ARGUMENT("Argumento inválido: %s"),
+  UNSUPPORTED_MEDIA_TYPE("Content-Type não suportado: %s. Use application/json"),
+  ENDPOINT_NOT_FOUND("Endpoint não encontrado. Verifique se a URL está correta e inclui o prefixo /api"),
+  INTERNAL_ERROR("Erro interno do servidor");
+
+  private final String template;
+
+  ErrorCode(String template) {
+    this.template = template;
+  }
+
+  public String getTemplate() {
+    return template;
+  }
+}
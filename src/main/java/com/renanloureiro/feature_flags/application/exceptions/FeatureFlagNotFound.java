@@ -1,9 +1,21 @@
 package com.renanloureiro.feature_flags.application.exceptions;
 
+import java.util.Collection;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
 public class FeatureFlagNotFound extends BaseException {
 
   public FeatureFlagNotFound() {
-    super("Feature flag not found", 400);
+    super(ErrorCode.FEATURE_FLAG_NOT_FOUND, 400);
+  }
+
+  /**
+   * Várias flags pedidas de uma vez, informando quais não existem
+   */
+  public FeatureFlagNotFound(Collection<UUID> missingIds) {
+    super(ErrorCode.FEATURE_FLAGS_NOT_FOUND, 400,
+        missingIds.stream().map(UUID::toString).collect(Collectors.joining(", ")));
   }
 
 }
@@ -3,6 +3,10 @@ package com.renanloureiro.feature_flags.application.exceptions;
 public class ResourceNotFoundException extends BaseException {
 
   public ResourceNotFoundException(String message) {
-    super(message, 404);
+    super(ErrorCode.RESOURCE_NOT_FOUND, 404, message);
   }
-}
\ No newline at end of file
+
+  public ResourceNotFoundException(ErrorCode code, Object... arguments) {
+    super(code, 404, arguments);
+  }
+}
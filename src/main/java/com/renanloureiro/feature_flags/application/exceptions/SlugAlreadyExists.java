@@ -2,7 +2,9 @@ package com.renanloureiro.feature_flags.application.exceptions;
 
 public class SlugAlreadyExists extends BaseException {
 
+  public static final String MESSAGE = ErrorCode.SLUG_ALREADY_EXISTS.getTemplate();
+
   public SlugAlreadyExists() {
-    super("Already exists a feature flag with this slug, please try another name", 409);
+    super(ErrorCode.SLUG_ALREADY_EXISTS, 409);
   }
 }
@@ -1,8 +1,21 @@
 package com.renanloureiro.feature_flags.application.exceptions;
 
+import com.renanloureiro.feature_flags.domain.FeatureFlagValueViolation;
+
 public class ValidationException extends BaseException {
 
   public ValidationException(String message) {
-    super(message, 400);
+    super(ErrorCode.VALIDATION_FAILED, 400, message);
+  }
+
+  public ValidationException(ErrorCode code, Object... arguments) {
+    super(code, 400, arguments);
+  }
+
+  /**
+   * Violação de uma regra do schema, mantendo o código do domínio
+   */
+  public ValidationException(FeatureFlagValueViolation violation) {
+    super(violation.getCode().name(), violation.getCode().getTemplate(), 400, violation.getArguments());
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,22 @@
+package com.renanloureiro.feature_flags.application.pagination;
+
+import java.util.List;
+
+import com.renanloureiro.feature_flags.domain.FeatureFlag;
+
+import lombok.Value;
+
+/**
+ * Página de feature flags ordenada por slug
+ */
+@Value
+public class FeatureFlagPage {
+
+  List<FeatureFlag> items;
+
+  /**
+   * Slug a ser enviado em {@code after} para buscar a próxima página, nulo na
+   * última página
+   */
+  String nextCursor;
+}
@@ -0,0 +1,29 @@
+package com.renanloureiro.feature_flags.application.repositories;
+
+import java.util.Collection;
+import java.util.List;
+
+import com.renanloureiro.feature_flags.domain.FeatureFlagOutboxEntry;
+
+public interface FeatureFlagOutboxRepository {
+
+  <S extends FeatureFlagOutboxEntry> List<S> saveAll(Iterable<S> entries);
+
+  /**
+   * Bloqueia até {@code limit} alterações pendentes, em ordem de gravação,
+   * ignorando as já bloqueadas por outra instância. Uma flag cujas alterações
+   * estão sendo entregues por outra transação é pulada por inteiro, para que
+   * as alterações de cada flag sejam entregues em ordem. Deve ser chamado
+   * dentro de uma transação.
+   */
+  List<FeatureFlagOutboxEntry> lockNextBatch(int limit);
+
+  void deleteAllByIdInBatch(Iterable<Long> ids);
+
+  /**
+   * Soma uma tentativa de entrega malsucedida às alterações informadas
+   */
+  void incrementAttempts(Collection<Long> ids);
+
+  long count();
+}
@@ -1,20 +1,78 @@
 package com.renanloureiro.feature_flags.application.repositories;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import com.renanloureiro.feature_flags.application.snapshot.FeatureFlagSnapshotEntry;
 import com.renanloureiro.feature_flags.domain.FeatureFlag;
+import com.renanloureiro.feature_flags.domain.FeatureFlagType;
 
 public interface FeatureFlagRepository {
 
   FeatureFlag save(FeatureFlag featureFlag);
 
-  Optional<FeatureFlag> findBySlug(String slug);
+  /**
+   * Insere a flag em um único comando se o slug estiver livre. Retorna a flag
+   * com a revisão atribuída pelo banco, ou vazio quando o slug já existe; o
+   * conflito não aborta a transação.
+   */
+  Optional<FeatureFlag> insertIfSlugAvailable(FeatureFlag featureFlag);
+
+  <S extends FeatureFlag> List<S> saveAll(Iterable<S> featureFlags);
 
-  boolean existsBySlug(String slug);
+  Optional<FeatureFlag> findBySlug(String slug);
 
-  List<FeatureFlag> findAll();
+  /**
+   * Insere as flags em um único comando, ignorando as de slug já existente.
+   * Retorna apenas as inseridas, com a revisão atribuída pelo banco; o
+   * conflito não aborta a transação.
+   */
+  List<FeatureFlag> insertAllIfSlugsAvailable(List<FeatureFlag> featureFlags);
 
   Optional<FeatureFlag> findById(UUID id);
-}
\ No newline at end of file
+
+  /**
+   * Busca em uma única consulta as flags informadas; ids inexistentes são
+   * ignorados
+   */
+  List<FeatureFlag> findAllByIdIn(Collection<UUID> ids);
+
+  /**
+   * Busca em uma única consulta as flags informadas com seus valores vigentes.
+   * Slugs inexistentes são ignorados.
+   */
+  List<FeatureFlagSnapshotEntry> findWithCurrentValueBySlugs(Collection<String> slugs);
+
+  /**
+   * Página de flags com seus valores vigentes, ordenada por slug: retorna até
+   * {@code limit} flags com slug maior que {@code afterSlug} (nulo para a
+   * primeira página), filtradas por tipo quando {@code type} não é nulo
+   */
+  List<FeatureFlagSnapshotEntry> findPage(FeatureFlagType type, String afterSlug, int limit);
+
+  /**
+   * Busca as flags informadas com seus valores vigentes. A revisão de cada
+   * entrada é a maior revisão global entre a flag e o valor.
+   */
+  List<FeatureFlagSnapshotEntry> findWithCurrentValueByIds(Collection<UUID> ids);
+
+  /**
+   * Todas as flags com seus valores vigentes, usado na sincronização completa
+   */
+  List<FeatureFlagSnapshotEntry> findAllWithCurrentValue();
+
+  /**
+   * Flags que tiveram a própria linha ou algum valor escrito por transações a
+   * partir do cursor informado, obtido de {@link #findSyncWatermark()}
+   */
+  List<UUID> findIdsChangedSince(long watermark);
+
+  /**
+   * Cursor da sincronização no snapshot corrente: toda escrita de uma transação
+   * anterior a ele já está visível, e as demais serão devolvidas por
+   * {@link #findIdsChangedSince(long)} com este mesmo cursor
+   */
+  long findSyncWatermark();
+}
@@ -1,18 +1,70 @@
 package com.renanloureiro.feature_flags.application.repositories;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
-import com.renanloureiro.feature_flags.domain.FeatureFlag;
 import com.renanloureiro.feature_flags.domain.FeatureFlagValue;
 
 public interface FeatureFlagValueRepository {
 
   FeatureFlagValue save(FeatureFlagValue featureFlagValue);
 
-  Optional<FeatureFlagValue> findByFlagAndVersion(FeatureFlag flag, Integer version);
+  /**
+   * Grava o valor a partir do JSON já validado, sem passar pelo contexto de
+   * persistência nem converter a árvore do valor. Retorna o próprio valor com
+   * id, datas e revisão preenchidos; o campo {@code value} não é alterado.
+   */
+  FeatureFlagValue insertJson(FeatureFlagValue featureFlagValue, String json);
 
-  boolean existsByFlagAndVersion(FeatureFlag flag, Integer version);
+  /**
+   * Grava os valores em um único comando, sem passar pelo contexto de
+   * persistência. Retorna os próprios valores com id, datas e revisão
+   * preenchidos.
+   */
+  List<FeatureFlagValue> insertAll(List<FeatureFlagValue> featureFlagValues);
 
-  Optional<Integer> findLatestVersionByFlagId(UUID flagId);
+  /**
+   * Reserva atomicamente a próxima versão de valor da flag. A reserva vale até
+   * o fim da transação; publicações concorrentes na mesma flag recebem versões
+   * distintas e consecutivas.
+   */
+  int allocateNextVersion(UUID flagId);
+
+  /**
+   * Reserva em um único comando a próxima versão de cada flag informada, com as
+   * mesmas garantias de {@link #allocateNextVersion(UUID)}. Retorna a versão
+   * reservada por id de flag.
+   */
+  Map<UUID, Integer> allocateNextVersions(Collection<UUID> flagIds);
+
+  /**
+   * Aponta o valor vigente de cada flag para os valores informados, já salvos
+   * na transação corrente. Um valor de versão menor que a vigente é ignorado.
+   */
+  void markAsCurrent(Collection<UUID> valueIds);
+
+  Optional<FeatureFlagValue> findCurrentByFlagSlug(String slug);
+
+  /**
+   * Remove até {@code batchSize} versões criadas antes de {@code olderThan} que
+   * não estão entre as {@code keepLastVersions} mais recentes de sua flag. O
+   * valor vigente nunca é removido. Retorna quantas versões foram removidas.
+   */
+  int deleteExpiredVersions(int keepLastVersions, Instant olderThan, int batchSize);
+
+  /**
+   * Descarta as partições do histórico em que todas as versões já expiraram,
+   * retornando seus nomes
+   */
+  List<String> dropExpiredPartitions(int keepLastVersions, Instant olderThan);
+
+  /**
+   * Garante as partições do histórico até {@code monthsAhead} meses à frente,
+   * retornando quantas foram criadas
+   */
+  int createPartitionsAhead(int monthsAhead);
 }
\ No newline at end of file
@@ -0,0 +1,36 @@
+package com.renanloureiro.feature_flags.application.retention;
+
+import java.time.Duration;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Política de retenção do histórico de valores. Uma versão só é removida
+ * quando está fora de todos os limites configurados; o valor vigente de cada
+ * flag é sempre mantido.
+ */
+@Value
+@Builder
+public class RetentionPolicy {
+
+  /**
+   * Quantidade de versões mais recentes mantidas por flag, no mínimo 1: o
+   * valor vigente conta como uma delas
+   */
+  @Builder.Default
+  int keepLastVersions = 1;
+
+  /**
+   * Idade mínima para uma versão ser removida, nulo para não limitar por idade
+   */
+  Duration maxAge;
+
+  int batchSize;
+
+  /**
+   * Limite de lotes por execução, para que uma execução não se estenda
+   * indefinidamente após um acúmulo grande
+   */
+  int maxBatchesPerRun;
+}
@@ -0,0 +1,18 @@
+package com.renanloureiro.feature_flags.application.retention;
+
+import java.util.List;
+
+import lombok.Value;
+
+@Value
+public class RetentionResult {
+
+  List<String> droppedPartitions;
+
+  long deletedVersions;
+
+  /**
+   * Indica que a execução parou no limite de lotes e ainda há versões expiradas
+   */
+  boolean exhausted;
+}
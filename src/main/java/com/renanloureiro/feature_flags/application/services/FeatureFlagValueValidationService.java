@@ -1,9 +1,23 @@
 package com.renanloureiro.feature_flags.application.services;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SegmentedStringWriter;
+import com.fasterxml.jackson.core.util.BufferRecycler;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.renanloureiro.feature_flags.application.exceptions.ErrorCode;
 import com.renanloureiro.feature_flags.application.exceptions.ValidationException;
 import com.renanloureiro.feature_flags.domain.FeatureFlag;
 import com.renanloureiro.feature_flags.domain.FeatureFlagType;
+import com.renanloureiro.feature_flags.domain.FeatureFlagValueViolation;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
@@ -13,8 +27,13 @@ import org.springframework.stereotype.Service;
  */
 @Service
 @Slf4j
+@RequiredArgsConstructor
 public class FeatureFlagValueValidationService {
 
+  private static final String VALUE_FIELD = "value";
+
+  private final ObjectMapper objectMapper;
+
   /**
    * Valida e processa um valor para uma feature flag específica
    * 
@@ -29,181 +48,77 @@ public class FeatureFlagValueValidationService {
         featureFlag.getSlug(), featureFlag.getType());
 
     if (value == null) {
-      throw new ValidationException("Valor não pode ser nulo");
+      throw new ValidationException(ErrorCode.VALUE_REQUIRED);
     }
 
-    validateValueByType(featureFlag, value);
-    validateValueByConstraints(featureFlag, value);
+    // o validador é compilado uma vez por flag e reaproveitado enquanto o
+    // schema não mudar
+    FeatureFlagValueViolation violation = featureFlag.valueValidator().violationOf(value, featureFlag.getName());
+    if (violation != null) {
+      throw new ValidationException(violation);
+    }
 
     log.debug("Value validation successful for feature flag: {}", featureFlag.getSlug());
     return value;
   }
 
   /**
-   * Valida se o valor está de acordo com o tipo da feature flag
-   */
-  private void validateValueByType(FeatureFlag featureFlag, JsonNode value) {
-    FeatureFlagType type = featureFlag.getType();
-
-    switch (type) {
-      case BOOLEAN -> {
-        if (!value.isBoolean()) {
-          throw new ValidationException(
-              String.format("Valor deve ser do tipo boolean para feature flag '%s'", featureFlag.getName()));
-        }
-      }
-      case NUMBER -> {
-        if (!value.isNumber()) {
-          throw new ValidationException(
-              String.format("Valor deve ser do tipo number para feature flag '%s'", featureFlag.getName()));
-        }
-      }
-      case STRING -> {
-        if (!value.isTextual()) {
-          throw new ValidationException(
-              String.format("Valor deve ser do tipo string para feature flag '%s'", featureFlag.getName()));
-        }
-      }
-      case LIST -> {
-        if (!value.isArray()) {
-          throw new ValidationException(
-              String.format("Valor deve ser do tipo array para feature flag '%s'", featureFlag.getName()));
-        }
-      }
-      default -> throw new ValidationException("Tipo de feature flag não suportado: " + type);
-    }
-  }
-
-  /**
-   * Valida se o valor está de acordo com as constraints específicas do schema
+   * Lê o corpo {@code {"value": ...}} de uma publicação e retorna o valor
+   * validado em JSON compacto. Listas são validadas item a item durante a
+   * leitura, sem montar a árvore, e a leitura para na primeira violação; os
+   * demais tipos são pequenos e passam por {@link #validateAndProcessValue}.
+   *
+   * @param featureFlag A feature flag que contém o tipo e constraints
+   * @param body        O corpo da requisição
+   * @return O valor validado em JSON compacto
+   * @throws ValidationException se o corpo não for um JSON válido ou o valor
+   *                             não for válido para a feature flag
    */
-  private void validateValueByConstraints(FeatureFlag featureFlag, JsonNode value) {
-    JsonNode schema = featureFlag.getSchema();
-    if (schema == null) {
-      return; // Sem constraints para validar
-    }
-
-    FeatureFlagType type = featureFlag.getType();
-
-    switch (type) {
-      case NUMBER -> validateNumberConstraints(featureFlag, value, schema);
-      case STRING -> validateStringConstraints(featureFlag, value, schema);
-      case LIST -> validateListConstraints(featureFlag, value, schema);
-      case BOOLEAN -> {
-        // Boolean não tem constraints específicas além do tipo
-      }
-    }
-  }
-
-  private void validateNumberConstraints(FeatureFlag featureFlag, JsonNode value, JsonNode schema) {
-    double numberValue = value.asDouble();
-
-    if (schema.has("minimum")) {
-      double minimum = schema.get("minimum").asDouble();
-      if (numberValue < minimum) {
-        throw new ValidationException(
-            String.format("Valor %.2f é menor que o mínimo permitido (%.2f) para feature flag '%s'",
-                numberValue, minimum, featureFlag.getName()));
-      }
-    }
-
-    if (schema.has("maximum")) {
-      double maximum = schema.get("maximum").asDouble();
-      if (numberValue > maximum) {
-        throw new ValidationException(
-            String.format("Valor %.2f é maior que o máximo permitido (%.2f) para feature flag '%s'",
-                numberValue, maximum, featureFlag.getName()));
+  public String readValidatedValue(FeatureFlag featureFlag, InputStream body) {
+    try (JsonParser parser = objectMapper.createParser(body)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        throw new ValidationException(ErrorCode.BODY_NOT_OBJECT);
       }
-    }
-  }
-
-  private void validateStringConstraints(FeatureFlag featureFlag, JsonNode value, JsonNode schema) {
-    String stringValue = value.asText();
-
-    if (schema.has("minLength")) {
-      int minLength = schema.get("minLength").asInt();
-      if (stringValue.length() < minLength) {
-        throw new ValidationException(
-            String.format("String deve ter pelo menos %d caracteres para feature flag '%s'",
-                minLength, featureFlag.getName()));
-      }
-    }
-
-    if (schema.has("maxLength")) {
-      int maxLength = schema.get("maxLength").asInt();
-      if (stringValue.length() > maxLength) {
-        throw new ValidationException(
-            String.format("String deve ter no máximo %d caracteres para feature flag '%s'",
-                maxLength, featureFlag.getName()));
-      }
-    }
 
-    if (schema.has("enum")) {
-      JsonNode enumNode = schema.get("enum");
-      boolean isValidEnum = false;
-
-      for (JsonNode enumValue : enumNode) {
-        if (enumValue.asText().equals(stringValue)) {
-          isValidEnum = true;
-          break;
+      String value = null;
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String field = parser.currentName();
+        JsonToken token = parser.nextToken();
+        if (VALUE_FIELD.equals(field) && token != JsonToken.VALUE_NULL) {
+          value = readValue(featureFlag, parser, token);
+        } else {
+          parser.skipChildren();
         }
       }
 
-      if (!isValidEnum) {
-        throw new ValidationException(
-            String.format("Valor '%s' não está entre os valores permitidos para feature flag '%s'",
-                stringValue, featureFlag.getName()));
+      if (value == null) {
+        throw new ValidationException(ErrorCode.VALUE_REQUIRED);
       }
+      return value;
+    } catch (JsonProcessingException e) {
+      throw new ValidationException(ErrorCode.BODY_MALFORMED);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
     }
   }
 
-  private void validateListConstraints(FeatureFlag featureFlag, JsonNode value, JsonNode schema) {
-    if (!value.isArray()) {
-      throw new ValidationException(
-          String.format("Valor deve ser um array para feature flag '%s'", featureFlag.getName()));
-    }
-
-    if (schema.has("minItems")) {
-      int minItems = schema.get("minItems").asInt();
-      if (value.size() < minItems) {
-        throw new ValidationException(
-            String.format("Array deve ter pelo menos %d itens para feature flag '%s'",
-                minItems, featureFlag.getName()));
-      }
+  private String readValue(FeatureFlag featureFlag, JsonParser parser, JsonToken token) throws IOException {
+    if (featureFlag.getType() != FeatureFlagType.LIST || token != JsonToken.START_ARRAY) {
+      return validateAndProcessValue(featureFlag, parser.readValueAsTree()).toString();
     }
 
-    if (schema.has("maxItems")) {
-      int maxItems = schema.get("maxItems").asInt();
-      if (value.size() > maxItems) {
-        throw new ValidationException(
-            String.format("Array deve ter no máximo %d itens para feature flag '%s'",
-                maxItems, featureFlag.getName()));
-      }
+    log.debug("Streaming list value for feature flag: {}", featureFlag.getSlug());
+    // cresce em segmentos, sem recopiar o que já foi escrito
+    SegmentedStringWriter json = new SegmentedStringWriter(new BufferRecycler());
+    FeatureFlagValueViolation violation;
+    try (JsonGenerator copy = objectMapper.createGenerator(json)) {
+      violation = featureFlag.valueValidator().streamListViolation(parser, copy, featureFlag.getName());
     }
-
-    // Valida o tipo dos itens se especificado
-    if (schema.has("items") && schema.get("items").has("type")) {
-      String itemType = schema.get("items").get("type").asText();
-
-      for (int i = 0; i < value.size(); i++) {
-        JsonNode item = value.get(i);
-        validateItemType(featureFlag, item, itemType, i);
-      }
+    if (violation != null) {
+      throw new ValidationException(violation);
     }
-  }
 
-  private void validateItemType(FeatureFlag featureFlag, JsonNode item, String expectedType, int index) {
-    boolean isValid = switch (expectedType) {
-      case "string" -> item.isTextual();
-      case "number" -> item.isNumber();
-      case "boolean" -> item.isBoolean();
-      default -> true; // Tipo não reconhecido, aceita qualquer valor
-    };
-
-    if (!isValid) {
-      throw new ValidationException(
-          String.format("Item na posição %d deve ser do tipo %s para feature flag '%s'",
-              index, expectedType, featureFlag.getName()));
-    }
+    log.debug("Value validation successful for feature flag: {}", featureFlag.getSlug());
+    return json.getAndClear();
   }
 }
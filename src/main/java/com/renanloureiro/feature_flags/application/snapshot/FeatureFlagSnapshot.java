@@ -0,0 +1,186 @@
+package com.renanloureiro.feature_flags.application.snapshot;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import com.renanloureiro.feature_flags.domain.FeatureFlag;
+import com.renanloureiro.feature_flags.domain.FeatureFlagType;
+import com.renanloureiro.feature_flags.domain.FeatureFlagValue;
+
+/**
+ * Visão imutável de todas as feature flags e seus valores vigentes.
+ *
+ * Nunca é alterada após criada: cada escrita gera uma nova instância
+ * (copy-on-write) com a revisão incrementada, de modo que leitores concorrentes
+ * sempre enxergam um estado consistente sem qualquer lock.
+ */
+public final class FeatureFlagSnapshot {
+
+  private static final FeatureFlagSnapshot EMPTY = new FeatureFlagSnapshot(0, List.of());
+
+  private final long revision;
+
+  private final Map<String, FeatureFlagSnapshotEntry> entriesBySlug;
+
+  private final Map<UUID, FeatureFlagSnapshotEntry> entriesById;
+
+  private final List<FeatureFlagSnapshotEntry> entries;
+
+  private final List<FeatureFlag> flags;
+
+  private final Map<FeatureFlagType, List<FeatureFlag>> flagsByType;
+
+  /**
+   * @param ordered entradas já ordenadas por slug
+   */
+  private FeatureFlagSnapshot(long revision, List<FeatureFlagSnapshotEntry> ordered) {
+    Map<String, FeatureFlagSnapshotEntry> bySlug = new HashMap<>(ordered.size() * 2);
+    Map<UUID, FeatureFlagSnapshotEntry> byId = new HashMap<>(ordered.size() * 2);
+
+    List<FeatureFlag> orderedFlags = new ArrayList<>(ordered.size());
+    Map<FeatureFlagType, List<FeatureFlag>> byType = new EnumMap<>(FeatureFlagType.class);
+    for (FeatureFlagSnapshotEntry entry : ordered) {
+      bySlug.put(entry.getFlag().getSlug(), entry);
+      byId.put(entry.getFlag().getId(), entry);
+      orderedFlags.add(entry.getFlag());
+      byType.computeIfAbsent(entry.getFlag().getType(), type -> new ArrayList<>()).add(entry.getFlag());
+    }
+    byType.replaceAll((type, typeFlags) -> Collections.unmodifiableList(typeFlags));
+
+    this.revision = revision;
+    this.entriesBySlug = Collections.unmodifiableMap(bySlug);
+    this.entriesById = Collections.unmodifiableMap(byId);
+    this.entries = Collections.unmodifiableList(ordered);
+    this.flags = Collections.unmodifiableList(orderedFlags);
+    this.flagsByType = Collections.unmodifiableMap(byType);
+  }
+
+  public static FeatureFlagSnapshot empty() {
+    return EMPTY;
+  }
+
+  public long getRevision() {
+    return revision;
+  }
+
+  public Optional<FeatureFlagSnapshotEntry> findBySlug(String slug) {
+    return Optional.ofNullable(entriesBySlug.get(slug));
+  }
+
+  public Optional<FeatureFlagSnapshotEntry> findById(UUID id) {
+    return Optional.ofNullable(entriesById.get(id));
+  }
+
+  /**
+   * Entradas ordenadas por slug
+   */
+  public List<FeatureFlagSnapshotEntry> getEntries() {
+    return entries;
+  }
+
+  /**
+   * Feature flags ordenadas por slug
+   */
+  public List<FeatureFlag> getFlags() {
+    return flags;
+  }
+
+  /**
+   * Até {@code limit} flags, em ordem de slug, com slug maior que
+   * {@code afterSlug} (nulo para começar do início). Com {@code type} não nulo
+   * considera apenas as flags daquele tipo. O cursor é localizado por busca
+   * binária, então o custo não depende da posição da página.
+   */
+  public List<FeatureFlag> findPage(FeatureFlagType type, String afterSlug, int limit) {
+    List<FeatureFlag> source = type == null ? flags : flagsByType.getOrDefault(type, List.of());
+    int from = afterSlug == null ? 0 : indexAfter(source, afterSlug);
+    return source.subList(from, Math.min(source.size(), from + limit));
+  }
+
+  public int size() {
+    return entries.size();
+  }
+
+  /**
+   * Cria um novo snapshot, com a revisão seguinte, substituindo a entrada da
+   * flag informada
+   */
+  public FeatureFlagSnapshot withEntry(FeatureFlag flag, FeatureFlagValue value) {
+    return withEntries(List.of(new FeatureFlagSnapshotEntry(flag, value, revision)));
+  }
+
+  /**
+   * Cria um novo snapshot, com a revisão seguinte, substituindo as entradas das
+   * flags informadas. As entradas já estão ordenadas, então cada alteração é
+   * posicionada por busca binária em vez de reordenar o catálogo.
+   */
+  public FeatureFlagSnapshot withEntries(Collection<FeatureFlagSnapshotEntry> changes) {
+    long nextRevision = revision + 1;
+    List<FeatureFlagSnapshotEntry> ordered = new ArrayList<>(entries.size() + changes.size());
+    ordered.addAll(entries);
+    for (FeatureFlagSnapshotEntry change : changes) {
+      FeatureFlag flag = change.getFlag();
+      FeatureFlagSnapshotEntry existing = entriesById.get(flag.getId());
+      if (existing != null && !existing.getFlag().getSlug().equals(flag.getSlug())) {
+        int previous = indexOf(ordered, existing.getFlag().getSlug());
+        if (previous >= 0) {
+          ordered.remove(previous);
+        }
+      }
+
+      FeatureFlagSnapshotEntry entry = new FeatureFlagSnapshotEntry(flag, change.getCurrentValue(), nextRevision);
+      int index = indexOf(ordered, flag.getSlug());
+      if (index >= 0) {
+        ordered.set(index, entry);
+      } else {
+        ordered.add(-index - 1, entry);
+      }
+    }
+    return new FeatureFlagSnapshot(nextRevision, ordered);
+  }
+
+  /**
+   * Posição da entrada com o slug informado ou, quando ausente,
+   * {@code -(ponto de inserção) - 1}
+   */
+  private static int indexOf(List<FeatureFlagSnapshotEntry> ordered, String slug) {
+    int low = 0;
+    int high = ordered.size() - 1;
+    while (low <= high) {
+      int mid = (low + high) >>> 1;
+      int comparison = ordered.get(mid).getFlag().getSlug().compareTo(slug);
+      if (comparison < 0) {
+        low = mid + 1;
+      } else if (comparison > 0) {
+        high = mid - 1;
+      } else {
+        return mid;
+      }
+    }
+    return -(low + 1);
+  }
+
+  /**
+   * Posição da primeira flag com slug maior que o informado
+   */
+  private static int indexAfter(List<FeatureFlag> source, String slug) {
+    int low = 0;
+    int high = source.size();
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (source.get(mid).getSlug().compareTo(slug) <= 0) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+}
@@ -0,0 +1,25 @@
+package com.renanloureiro.feature_flags.application.snapshot;
+
+import com.renanloureiro.feature_flags.domain.FeatureFlag;
+import com.renanloureiro.feature_flags.domain.FeatureFlagValue;
+
+import lombok.Value;
+
+/**
+ * Uma feature flag e seu valor vigente dentro de um {@link FeatureFlagSnapshot}
+ */
+@Value
+public class FeatureFlagSnapshotEntry {
+
+  FeatureFlag flag;
+
+  /**
+   * Valor de maior versão, nulo quando nenhum valor foi publicado
+   */
+  FeatureFlagValue currentValue;
+
+  /**
+   * Revisão do snapshot em que esta entrada foi alterada pela última vez
+   */
+  long revision;
+}
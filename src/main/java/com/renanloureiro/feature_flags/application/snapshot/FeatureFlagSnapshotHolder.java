@@ -0,0 +1,144 @@
+package com.renanloureiro.feature_flags.application.snapshot;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.renanloureiro.feature_flags.application.repositories.FeatureFlagRepository;
+import com.renanloureiro.feature_flags.application.repositories.FeatureFlagValueRepository;
+import com.renanloureiro.feature_flags.domain.FeatureFlag;
+import com.renanloureiro.feature_flags.domain.FeatureFlagValue;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Mantém o {@link FeatureFlagSnapshot} vigente. Leituras apenas desreferenciam
+ * o snapshot atual; escritas constroem um novo snapshot e o publicam com uma
+ * troca atômica.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class FeatureFlagSnapshotHolder implements SmartInitializingSingleton {
+
+  private final FeatureFlagRepository featureFlagRepository;
+  private final FeatureFlagValueRepository featureFlagValueRepository;
+
+  private static final int RELOAD_PAGE_SIZE = 1000;
+
+  private final AtomicReference<FeatureFlagSnapshot> current = new AtomicReference<>(FeatureFlagSnapshot.empty());
+
+  /**
+   * Carrega o snapshot antes de o servidor começar a aceitar requisições
+   */
+  @Override
+  public void afterSingletonsInstantiated() {
+    reload();
+  }
+
+  public FeatureFlagSnapshot current() {
+    return current.get();
+  }
+
+  /**
+   * Relê o catálogo inteiro do banco, em páginas para não materializar todas as
+   * linhas em uma única consulta, e o mescla ao snapshot vigente
+   */
+  public FeatureFlagSnapshot reload() {
+    List<FeatureFlagSnapshotEntry> loaded = new ArrayList<>();
+    List<FeatureFlagSnapshotEntry> page;
+    String afterSlug = null;
+    do {
+      page = featureFlagRepository.findPage(null, afterSlug, RELOAD_PAGE_SIZE);
+      loaded.addAll(page);
+      if (!page.isEmpty()) {
+        afterSlug = page.get(page.size() - 1).getFlag().getSlug();
+      }
+    } while (page.size() == RELOAD_PAGE_SIZE);
+
+    // alterações aplicadas enquanto as páginas eram lidas são mais novas que a
+    // leitura: a carga é mesclada como em applyAll, sem substituir o snapshot
+    FeatureFlagSnapshot snapshot = applyAll(loaded);
+
+    log.info("Snapshot de feature flags carregado com {} flags na revisão {}", snapshot.size(), snapshot.getRevision());
+    return snapshot;
+  }
+
+  /**
+   * Aplica a alteração de uma flag. Se eventos concorrentes chegarem fora de
+   * ordem, o valor de maior versão é preservado.
+   */
+  public FeatureFlagSnapshot apply(FeatureFlag flag, FeatureFlagValue value) {
+    return applyAll(List.of(new FeatureFlagSnapshotEntry(flag, value, 0)));
+  }
+
+  /**
+   * Aplica a alteração de várias flags em uma única troca de snapshot
+   */
+  public FeatureFlagSnapshot applyAll(Collection<FeatureFlagSnapshotEntry> changes) {
+    return current.updateAndGet(snapshot -> {
+      List<FeatureFlagSnapshotEntry> merged = new ArrayList<>(changes.size());
+      for (FeatureFlagSnapshotEntry change : changes) {
+        merged.add(new FeatureFlagSnapshotEntry(change.getFlag(), newest(snapshot, change), 0));
+      }
+      return snapshot.withEntries(merged);
+    });
+  }
+
+  /**
+   * Relê do banco o estado de uma flag e o aplica ao snapshot. Retorna a
+   * entrada atualizada ou vazio quando a flag não existe.
+   */
+  public Optional<FeatureFlagSnapshotEntry> refresh(String slug) {
+    Optional<FeatureFlag> flag = featureFlagRepository.findBySlug(slug);
+    if (flag.isEmpty()) {
+      return Optional.empty();
+    }
+
+    FeatureFlagValue value = featureFlagValueRepository.findCurrentByFlagSlug(slug).orElse(null);
+    return apply(flag.get(), value).findBySlug(slug);
+  }
+
+  /**
+   * Busca uma flag ausente do snapshot. Como ela ainda não foi aplicada aqui, a
+   * leitura pode ser atendida pela réplica: se a flag acabou de ser criada, o
+   * aviso da alteração chega depois e a relê do primário.
+   */
+  @Transactional(readOnly = true)
+  public Optional<FeatureFlagSnapshotEntry> lookup(String slug) {
+    return refresh(slug);
+  }
+
+  /**
+   * Relê do banco, em uma única consulta, as flags informadas e as aplica ao
+   * snapshot. Slugs inexistentes são ignorados.
+   */
+  public List<FeatureFlagSnapshotEntry> refreshAll(Collection<String> slugs) {
+    List<FeatureFlagSnapshotEntry> loaded = featureFlagRepository.findWithCurrentValueBySlugs(slugs);
+    if (loaded.isEmpty()) {
+      return List.of();
+    }
+
+    FeatureFlagSnapshot snapshot = applyAll(loaded);
+    List<FeatureFlagSnapshotEntry> refreshed = new ArrayList<>(loaded.size());
+    for (FeatureFlagSnapshotEntry entry : loaded) {
+      snapshot.findById(entry.getFlag().getId()).ifPresent(refreshed::add);
+    }
+    return refreshed;
+  }
+
+  private FeatureFlagValue newest(FeatureFlagSnapshot snapshot, FeatureFlagSnapshotEntry change) {
+    FeatureFlagValue value = change.getCurrentValue();
+    return snapshot.findById(change.getFlag().getId())
+        .map(FeatureFlagSnapshotEntry::getCurrentValue)
+        .filter(existing -> value == null || existing.getVersion() > value.getVersion())
+        .orElse(value);
+  }
+}
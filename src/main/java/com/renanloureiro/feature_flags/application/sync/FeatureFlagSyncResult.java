@@ -0,0 +1,32 @@
+package com.renanloureiro.feature_flags.application.sync;
+
+import java.util.List;
+
+import com.renanloureiro.feature_flags.application.snapshot.FeatureFlagSnapshotEntry;
+
+import lombok.Value;
+
+/**
+ * Resultado de uma sincronização a partir de um cursor
+ */
+@Value
+public class FeatureFlagSyncResult {
+
+  /**
+   * Cursor da leitura, a ser usado no próximo {@code since}. É opaco para o
+   * cliente e não se compara com a revisão das entradas.
+   */
+  long revision;
+
+  /**
+   * Indica que o cursor pedido não pôde ser atendida de forma incremental e
+   * {@link #entries} contém o catálogo inteiro
+   */
+  boolean full;
+
+  /**
+   * Flags alteradas com seus valores vigentes; a revisão de cada entrada é a
+   * revisão global da última escrita
+   */
+  List<FeatureFlagSnapshotEntry> entries;
+}
@@ -1,10 +1,12 @@
 package com.renanloureiro.feature_flags.application.usecases;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.renanloureiro.feature_flags.application.dtos.CreateFeatureFlagDTO;
+import com.renanloureiro.feature_flags.application.events.FeatureFlagChangedEvent;
 import com.renanloureiro.feature_flags.application.exceptions.SlugAlreadyExists;
 import com.renanloureiro.feature_flags.application.repositories.FeatureFlagRepository;
 import com.renanloureiro.feature_flags.application.services.SchemaGeneratorService;
@@ -26,8 +28,26 @@ public class CreateFeatureFlagUseCase {
 
   private final SchemaGeneratorService schemaGeneratorService;
 
+  private final ApplicationEventPublisher eventPublisher;
+
   public FeatureFlag execute(CreateFeatureFlagDTO dto) {
 
+    FeatureFlag featureFlag = build(dto);
+
+    // a unicidade é decidida pelo próprio insert: criações simultâneas do mesmo
+    // slug resultam em SlugAlreadyExists, nunca em violação de constraint
+    FeatureFlag savedFeatureFlag = featureFlagRepository.insertIfSlugAvailable(featureFlag)
+        .orElseThrow(SlugAlreadyExists::new);
+    eventPublisher.publishEvent(FeatureFlagChangedEvent.of(savedFeatureFlag));
+
+    return savedFeatureFlag;
+  }
+
+  /**
+   * Aplica as regras de criação (constraints e schema) e monta a feature flag
+   * sem persisti-la nem verificar a unicidade do slug
+   */
+  public FeatureFlag build(CreateFeatureFlagDTO dto) {
     validateConstraints(dto);
 
     JsonNode schema = generateSchemaFromConstraints(dto);
@@ -35,21 +55,13 @@ public class CreateFeatureFlagUseCase {
     schemaValidationService.validateSchema(schema);
     schemaValidationService.validateSchemaForType(schema, dto.getType().name());
 
-    var slugAlreadyExists = featureFlagRepository.existsBySlug(FeatureFlag.createSlugByName(dto.getName()));
-
-    if (slugAlreadyExists) {
-      throw new SlugAlreadyExists();
-    }
-
-    FeatureFlag featureFlag = FeatureFlag.builder()
+    return FeatureFlag.builder()
         .name(dto.getName())
         .slug(FeatureFlag.createSlugByName(dto.getName()))
         .type(dto.getType())
         .schema(schema)
         .description(dto.getDescription())
         .build();
-
-    return featureFlagRepository.save(featureFlag);
   }
 
   private void validateConstraints(CreateFeatureFlagDTO dto) {
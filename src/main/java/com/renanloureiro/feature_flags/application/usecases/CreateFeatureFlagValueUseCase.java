@@ -1,15 +1,23 @@
 package com.renanloureiro.feature_flags.application.usecases;
 
+import java.io.InputStream;
+import java.util.List;
 import java.util.UUID;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.renanloureiro.feature_flags.application.dtos.CreateFeatureFlagValueDTO;
+import com.renanloureiro.feature_flags.application.events.FeatureFlagChangedEvent;
 import com.renanloureiro.feature_flags.application.exceptions.FeatureFlagNotFound;
 import com.renanloureiro.feature_flags.application.repositories.FeatureFlagRepository;
 import com.renanloureiro.feature_flags.application.repositories.FeatureFlagValueRepository;
 import com.renanloureiro.feature_flags.application.services.FeatureFlagValueValidationService;
+import com.renanloureiro.feature_flags.domain.FeatureFlag;
 import com.renanloureiro.feature_flags.domain.FeatureFlagValue;
 
 import lombok.RequiredArgsConstructor;
@@ -24,7 +32,13 @@ public class CreateFeatureFlagValueUseCase {
   private final FeatureFlagValueRepository featureFlagValueRepository;
   private final FeatureFlagRepository featureFlagRepository;
   private final FeatureFlagValueValidationService validationService;
+  private final ApplicationEventPublisher eventPublisher;
+  private final ObjectMapper objectMapper;
 
+  /**
+   * Publica o valor já desserializado no DTO. A árvore é validada diretamente e
+   * segue para a mesma gravação do corpo da requisição.
+   */
   public FeatureFlagValue execute(UUID flagId, CreateFeatureFlagValueDTO dto) {
     log.info("Creating new feature flag value for flag ID: {}", flagId);
 
@@ -34,21 +48,56 @@ public class CreateFeatureFlagValueUseCase {
     var validatedValue = validationService.validateAndProcessValue(featureFlag, dto.getValue());
     log.info("Value validated successfully for feature flag type: {}", featureFlag.getType());
 
-    var nextVersion = featureFlagValueRepository.findLatestVersionByFlagId(flagId)
-        .map(version -> version + 1)
-        .orElse(1);
+    return publish(featureFlag, validatedValue.toString(), validatedValue);
+  }
+
+  /**
+   * Publica o valor lido direto do corpo da requisição. O valor é validado
+   * durante a leitura e chega como JSON compacto; a árvore é montada a partir
+   * dele apenas para o snapshot e a resposta.
+   */
+  public FeatureFlagValue execute(UUID flagId, InputStream body) {
+    log.info("Creating new feature flag value for flag ID: {}", flagId);
+
+    var featureFlag = featureFlagRepository.findById(flagId)
+        .orElseThrow(() -> new FeatureFlagNotFound());
+
+    var validatedJson = validationService.readValidatedValue(featureFlag, body);
+    log.info("Value validated successfully for feature flag type: {}", featureFlag.getType());
+
+    return publish(featureFlag, validatedJson, readTree(validatedJson));
+  }
+
+  /**
+   * Grava um valor já validado como a nova versão corrente da flag
+   */
+  private FeatureFlagValue publish(FeatureFlag featureFlag, String validatedJson, JsonNode validatedValue) {
+    var nextVersion = featureFlagValueRepository.allocateNextVersion(featureFlag.getId());
 
     var featureFlagValue = FeatureFlagValue.builder()
         .flag(featureFlag)
-        .value(validatedValue)
         .version(nextVersion)
         .updatedBy("api")
         .build();
 
-    var savedValue = featureFlagValueRepository.save(featureFlagValue);
+    var savedValue = featureFlagValueRepository.insertJson(featureFlagValue, validatedJson);
+    savedValue.setValue(validatedValue);
+
+    featureFlagValueRepository.markAsCurrent(List.of(savedValue.getId()));
     log.info("Feature flag value created successfully with ID: {} and version: {}",
         savedValue.getId(), savedValue.getVersion());
 
+    eventPublisher.publishEvent(FeatureFlagChangedEvent.of(savedValue));
+
     return savedValue;
   }
+
+  private JsonNode readTree(String json) {
+    try {
+      return objectMapper.readTree(json);
+    } catch (JsonProcessingException e) {
+      // o JSON foi gerado pela própria validação
+      throw new IllegalStateException(e);
+    }
+  }
 }
@@ -0,0 +1,101 @@
+package com.renanloureiro.feature_flags.application.usecases;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.renanloureiro.feature_flags.application.batch.FeatureFlagBatchItemResult;
+import com.renanloureiro.feature_flags.application.dtos.CreateFeatureFlagDTO;
+import com.renanloureiro.feature_flags.application.events.FeatureFlagChangedEvent;
+import com.renanloureiro.feature_flags.application.events.FeatureFlagsChangedEvent;
+import com.renanloureiro.feature_flags.application.exceptions.BaseException;
+import com.renanloureiro.feature_flags.application.exceptions.SlugAlreadyExists;
+import com.renanloureiro.feature_flags.application.repositories.FeatureFlagRepository;
+import com.renanloureiro.feature_flags.domain.FeatureFlag;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Cria várias feature flags em uma transação. Cada item passa pelas mesmas
+ * regras de {@link CreateFeatureFlagUseCase}; as flags válidas são inseridas em
+ * um único comando que ignora slugs já existentes, inclusive os criados por
+ * outra transação durante o lote. Itens inválidos ou em conflito são
+ * reportados sem impedir a criação dos demais.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+@Transactional
+public class CreateFeatureFlagsBatch {
+
+  private final CreateFeatureFlagUseCase createFeatureFlagUseCase;
+
+  private final FeatureFlagRepository featureFlagRepository;
+
+  private final ApplicationEventPublisher eventPublisher;
+
+  public List<FeatureFlagBatchItemResult> execute(List<CreateFeatureFlagDTO> dtos) {
+    FeatureFlagBatchItemResult[] results = new FeatureFlagBatchItemResult[dtos.size()];
+    Map<Integer, FeatureFlag> candidates = new LinkedHashMap<>();
+
+    for (int i = 0; i < dtos.size(); i++) {
+      CreateFeatureFlagDTO dto = dtos.get(i);
+      try {
+        candidates.put(i, createFeatureFlagUseCase.build(dto));
+      } catch (BaseException e) {
+        results[i] = FeatureFlagBatchItemResult.failed(i, slugOf(dto), e.getStatus(), e.getMessage());
+      } catch (IllegalArgumentException e) {
+        results[i] = FeatureFlagBatchItemResult.failed(i, slugOf(dto), 400, e.getMessage());
+      }
+    }
+
+    // slugs repetidos dentro do próprio lote: só o primeiro item é enviado
+    Map<String, Integer> indexesBySlug = new HashMap<>();
+    List<FeatureFlag> toCreate = new ArrayList<>(candidates.size());
+    for (Map.Entry<Integer, FeatureFlag> candidate : candidates.entrySet()) {
+      FeatureFlag featureFlag = candidate.getValue();
+      if (indexesBySlug.putIfAbsent(featureFlag.getSlug(), candidate.getKey()) != null) {
+        results[candidate.getKey()] = conflict(candidate.getKey(), featureFlag.getSlug());
+        continue;
+      }
+      toCreate.add(featureFlag);
+    }
+
+    List<FeatureFlag> created = toCreate.isEmpty() ? List.of() : featureFlagRepository.insertAllIfSlugsAvailable(toCreate);
+    if (!created.isEmpty()) {
+      List<FeatureFlagChangedEvent> changes = new ArrayList<>(created.size());
+      for (FeatureFlag featureFlag : created) {
+        int index = indexesBySlug.get(featureFlag.getSlug());
+        results[index] = FeatureFlagBatchItemResult.created(index, featureFlag);
+        changes.add(FeatureFlagChangedEvent.of(featureFlag));
+      }
+      eventPublisher.publishEvent(new FeatureFlagsChangedEvent(changes));
+    }
+
+    // o que não voltou da inserção tinha o slug ocupado
+    for (FeatureFlag featureFlag : toCreate) {
+      int index = indexesBySlug.get(featureFlag.getSlug());
+      if (results[index] == null) {
+        results[index] = conflict(index, featureFlag.getSlug());
+      }
+    }
+
+    log.info("Lote de feature flags processado: {} criadas de {}", created.size(), dtos.size());
+    return List.of(results);
+  }
+
+  private FeatureFlagBatchItemResult conflict(int index, String slug) {
+    return FeatureFlagBatchItemResult.failed(index, slug, 409, SlugAlreadyExists.MESSAGE);
+  }
+
+  private String slugOf(CreateFeatureFlagDTO dto) {
+    return FeatureFlag.createSlugByName(dto.getName());
+  }
+}
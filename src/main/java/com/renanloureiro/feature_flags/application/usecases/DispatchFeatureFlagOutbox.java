@@ -0,0 +1,72 @@
+package com.renanloureiro.feature_flags.application.usecases;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.renanloureiro.feature_flags.application.events.CommittedFeatureFlagChangesEvent;
+import com.renanloureiro.feature_flags.application.repositories.FeatureFlagOutboxRepository;
+import com.renanloureiro.feature_flags.domain.FeatureFlagOutboxEntry;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Entrega um lote de alterações pendentes no outbox aos listeners de
+ * {@link CommittedFeatureFlagChangesEvent} e o remove na mesma transação. Se
+ * algum listener falhar o lote permanece no outbox e é entregue de novo.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DispatchFeatureFlagOutbox {
+
+  private final FeatureFlagOutboxRepository featureFlagOutboxRepository;
+  private final ApplicationEventPublisher eventPublisher;
+
+  /**
+   * Alterações que já falharam {@code maxAttempts} vezes são descartadas sem
+   * entrega, para não bloquear as seguintes da mesma flag.
+   *
+   * @return quantidade de alterações removidas do outbox
+   */
+  @Transactional
+  public int execute(int batchSize, int maxAttempts) {
+    List<FeatureFlagOutboxEntry> changes = featureFlagOutboxRepository.lockNextBatch(batchSize);
+    if (changes.isEmpty()) {
+      return 0;
+    }
+
+    List<FeatureFlagOutboxEntry> deliverable = new ArrayList<>(changes.size());
+    for (FeatureFlagOutboxEntry change : changes) {
+      if (change.getAttempts() >= maxAttempts) {
+        log.error("Alteração {} da flag {} descartada do outbox após {} tentativas de entrega", change.getId(),
+            change.getSlug(), change.getAttempts());
+      } else {
+        deliverable.add(change);
+      }
+    }
+
+    if (!deliverable.isEmpty()) {
+      eventPublisher.publishEvent(new CommittedFeatureFlagChangesEvent(deliverable));
+    }
+    featureFlagOutboxRepository.deleteAllByIdInBatch(changes.stream().map(FeatureFlagOutboxEntry::getId).toList());
+    return changes.size();
+  }
+
+  /**
+   * Conta uma tentativa de entrega para a próxima alteração pendente. Chamado
+   * depois que ela falhou sozinha, em outra transação, já que a da entrega foi
+   * desfeita.
+   */
+  @Transactional
+  public void recordFailedAttempt() {
+    List<FeatureFlagOutboxEntry> changes = featureFlagOutboxRepository.lockNextBatch(1);
+    if (!changes.isEmpty()) {
+      featureFlagOutboxRepository.incrementAttempts(changes.stream().map(FeatureFlagOutboxEntry::getId).toList());
+    }
+  }
+}
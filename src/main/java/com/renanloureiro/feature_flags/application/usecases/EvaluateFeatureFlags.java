@@ -0,0 +1,60 @@
+package com.renanloureiro.feature_flags.application.usecases;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.stereotype.Service;
+
+import com.renanloureiro.feature_flags.application.snapshot.FeatureFlagSnapshot;
+import com.renanloureiro.feature_flags.application.snapshot.FeatureFlagSnapshotEntry;
+import com.renanloureiro.feature_flags.application.snapshot.FeatureFlagSnapshotHolder;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Resolve várias feature flags de uma vez: primeiro no snapshot e, para os
+ * slugs ausentes, em uma única consulta ao banco
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class EvaluateFeatureFlags {
+
+  private final FeatureFlagSnapshotHolder snapshotHolder;
+
+  /**
+   * Retorna as flags encontradas na ordem em que foram pedidas, sem repetições.
+   * Slugs inexistentes são omitidos.
+   */
+  public List<FeatureFlagSnapshotEntry> execute(List<String> slugs) {
+    Set<String> requested = new LinkedHashSet<>(slugs);
+    FeatureFlagSnapshot snapshot = snapshotHolder.current();
+
+    Map<String, FeatureFlagSnapshotEntry> found = new HashMap<>(requested.size() * 2);
+    List<String> misses = new ArrayList<>();
+    for (String slug : requested) {
+      snapshot.findBySlug(slug).ifPresentOrElse(entry -> found.put(slug, entry), () -> misses.add(slug));
+    }
+
+    if (!misses.isEmpty()) {
+      log.debug("Buscando no banco {} flags ausentes do snapshot", misses.size());
+      for (FeatureFlagSnapshotEntry entry : snapshotHolder.refreshAll(misses)) {
+        found.put(entry.getFlag().getSlug(), entry);
+      }
+    }
+
+    List<FeatureFlagSnapshotEntry> result = new ArrayList<>(found.size());
+    for (String slug : requested) {
+      FeatureFlagSnapshotEntry entry = found.get(slug);
+      if (entry != null) {
+        result.add(entry);
+      }
+    }
+    return result;
+  }
+}
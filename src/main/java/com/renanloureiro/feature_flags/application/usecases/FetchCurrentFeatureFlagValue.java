@@ -0,0 +1,27 @@
+package com.renanloureiro.feature_flags.application.usecases;
+
+import org.springframework.stereotype.Service;
+
+import com.renanloureiro.feature_flags.application.exceptions.ErrorCode;
+import com.renanloureiro.feature_flags.application.exceptions.ResourceNotFoundException;
+import com.renanloureiro.feature_flags.application.snapshot.FeatureFlagSnapshotEntry;
+import com.renanloureiro.feature_flags.application.snapshot.FeatureFlagSnapshotHolder;
+import com.renanloureiro.feature_flags.domain.FeatureFlagValue;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class FetchCurrentFeatureFlagValue {
+
+  private final FeatureFlagSnapshotHolder snapshotHolder;
+
+  public FeatureFlagValue execute(String slug) {
+    return snapshotHolder.current().findBySlug(slug)
+        .or(() -> snapshotHolder.lookup(slug))
+        .map(FeatureFlagSnapshotEntry::getCurrentValue)
+        .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.FEATURE_FLAG_VALUE_NOT_FOUND));
+  }
+}
@@ -1,8 +1,8 @@
 package com.renanloureiro.feature_flags.application.usecases;
 
 import com.renanloureiro.feature_flags.application.exceptions.FeatureFlagNotFound;
-import com.renanloureiro.feature_flags.application.repositories.FeatureFlagRepository;
-import com.renanloureiro.feature_flags.domain.FeatureFlag;
+import com.renanloureiro.feature_flags.application.snapshot.FeatureFlagSnapshotEntry;
+import com.renanloureiro.feature_flags.application.snapshot.FeatureFlagSnapshotHolder;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -14,10 +14,11 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class FetchFeatureFlagBySlug {
 
-  private final FeatureFlagRepository featureFlagRepository;
+  private final FeatureFlagSnapshotHolder snapshotHolder;
 
-  public FeatureFlag execute(String slug) {
-    return featureFlagRepository.findBySlug(slug)
+  public FeatureFlagSnapshotEntry execute(String slug) {
+    return snapshotHolder.current().findBySlug(slug)
+        .or(() -> snapshotHolder.lookup(slug))
         .orElseThrow(() -> new FeatureFlagNotFound());
   }
 }
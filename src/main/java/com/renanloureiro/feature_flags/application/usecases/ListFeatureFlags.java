@@ -4,7 +4,10 @@ import java.util.List;
 
 import org.springframework.stereotype.Service;
 
-import com.renanloureiro.feature_flags.application.repositories.FeatureFlagRepository;
+import com.renanloureiro.feature_flags.application.dtos.ListFeatureFlagsDTO;
+import com.renanloureiro.feature_flags.application.pagination.FeatureFlagPage;
+import com.renanloureiro.feature_flags.application.snapshot.FeatureFlagSnapshot;
+import com.renanloureiro.feature_flags.application.snapshot.FeatureFlagSnapshotHolder;
 import com.renanloureiro.feature_flags.domain.FeatureFlag;
 
 import lombok.RequiredArgsConstructor;
@@ -15,10 +18,22 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class ListFeatureFlags {
 
-  private final FeatureFlagRepository featureFlagRepository;
+  private final FeatureFlagSnapshotHolder snapshotHolder;
 
-  public List<FeatureFlag> execute() {
-    return featureFlagRepository.findAll();
+  /**
+   * Lê uma página por keyset no snapshot: busca um item a mais que o limite
+   * para saber se existe próxima página
+   */
+  public FeatureFlagPage execute(ListFeatureFlagsDTO dto) {
+    FeatureFlagSnapshot snapshot = snapshotHolder.current();
+    List<FeatureFlag> flags = snapshot.findPage(dto.getType(), dto.getAfter(), dto.getLimit() + 1);
+
+    if (flags.size() <= dto.getLimit()) {
+      return new FeatureFlagPage(flags, null);
+    }
+
+    List<FeatureFlag> items = flags.subList(0, dto.getLimit());
+    return new FeatureFlagPage(items, items.get(items.size() - 1).getSlug());
   }
 
 }
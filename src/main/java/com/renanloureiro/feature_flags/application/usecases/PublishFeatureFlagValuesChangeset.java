@@ -0,0 +1,94 @@
+package com.renanloureiro.feature_flags.application.usecases;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.renanloureiro.feature_flags.application.dtos.ChangesetValueDTO;
+import com.renanloureiro.feature_flags.application.events.FeatureFlagChangedEvent;
+import com.renanloureiro.feature_flags.application.events.FeatureFlagsChangedEvent;
+import com.renanloureiro.feature_flags.application.exceptions.ErrorCode;
+import com.renanloureiro.feature_flags.application.exceptions.FeatureFlagNotFound;
+import com.renanloureiro.feature_flags.application.exceptions.ValidationException;
+import com.renanloureiro.feature_flags.application.repositories.FeatureFlagRepository;
+import com.renanloureiro.feature_flags.application.repositories.FeatureFlagValueRepository;
+import com.renanloureiro.feature_flags.application.services.FeatureFlagValueValidationService;
+import com.renanloureiro.feature_flags.domain.FeatureFlag;
+import com.renanloureiro.feature_flags.domain.FeatureFlagValue;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Publica valores de várias feature flags em uma única transação: ou todos os
+ * valores são gravados, ou nenhum. As flags são carregadas em uma consulta, as
+ * versões reservadas em um único comando e a invalidação dos caches é emitida
+ * uma vez para o conjunto inteiro.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+@Transactional
+public class PublishFeatureFlagValuesChangeset {
+
+  private final FeatureFlagRepository featureFlagRepository;
+  private final FeatureFlagValueRepository featureFlagValueRepository;
+  private final FeatureFlagValueValidationService validationService;
+  private final ApplicationEventPublisher eventPublisher;
+
+  public List<FeatureFlagValue> execute(List<ChangesetValueDTO> changes) {
+    Set<UUID> flagIds = new HashSet<>();
+    for (ChangesetValueDTO change : changes) {
+      if (!flagIds.add(change.getFlagId())) {
+        throw new ValidationException(ErrorCode.CHANGESET_DUPLICATED_FLAG, change.getFlagId());
+      }
+    }
+
+    Map<UUID, FeatureFlag> flags = featureFlagRepository.findAllByIdIn(flagIds).stream()
+        .collect(Collectors.toMap(FeatureFlag::getId, Function.identity()));
+    if (flags.size() != flagIds.size()) {
+      throw new FeatureFlagNotFound(changes.stream()
+          .map(ChangesetValueDTO::getFlagId)
+          .filter(flagId -> !flags.containsKey(flagId))
+          .toList());
+    }
+
+    // valida tudo antes de reservar versões para não travar contadores à toa
+    List<JsonNode> validatedValues = new ArrayList<>(changes.size());
+    for (ChangesetValueDTO change : changes) {
+      validatedValues.add(validationService.validateAndProcessValue(flags.get(change.getFlagId()), change.getValue()));
+    }
+
+    Map<UUID, Integer> versions = featureFlagValueRepository.allocateNextVersions(flagIds);
+
+    List<FeatureFlagValue> featureFlagValues = new ArrayList<>(changes.size());
+    for (int i = 0; i < changes.size(); i++) {
+      UUID flagId = changes.get(i).getFlagId();
+      featureFlagValues.add(FeatureFlagValue.builder()
+          .flag(flags.get(flagId))
+          .value(validatedValues.get(i))
+          .version(versions.get(flagId))
+          .updatedBy("api")
+          .build());
+    }
+
+    List<FeatureFlagValue> savedValues = featureFlagValueRepository.insertAll(featureFlagValues);
+    featureFlagValueRepository.markAsCurrent(savedValues.stream().map(FeatureFlagValue::getId).toList());
+    log.info("Changeset publicado com {} valores", savedValues.size());
+
+    eventPublisher.publishEvent(new FeatureFlagsChangedEvent(
+        savedValues.stream().map(FeatureFlagChangedEvent::of).toList()));
+
+    return savedValues;
+  }
+}
@@ -0,0 +1,56 @@
+package com.renanloureiro.feature_flags.application.usecases;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+
+import com.renanloureiro.feature_flags.application.repositories.FeatureFlagValueRepository;
+import com.renanloureiro.feature_flags.application.retention.RetentionPolicy;
+import com.renanloureiro.feature_flags.application.retention.RetentionResult;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Aplica a política de retenção ao histórico de valores. Partições inteiramente
+ * expiradas são descartadas primeiro; o restante é removido em lotes pequenos,
+ * cada um em sua própria transação, para não manter locks longos nem gerar
+ * picos de WAL.
+ *
+ * Apenas versões substituídas são removidas, então o estado vigente e a
+ * sincronização incremental não são afetados.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class PurgeFeatureFlagValueHistory {
+
+  private final FeatureFlagValueRepository featureFlagValueRepository;
+
+  public RetentionResult execute(RetentionPolicy policy) {
+    Instant now = Instant.now();
+    Instant olderThan = policy.getMaxAge() != null ? now.minus(policy.getMaxAge()) : now;
+
+    List<String> droppedPartitions = featureFlagValueRepository.dropExpiredPartitions(
+        policy.getKeepLastVersions(), olderThan);
+    if (!droppedPartitions.isEmpty()) {
+      log.info("Partições do histórico descartadas: {}", droppedPartitions);
+    }
+
+    long deleted = 0;
+    for (int batch = 0; batch < policy.getMaxBatchesPerRun(); batch++) {
+      int deletedInBatch = featureFlagValueRepository.deleteExpiredVersions(
+          policy.getKeepLastVersions(), olderThan, policy.getBatchSize());
+      deleted += deletedInBatch;
+      if (deletedInBatch < policy.getBatchSize()) {
+        log.info("Retenção concluída: {} versões removidas", deleted);
+        return new RetentionResult(droppedPartitions, deleted, false);
+      }
+    }
+
+    log.info("Retenção interrompida no limite de {} lotes: {} versões removidas", policy.getMaxBatchesPerRun(),
+        deleted);
+    return new RetentionResult(droppedPartitions, deleted, true);
+  }
+}
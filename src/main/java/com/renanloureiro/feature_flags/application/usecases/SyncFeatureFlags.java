@@ -0,0 +1,57 @@
+package com.renanloureiro.feature_flags.application.usecases;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.renanloureiro.feature_flags.application.repositories.FeatureFlagRepository;
+import com.renanloureiro.feature_flags.application.snapshot.FeatureFlagSnapshotEntry;
+import com.renanloureiro.feature_flags.application.sync.FeatureFlagSyncResult;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Retorna apenas as flags alteradas desde o cursor da última sincronização. A
+ * sincronização completa só acontece na primeira chamada ou quando o cursor não
+ * é reconhecido.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class SyncFeatureFlags {
+
+  private final FeatureFlagRepository featureFlagRepository;
+
+  /**
+   * As consultas compartilham o mesmo snapshot do banco, então o cursor
+   * retornado cobre exatamente as alterações enviadas. Escritas de transações
+   * ainda abertas nesse snapshot ficam acima do cursor e voltam na próxima
+   * chamada, mesmo que recebam uma revisão menor que outras já enviadas.
+   */
+  @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+  public FeatureFlagSyncResult execute(long since) {
+    long watermark = featureFlagRepository.findSyncWatermark();
+
+    if (since <= 0 || since > watermark) {
+      log.debug("Sincronização completa solicitada a partir do cursor {} (atual {})", since, watermark);
+      return new FeatureFlagSyncResult(watermark, true, sorted(featureFlagRepository.findAllWithCurrentValue()));
+    }
+
+    List<UUID> changedIds = featureFlagRepository.findIdsChangedSince(since);
+    List<FeatureFlagSnapshotEntry> entries = changedIds.isEmpty()
+        ? List.of()
+        : sorted(featureFlagRepository.findWithCurrentValueByIds(changedIds));
+    return new FeatureFlagSyncResult(watermark, false, entries);
+  }
+
+  private static List<FeatureFlagSnapshotEntry> sorted(List<FeatureFlagSnapshotEntry> entries) {
+    return entries.stream()
+        .sorted(Comparator.comparingLong(FeatureFlagSnapshotEntry::getRevision))
+        .toList();
+  }
+}
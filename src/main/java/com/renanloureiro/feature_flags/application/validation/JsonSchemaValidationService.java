@@ -1,25 +1,45 @@
 package com.renanloureiro.feature_flags.application.validation;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.fge.jsonschema.core.exceptions.ProcessingException;
 import com.github.fge.jsonschema.core.report.ProcessingReport;
 import com.github.fge.jsonschema.main.JsonSchema;
 import com.github.fge.jsonschema.main.JsonSchemaFactory;
+import com.renanloureiro.feature_flags.application.exceptions.ErrorCode;
 import com.renanloureiro.feature_flags.application.exceptions.ValidationException;
 
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.stereotype.Service;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HexFormat;
 import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 public class JsonSchemaValidationService {
 
+  static final int MAX_COMPILED_SCHEMAS = 1_000;
+
   private final JsonSchemaFactory schemaFactory = JsonSchemaFactory.byDefault();
 
+  /**
+   * Schemas já compilados, indexados pelo hash do conteúdo canônico. Compilar é
+   * a etapa mais cara da validação e as flags reutilizam poucos schemas
+   * distintos.
+   */
+  private final Cache<String, JsonSchema> compiledSchemas = Caffeine.newBuilder()
+      .maximumSize(MAX_COMPILED_SCHEMAS)
+      .build();
+
   /**
    * Valida se o schema JSON é válido
    * 
@@ -28,9 +48,9 @@ public class JsonSchemaValidationService {
    */
   public void validateSchema(JsonNode schema) {
     try {
-      schemaFactory.getJsonSchema(schema);
+      compile(schema);
     } catch (ProcessingException e) {
-      throw new ValidationException("Erro ao processar schema JSON: " + e.getMessage());
+      throw new ValidationException(ErrorCode.SCHEMA_PROCESSING_FAILED, e.getMessage());
     }
   }
 
@@ -43,17 +63,17 @@ public class JsonSchemaValidationService {
    */
   public void validateDocument(JsonNode schema, JsonNode document) {
     try {
-      JsonSchema jsonSchema = schemaFactory.getJsonSchema(schema);
+      JsonSchema jsonSchema = compile(schema);
       ProcessingReport report = jsonSchema.validate(document);
 
       if (!report.isSuccess()) {
         List<String> errors = new ArrayList<>();
         report.forEach(processingMessage -> errors.add(processingMessage.getMessage()));
-        throw new ValidationException("Documento não está de acordo com o schema: " + String.join(", ", errors));
+        throw new ValidationException(ErrorCode.DOCUMENT_SCHEMA_MISMATCH, String.join(", ", errors));
       }
 
     } catch (ProcessingException e) {
-      throw new ValidationException("Erro ao validar documento contra schema: " + e.getMessage());
+      throw new ValidationException(ErrorCode.DOCUMENT_VALIDATION_FAILED, e.getMessage());
     }
   }
 
@@ -80,35 +100,105 @@ public class JsonSchemaValidationService {
         validateListSchema(schema);
         break;
       default:
-        throw new ValidationException("Tipo de feature flag não suportado: " + featureFlagType);
+        throw new ValidationException(ErrorCode.UNSUPPORTED_FLAG_TYPE, featureFlagType);
     }
   }
 
   private void validateBooleanSchema(JsonNode schema) {
     if (!schema.has("type") || !"boolean".equals(schema.get("type").asText())) {
-      throw new ValidationException("Schema para BOOLEAN deve ser do tipo 'boolean'");
+      throw new ValidationException(ErrorCode.SCHEMA_TYPE_MISMATCH, "BOOLEAN", "boolean");
     }
   }
 
   private void validateNumberSchema(JsonNode schema) {
     if (!schema.has("type") || !"number".equals(schema.get("type").asText())) {
-      throw new ValidationException("Schema para NUMBER deve ser do tipo 'number'");
+      throw new ValidationException(ErrorCode.SCHEMA_TYPE_MISMATCH, "NUMBER", "number");
     }
   }
 
   private void validateStringSchema(JsonNode schema) {
     if (!schema.has("type") || !"string".equals(schema.get("type").asText())) {
-      throw new ValidationException("Schema para STRING deve ser do tipo 'string'");
+      throw new ValidationException(ErrorCode.SCHEMA_TYPE_MISMATCH, "STRING", "string");
     }
   }
 
   private void validateListSchema(JsonNode schema) {
     if (!schema.has("type") || !"array".equals(schema.get("type").asText())) {
-      throw new ValidationException("Schema para LIST deve ser do tipo 'array'");
+      throw new ValidationException(ErrorCode.SCHEMA_TYPE_MISMATCH, "LIST", "array");
     }
 
     if (!schema.has("items")) {
-      throw new ValidationException("Schema para LIST deve definir o tipo dos itens");
+      throw new ValidationException(ErrorCode.SCHEMA_ITEMS_TYPE_REQUIRED);
+    }
+  }
+
+  /**
+   * Schema compilado do cache. Compilações concorrentes do mesmo schema são
+   * inofensivas: a última substitui as anteriores. Falhas não são guardadas.
+   */
+  private JsonSchema compile(JsonNode schema) throws ProcessingException {
+    String key = fingerprint(schema);
+    JsonSchema compiled = compiledSchemas.getIfPresent(key);
+    if (compiled == null) {
+      compiled = schemaFactory.getJsonSchema(schema);
+      compiledSchemas.put(key, compiled);
+    }
+    return compiled;
+  }
+
+  /**
+   * SHA-256 da forma canônica do schema, com os campos em ordem alfabética: o
+   * mesmo schema com as propriedades em outra ordem usa a mesma entrada
+   */
+  static String fingerprint(JsonNode schema) {
+    MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+    update(digest, schema);
+    return HexFormat.of().formatHex(digest.digest());
+  }
+
+  private static void update(MessageDigest digest, JsonNode node) {
+    if (node.isObject()) {
+      List<String> names = new ArrayList<>(node.size());
+      node.fieldNames().forEachRemaining(names::add);
+      Collections.sort(names);
+      digest.update((byte) '{');
+      for (String name : names) {
+        update(digest, name);
+        update(digest, node.get(name));
+      }
+      digest.update((byte) '}');
+    } else if (node.isArray()) {
+      digest.update((byte) '[');
+      for (JsonNode item : node) {
+        update(digest, item);
+      }
+      digest.update((byte) ']');
+    } else if (node.isNumber()) {
+      // inteiros e decimais ficam distintos: 1.0 não é válido onde o schema
+      // exige inteiro (maxItems, minLength...)
+      digest.update((byte) (node.isIntegralNumber() ? 'i' : 'd'));
+      update(digest, node.asText());
+    } else if (node.isTextual()) {
+      digest.update((byte) 's');
+      update(digest, node.textValue());
+    } else {
+      // booleanos e null
+      digest.update((byte) 'l');
+      update(digest, node.asText());
     }
   }
-}
\ No newline at end of file
+
+  /**
+   * Texto prefixado pelo tamanho, para que a concatenação não seja ambígua
+   */
+  private static void update(MessageDigest digest, String text) {
+    byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+    digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(bytes.length).array());
+    digest.update(bytes);
+  }
+}
@@ -1,5 +1,6 @@
 package com.renanloureiro.feature_flags.domain;
 
+import java.io.Serializable;
 import java.time.LocalDateTime;
 
 import java.util.UUID;
@@ -19,10 +20,15 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 
 @Data
 @Builder
@@ -30,7 +36,10 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @Entity
 @Table(name = "feature_flags")
-public class FeatureFlag {
+public class FeatureFlag implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
   @Id
   @GeneratedValue(strategy = GenerationType.UUID)
   private UUID id;
@@ -60,6 +69,36 @@ public class FeatureFlag {
   @Column(name = "updated_at", nullable = false)
   private LocalDateTime updatedAt;
 
+  /**
+   * Revisão global atribuída pelo banco a cada escrita, usada na sincronização
+   * incremental. As inserções são nativas e a recebem pelo {@code RETURNING}
+   */
+  @Column(name = "revision", insertable = false, updatable = false)
+  private Long revision;
+
+  /**
+   * Validador dos valores, compilado na primeira validação e refeito quando o
+   * tipo ou o schema são substituídos. Não é persistido nem serializado.
+   */
+  @Getter(AccessLevel.NONE)
+  @Setter(AccessLevel.NONE)
+  @ToString.Exclude
+  @EqualsAndHashCode.Exclude
+  private transient FeatureFlagValueValidator valueValidator;
+
+  /**
+   * Validador dos valores desta flag. Compilações concorrentes são inofensivas:
+   * o validador é imutável e equivalente.
+   */
+  public FeatureFlagValueValidator valueValidator() {
+    FeatureFlagValueValidator validator = valueValidator;
+    if (validator == null || !validator.compiledFrom(type, schema)) {
+      validator = FeatureFlagValueValidator.compile(type, schema);
+      valueValidator = validator;
+    }
+    return validator;
+  }
+
   public static String createSlugByName(String name) {
     if (name == null || name.trim().isEmpty()) {
       return "";
@@ -0,0 +1,41 @@
+package com.renanloureiro.feature_flags.domain;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.OneToOne;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Ponteiro para o valor vigente (maior versão publicada) de uma feature flag
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "feature_flag_current_values")
+public class FeatureFlagCurrentValue implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  @Id
+  @Column(name = "flag_id")
+  private UUID flagId;
+
+  @OneToOne(fetch = FetchType.LAZY)
+  @JoinColumn(name = "value_id", nullable = false, unique = true)
+  private FeatureFlagValue value;
+
+  @Column(nullable = false)
+  private Integer version;
+}
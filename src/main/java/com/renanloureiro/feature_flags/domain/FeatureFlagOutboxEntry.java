@@ -0,0 +1,72 @@
+package com.renanloureiro.feature_flags.domain;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.hibernate.annotations.CreationTimestamp;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Alteração de uma feature flag registrada na mesma transação que a produziu e
+ * ainda não entregue aos listeners
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "feature_flag_outbox")
+public class FeatureFlagOutboxEntry implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Ordem de entrega; sorteado um a um, sem reserva de blocos, para seguir a
+   * ordem de commit das alterações de cada flag
+   */
+  @Id
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "feature_flag_outbox_seq")
+  @SequenceGenerator(name = "feature_flag_outbox_seq", sequenceName = "feature_flag_outbox_seq", allocationSize = 1)
+  private Long id;
+
+  @Column(name = "flag_id", nullable = false)
+  private UUID flagId;
+
+  @Column(nullable = false)
+  private String slug;
+
+  /**
+   * Valor publicado na alteração, nulo quando apenas a definição mudou
+   */
+  @Column(name = "value_id")
+  private UUID valueId;
+
+  /**
+   * Instância que produziu a alteração e já a aplicou localmente
+   */
+  @Column(name = "origin_node_id", nullable = false)
+  private String originNodeId;
+
+  /**
+   * Entregas que falharam com a alteração isolada no lote
+   */
+  @Builder.Default
+  @Column(nullable = false)
+  private int attempts = 0;
+
+  @CreationTimestamp
+  @Column(name = "created_at", nullable = false, updatable = false)
+  private LocalDateTime createdAt;
+}
@@ -1,5 +1,6 @@
 package com.renanloureiro.feature_flags.domain;
 
+import java.io.Serializable;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
@@ -19,7 +20,6 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
-import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -30,10 +30,13 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "feature_flag_values", uniqueConstraints = {
-    @UniqueConstraint(columnNames = { "flag_id", "version" })
-})
-public class FeatureFlagValue {
+// a tabela é particionada por created_at, então (flag_id, version) não tem
+// restrição única; a unicidade vem de feature_flag_version_counters
+@Table(name = "feature_flag_values")
+public class FeatureFlagValue implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
   @Id
   @GeneratedValue(strategy = GenerationType.UUID)
   private UUID id;
@@ -61,5 +64,12 @@ public class FeatureFlagValue {
   @Column(name = "created_at", nullable = false)
   private LocalDateTime createdAt;
 
+  /**
+   * Revisão global atribuída pelo banco a cada escrita, usada na sincronização
+   * incremental. As inserções são nativas e a recebem pelo {@code RETURNING}
+   */
+  @Column(name = "revision", insertable = false, updatable = false)
+  private Long revision;
+
   // Getters e setters podem ser gerados conforme necessário
 }
\ No newline at end of file
@@ -0,0 +1,431 @@
+package com.renanloureiro.feature_flags.domain;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import com.renanloureiro.feature_flags.domain.FeatureFlagValueViolation.Code;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Regras de valor de uma feature flag extraídas do schema uma única vez:
+ * limites em primitivos, {@code enum} em um {@link HashSet} e {@code pattern}
+ * já compilado. Imutável, pode ser compartilhado entre threads.
+ *
+ * A validação de um valor válido não aloca (exceto o {@code Matcher} do
+ * pattern e o conjunto de {@code uniqueItems}); a mensagem só é montada quando
+ * há violação.
+ */
+public final class FeatureFlagValueValidator {
+
+  /**
+   * Leituras de caracteres permitidas em um match de pattern: um mínimo fixo
+   * mais uma parcela por caractere do valor. Um pattern com backtracking
+   * catastrófico esgota o orçamento em vez de prender a thread.
+   */
+  static final long PATTERN_BASE_BUDGET = 100_000;
+
+  static final long PATTERN_BUDGET_PER_CHAR = 1_000;
+
+  private enum ItemType {
+    ANY, STRING, NUMBER, BOOLEAN;
+
+    private final String label = name().toLowerCase(Locale.ROOT);
+  }
+
+  private final FeatureFlagType type;
+
+  /**
+   * Schema de onde as regras foram extraídas, usado para detectar alterações
+   */
+  private final JsonNode schema;
+
+  private final double minimum;
+
+  private final double maximum;
+
+  private final boolean exclusiveMinimum;
+
+  private final boolean exclusiveMaximum;
+
+  private final int minLength;
+
+  private final int maxLength;
+
+  private final Set<String> enumValues;
+
+  private final Pattern pattern;
+
+  /**
+   * {@code pattern} presente no schema mas que não compila
+   */
+  private final String invalidPattern;
+
+  private final int minItems;
+
+  private final int maxItems;
+
+  private final ItemType itemType;
+
+  private final boolean uniqueItems;
+
+  private FeatureFlagValueValidator(FeatureFlagType type, JsonNode schema) {
+    this.type = type;
+    this.schema = schema;
+
+    boolean constrained = schema != null;
+    boolean number = constrained && type == FeatureFlagType.NUMBER;
+    double lower = number && schema.has("minimum") ? schema.get("minimum").asDouble() : Double.NEGATIVE_INFINITY;
+    double upper = number && schema.has("maximum") ? schema.get("maximum").asDouble() : Double.POSITIVE_INFINITY;
+    JsonNode exclusiveLower = number ? schema.get("exclusiveMinimum") : null;
+    JsonNode exclusiveUpper = number ? schema.get("exclusiveMaximum") : null;
+
+    // draft 4 usa booleanos que tornam minimum/maximum exclusivos; a partir do
+    // draft 6 o próprio limite exclusivo é um número
+    if (exclusiveLower != null && exclusiveLower.isNumber()) {
+      lower = Math.max(lower, exclusiveLower.asDouble());
+      this.exclusiveMinimum = lower == exclusiveLower.asDouble();
+    } else {
+      this.exclusiveMinimum = exclusiveLower != null && exclusiveLower.asBoolean();
+    }
+    if (exclusiveUpper != null && exclusiveUpper.isNumber()) {
+      upper = Math.min(upper, exclusiveUpper.asDouble());
+      this.exclusiveMaximum = upper == exclusiveUpper.asDouble();
+    } else {
+      this.exclusiveMaximum = exclusiveUpper != null && exclusiveUpper.asBoolean();
+    }
+    this.minimum = lower;
+    this.maximum = upper;
+
+    boolean string = constrained && type == FeatureFlagType.STRING;
+    this.minLength = string && schema.has("minLength") ? schema.get("minLength").asInt() : 0;
+    this.maxLength = string && schema.has("maxLength") ? schema.get("maxLength").asInt() : Integer.MAX_VALUE;
+    this.enumValues = string && schema.has("enum") ? enumValues(schema.get("enum")) : null;
+
+    Pattern compiled = null;
+    String invalid = null;
+    if (string && schema.has("pattern")) {
+      try {
+        compiled = Pattern.compile(schema.get("pattern").asText());
+      } catch (PatternSyntaxException e) {
+        invalid = schema.get("pattern").asText();
+      }
+    }
+    this.pattern = compiled;
+    this.invalidPattern = invalid;
+
+    boolean list = constrained && type == FeatureFlagType.LIST;
+    this.minItems = list && schema.has("minItems") ? schema.get("minItems").asInt() : 0;
+    this.maxItems = list && schema.has("maxItems") ? schema.get("maxItems").asInt() : Integer.MAX_VALUE;
+    this.itemType = list && schema.has("items") && schema.get("items").has("type")
+        ? itemType(schema.get("items").get("type").asText())
+        : ItemType.ANY;
+    this.uniqueItems = list && schema.path("uniqueItems").asBoolean(false);
+  }
+
+  public static FeatureFlagValueValidator compile(FeatureFlagType type, JsonNode schema) {
+    return new FeatureFlagValueValidator(type, schema);
+  }
+
+  /**
+   * Indica se o validador foi compilado a partir deste tipo e desta instância
+   * de schema
+   */
+  public boolean compiledFrom(FeatureFlagType type, JsonNode schema) {
+    return this.type == type && this.schema == schema;
+  }
+
+  /**
+   * Retorna a primeira regra violada pelo valor, ou nulo quando o valor é
+   * válido. O nome da flag é usado apenas na mensagem.
+   */
+  public FeatureFlagValueViolation violationOf(JsonNode value, String flagName) {
+    return switch (type) {
+      case BOOLEAN -> value.isBoolean() ? null : violation(Code.VALUE_TYPE_MISMATCH, "boolean", flagName);
+      case NUMBER -> value.isNumber() ? numberViolation(value.asDouble(), flagName)
+          : violation(Code.VALUE_TYPE_MISMATCH, "number", flagName);
+      case STRING -> value.isTextual() ? stringViolation(value.textValue(), flagName)
+          : violation(Code.VALUE_TYPE_MISMATCH, "string", flagName);
+      case LIST -> value.isArray() ? listViolation(value, flagName)
+          : violation(Code.VALUE_TYPE_MISMATCH, "array", flagName);
+    };
+  }
+
+  private FeatureFlagValueViolation numberViolation(double value, String flagName) {
+    if (value < minimum) {
+      return violation(Code.VALUE_BELOW_MINIMUM, value, minimum, flagName);
+    }
+    if (exclusiveMinimum && value == minimum) {
+      return violation(Code.VALUE_NOT_ABOVE_EXCLUSIVE_MINIMUM, value, minimum, flagName);
+    }
+    if (value > maximum) {
+      return violation(Code.VALUE_ABOVE_MAXIMUM, value, maximum, flagName);
+    }
+    if (exclusiveMaximum && value == maximum) {
+      return violation(Code.VALUE_NOT_BELOW_EXCLUSIVE_MAXIMUM, value, maximum, flagName);
+    }
+    return null;
+  }
+
+  private FeatureFlagValueViolation stringViolation(String value, String flagName) {
+    if (value.length() < minLength) {
+      return violation(Code.VALUE_TOO_SHORT, minLength, flagName);
+    }
+    if (value.length() > maxLength) {
+      return violation(Code.VALUE_TOO_LONG, maxLength, flagName);
+    }
+    if (enumValues != null && !enumValues.contains(value)) {
+      return violation(Code.VALUE_NOT_ALLOWED, value, flagName);
+    }
+    if (invalidPattern != null) {
+      return violation(Code.SCHEMA_PATTERN_INVALID, invalidPattern, flagName);
+    }
+    if (pattern != null) {
+      return patternViolation(value, flagName);
+    }
+    return null;
+  }
+
+  /**
+   * Como no JSON Schema, o pattern não é ancorado: basta ocorrer no valor
+   */
+  private FeatureFlagValueViolation patternViolation(String value, String flagName) {
+    long budget = PATTERN_BASE_BUDGET + value.length() * PATTERN_BUDGET_PER_CHAR;
+    try {
+      if (pattern.matcher(new BudgetedCharSequence(value, budget)).find()) {
+        return null;
+      }
+    } catch (PatternBudgetExceeded e) {
+      return violation(Code.VALUE_PATTERN_TOO_EXPENSIVE, pattern.pattern(), flagName);
+    }
+    return violation(Code.VALUE_PATTERN_MISMATCH, value, pattern.pattern(), flagName);
+  }
+
+  private FeatureFlagValueViolation listViolation(JsonNode value, String flagName) {
+    int size = value.size();
+    if (size < minItems) {
+      return violation(Code.VALUE_TOO_FEW_ITEMS, minItems, flagName);
+    }
+    if (size > maxItems) {
+      return violation(Code.VALUE_TOO_MANY_ITEMS, maxItems, flagName);
+    }
+    if (itemType != ItemType.ANY) {
+      for (int i = 0; i < size; i++) {
+        if (!matches(value.get(i))) {
+          return violation(Code.VALUE_ITEM_TYPE_MISMATCH, i, itemType.label, flagName);
+        }
+      }
+    }
+    if (uniqueItems && size > 1) {
+      return uniqueItemsViolation(value, flagName);
+    }
+    return null;
+  }
+
+  /**
+   * Verifica repetições em O(n) com um {@link HashSet}, comparando os itens
+   * pela igualdade do JSON Schema (1 e 1.0 são o mesmo número)
+   */
+  private FeatureFlagValueViolation uniqueItemsViolation(JsonNode value, String flagName) {
+    int size = value.size();
+    Set<Object> seen = new HashSet<>(size * 4 / 3 + 1);
+    for (int i = 0; i < size; i++) {
+      if (!seen.add(uniquenessKey(value.get(i)))) {
+        return violation(Code.VALUE_DUPLICATED_ITEM, i, flagName);
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Valida uma lista enquanto ela é lida, sem montar a árvore. O parser deve
+   * estar no início do array; cada item aceito é copiado para {@code copy}. A
+   * leitura para na primeira violação, então uma lista acima de
+   * {@code maxItems} não é lida além do item excedente. As repetições são
+   * registradas em um {@link UniqueItemSet}, sem um objeto por item. Retorna a
+   * regra violada ou nulo quando a lista é válida.
+   */
+  public FeatureFlagValueViolation streamListViolation(JsonParser parser, JsonGenerator copy, String flagName) throws IOException {
+    UniqueItemSet seen = uniqueItems ? new UniqueItemSet() : null;
+    int size = 0;
+    copy.writeStartArray();
+
+    JsonToken token;
+    while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+      if (size == maxItems) {
+        return violation(Code.VALUE_TOO_MANY_ITEMS, maxItems, flagName);
+      }
+      if (!matches(token)) {
+        return violation(Code.VALUE_ITEM_TYPE_MISMATCH, size, itemType.label, flagName);
+      }
+
+      if (seen == null) {
+        copy.copyCurrentStructure(parser);
+      } else if (token.isStructStart()) {
+        JsonNode item = parser.readValueAsTree();
+        if (!seen.addStructure(item)) {
+          return violation(Code.VALUE_DUPLICATED_ITEM, size, flagName);
+        }
+        copy.writeTree(item);
+      } else {
+        if (!addScalar(seen, parser, token)) {
+          return violation(Code.VALUE_DUPLICATED_ITEM, size, flagName);
+        }
+        copy.copyCurrentEvent(parser);
+      }
+      size++;
+    }
+
+    copy.writeEndArray();
+    if (size < minItems) {
+      return violation(Code.VALUE_TOO_FEW_ITEMS, minItems, flagName);
+    }
+    return null;
+  }
+
+  private static FeatureFlagValueViolation violation(Code code, Object... arguments) {
+    return new FeatureFlagValueViolation(code, arguments);
+  }
+
+  private boolean matches(JsonToken token) {
+    return switch (itemType) {
+      case STRING -> token == JsonToken.VALUE_STRING;
+      case NUMBER -> token.isNumeric();
+      case BOOLEAN -> token.isBoolean();
+      case ANY -> true;
+    };
+  }
+
+  private boolean matches(JsonNode item) {
+    return switch (itemType) {
+      case STRING -> item.isTextual();
+      case NUMBER -> item.isNumber();
+      case BOOLEAN -> item.isBoolean();
+      case ANY -> true;
+    };
+  }
+
+  /**
+   * Chave de comparação de um item: números inteiros (inclusive 1.0) viram
+   * {@code Long}, os demais números {@code Double}; textos e booleanos seus
+   * valores e estruturas o próprio nó
+   */
+  private static Object uniquenessKey(JsonNode item) {
+    if (item.isTextual()) {
+      return item.textValue();
+    }
+    if (item.isNumber()) {
+      return item.isIntegralNumber() && item.canConvertToLong() ? item.longValue() : numberKey(item.doubleValue());
+    }
+    if (item.isBoolean()) {
+      return item.booleanValue();
+    }
+    return item;
+  }
+
+  /**
+   * Registra o token escalar corrente com a mesma igualdade de
+   * {@link #uniquenessKey(JsonNode)}, lendo o texto direto do buffer do parser
+   */
+  private static boolean addScalar(UniqueItemSet seen, JsonParser parser, JsonToken token) throws IOException {
+    return switch (token) {
+      case VALUE_STRING -> seen.addText(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+      case VALUE_NUMBER_INT -> parser.getNumberType() == JsonParser.NumberType.BIG_INTEGER
+          ? seen.addNumber(parser.getDoubleValue())
+          : seen.addIntegral(parser.getLongValue());
+      case VALUE_NUMBER_FLOAT -> seen.addNumber(parser.getDoubleValue());
+      case VALUE_TRUE -> seen.addBoolean(true);
+      case VALUE_FALSE -> seen.addBoolean(false);
+      default -> seen.addNull();
+    };
+  }
+
+  private static Object numberKey(double value) {
+    if (isLongValue(value)) {
+      return (long) value;
+    }
+    return value;
+  }
+
+  /**
+   * Indica se o número é inteiro e cabe em um {@code long} sem arredondamento
+   */
+  static boolean isLongValue(double value) {
+    return value == Math.rint(value) && value >= -0x1p63 && value < 0x1p63;
+  }
+
+  private static Set<String> enumValues(JsonNode values) {
+    Set<String> allowed = new HashSet<>(values.size() * 2);
+    for (JsonNode allowedValue : values) {
+      allowed.add(allowedValue.asText());
+    }
+    return allowed;
+  }
+
+  /**
+   * Tipos de item não reconhecidos aceitam qualquer valor
+   */
+  private static ItemType itemType(String type) {
+    return switch (type) {
+      case "string" -> ItemType.STRING;
+      case "number" -> ItemType.NUMBER;
+      case "boolean" -> ItemType.BOOLEAN;
+      default -> ItemType.ANY;
+    };
+  }
+
+  private static final class PatternBudgetExceeded extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private PatternBudgetExceeded() {
+      super(null, null, false, false);
+    }
+  }
+
+  /**
+   * Texto que conta as leituras de caracteres feitas pelo {@code Matcher} e
+   * interrompe o match ao esgotar o orçamento
+   */
+  private static final class BudgetedCharSequence implements CharSequence {
+
+    private final String value;
+
+    private long remaining;
+
+    private BudgetedCharSequence(String value, long budget) {
+      this.value = value;
+      this.remaining = budget;
+    }
+
+    @Override
+    public char charAt(int index) {
+      if (--remaining < 0) {
+        throw new PatternBudgetExceeded();
+      }
+      return value.charAt(index);
+    }
+
+    @Override
+    public int length() {
+      return value.length();
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+      return value.subSequence(start, end);
+    }
+
+    @Override
+    public String toString() {
+      return value;
+    }
+  }
+}
@@ -0,0 +1,66 @@
+package com.renanloureiro.feature_flags.domain;
+
+/**
+ * Regra de valor violada, com o código e os argumentos da mensagem. A mensagem
+ * só é formatada quando lida, então quem precisa apenas do código não paga o
+ * {@code String.format}.
+ */
+public final class FeatureFlagValueViolation {
+
+  public enum Code {
+    VALUE_TYPE_MISMATCH("Valor deve ser do tipo %s para feature flag '%s'"),
+    VALUE_BELOW_MINIMUM("Valor %.2f é menor que o mínimo permitido (%.2f) para feature flag '%s'"),
+    VALUE_NOT_ABOVE_EXCLUSIVE_MINIMUM("Valor %.2f deve ser maior que %.2f para feature flag '%s'"),
+    VALUE_ABOVE_MAXIMUM("Valor %.2f é maior que o máximo permitido (%.2f) para feature flag '%s'"),
+    VALUE_NOT_BELOW_EXCLUSIVE_MAXIMUM("Valor %.2f deve ser menor que %.2f para feature flag '%s'"),
+    VALUE_TOO_SHORT("String deve ter pelo menos %d caracteres para feature flag '%s'"),
+    VALUE_TOO_LONG("String deve ter no máximo %d caracteres para feature flag '%s'"),
+    VALUE_NOT_ALLOWED("Valor '%s' não está entre os valores permitidos para feature flag '%s'"),
+    SCHEMA_PATTERN_INVALID("Pattern '%s' do schema da feature flag '%s' é inválido"),
+    VALUE_PATTERN_TOO_EXPENSIVE("Valor excedeu o limite de processamento do pattern '%s' da feature flag '%s'"),
+    VALUE_PATTERN_MISMATCH("Valor '%s' não corresponde ao pattern '%s' da feature flag '%s'"),
+    VALUE_TOO_FEW_ITEMS("Array deve ter pelo menos %d itens para feature flag '%s'"),
+    VALUE_TOO_MANY_ITEMS("Array deve ter no máximo %d itens para feature flag '%s'"),
+    VALUE_ITEM_TYPE_MISMATCH("Item na posição %d deve ser do tipo %s para feature flag '%s'"),
+    VALUE_DUPLICATED_ITEM("Item na posição %d é repetido e a feature flag '%s' exige itens únicos");
+
+    private final String template;
+
+    Code(String template) {
+      this.template = template;
+    }
+
+    public String getTemplate() {
+      return template;
+    }
+  }
+
+  private final Code code;
+
+  private final Object[] arguments;
+
+  FeatureFlagValueViolation(Code code, Object... arguments) {
+    this.code = code;
+    this.arguments = arguments;
+  }
+
+  public Code getCode() {
+    return code;
+  }
+
+  /**
+   * Argumentos na ordem do template do código; não deve ser alterado
+   */
+  public Object[] getArguments() {
+    return arguments;
+  }
+
+  public String getMessage() {
+    return String.format(code.getTemplate(), arguments);
+  }
+
+  @Override
+  public String toString() {
+    return code + ": " + getMessage();
+  }
+}
@@ -0,0 +1,245 @@
+package com.renanloureiro.feature_flags.domain;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Itens já vistos de uma lista lida em stream, com a igualdade do JSON Schema.
+ * Não guarda um objeto por item: os textos ficam copiados em um único
+ * {@code char[]} e os números em tabelas de {@code long}, ambos com
+ * endereçamento aberto. Estruturas, raras em listas de flags, ficam em um
+ * {@link HashSet}.
+ *
+ * Se uma sequência de sondagem dos textos crescer demais (hashes degenerados
+ * ou forjados), os textos passam para um {@link HashSet}, cujo pior caso é
+ * logarítmico.
+ */
+final class UniqueItemSet {
+
+  private static final int MAX_PROBES = 64;
+
+  /**
+   * Semente sorteada por processo, para que colisões não possam ser
+   * preparadas com antecedência
+   */
+  private static final int SEED = ThreadLocalRandom.current().nextInt();
+
+  private LongSet integrals;
+
+  private LongSet fractionals;
+
+  private char[] arena;
+
+  private int arenaSize;
+
+  private int[] starts;
+
+  private int[] hashes;
+
+  /**
+   * Índice do texto mais um em cada posição da tabela; zero indica vazia
+   */
+  private int[] slots;
+
+  private int texts;
+
+  private Set<String> fallbackTexts;
+
+  private Set<JsonNode> structures;
+
+  private boolean seenTrue;
+
+  private boolean seenFalse;
+
+  private boolean seenNull;
+
+  boolean addText(char[] text, int offset, int length) {
+    if (fallbackTexts != null) {
+      return fallbackTexts.add(new String(text, offset, length));
+    }
+    if (slots == null) {
+      arena = new char[1024];
+      starts = new int[65];
+      hashes = new int[64];
+      slots = new int[128];
+    }
+
+    int hash = hash(text, offset, length);
+    int mask = slots.length - 1;
+    int probes = 0;
+    for (int i = hash & mask;; i = (i + 1) & mask) {
+      int item = slots[i] - 1;
+      if (item < 0) {
+        slots[i] = append(text, offset, length, hash) + 1;
+        if (texts * 2 > slots.length) {
+          rehash();
+        }
+        return true;
+      }
+      if (hashes[item] == hash && sameText(item, text, offset, length)) {
+        return false;
+      }
+      if (++probes == MAX_PROBES) {
+        moveTextsToFallback();
+        return fallbackTexts.add(new String(text, offset, length));
+      }
+    }
+  }
+
+  boolean addNumber(double value) {
+    if (FeatureFlagValueValidator.isLongValue(value)) {
+      return addIntegral((long) value);
+    }
+    if (fractionals == null) {
+      fractionals = new LongSet();
+    }
+    return fractionals.add(Double.doubleToLongBits(value));
+  }
+
+  boolean addIntegral(long value) {
+    if (integrals == null) {
+      integrals = new LongSet();
+    }
+    return integrals.add(value);
+  }
+
+  boolean addBoolean(boolean value) {
+    boolean seen = value ? seenTrue : seenFalse;
+    if (value) {
+      seenTrue = true;
+    } else {
+      seenFalse = true;
+    }
+    return !seen;
+  }
+
+  boolean addNull() {
+    boolean seen = seenNull;
+    seenNull = true;
+    return !seen;
+  }
+
+  boolean addStructure(JsonNode value) {
+    if (structures == null) {
+      structures = new HashSet<>();
+    }
+    return structures.add(value);
+  }
+
+  private int append(char[] text, int offset, int length, int hash) {
+    if (arenaSize + length > arena.length) {
+      arena = Arrays.copyOf(arena, Math.max(arena.length * 2, arenaSize + length));
+    }
+    if (texts + 1 == hashes.length) {
+      hashes = Arrays.copyOf(hashes, hashes.length * 2);
+      starts = Arrays.copyOf(starts, starts.length * 2);
+    }
+    System.arraycopy(text, offset, arena, arenaSize, length);
+    starts[texts] = arenaSize;
+    hashes[texts] = hash;
+    arenaSize += length;
+    starts[texts + 1] = arenaSize;
+    return texts++;
+  }
+
+  private boolean sameText(int item, char[] text, int offset, int length) {
+    int start = starts[item];
+    return starts[item + 1] - start == length
+        && Arrays.equals(arena, start, start + length, text, offset, offset + length);
+  }
+
+  private void rehash() {
+    int[] resized = new int[slots.length * 2];
+    int mask = resized.length - 1;
+    for (int item = 0; item < texts; item++) {
+      int i = hashes[item] & mask;
+      while (resized[i] != 0) {
+        i = (i + 1) & mask;
+      }
+      resized[i] = item + 1;
+    }
+    slots = resized;
+  }
+
+  private void moveTextsToFallback() {
+    fallbackTexts = new HashSet<>(texts * 2);
+    for (int item = 0; item < texts; item++) {
+      fallbackTexts.add(new String(arena, starts[item], starts[item + 1] - starts[item]));
+    }
+    arena = null;
+    starts = null;
+    hashes = null;
+    slots = null;
+  }
+
+  private static int hash(char[] text, int offset, int length) {
+    int hash = SEED ^ length;
+    for (int i = offset; i < offset + length; i++) {
+      hash = Integer.rotateLeft((hash ^ text[i]) * 0x9E3779B1, 13);
+    }
+    return mix((long) hash);
+  }
+
+  /**
+   * Finalizador do MurmurHash3, espalha os bits antes de mascarar o índice
+   */
+  private static int mix(long value) {
+    value ^= value >>> 33;
+    value *= 0xff51afd7ed558ccdL;
+    value ^= value >>> 33;
+    value *= 0xc4ceb9fe1a85ec53L;
+    value ^= value >>> 33;
+    return (int) value;
+  }
+
+  /**
+   * Conjunto de {@code long} com endereçamento aberto
+   */
+  private static final class LongSet {
+
+    private long[] keys = new long[64];
+
+    private boolean[] used = new boolean[64];
+
+    private int size;
+
+    private boolean add(long key) {
+      int mask = keys.length - 1;
+      for (int i = mix(key ^ SEED) & mask;; i = (i + 1) & mask) {
+        if (!used[i]) {
+          used[i] = true;
+          keys[i] = key;
+          if (++size * 2 > keys.length) {
+            rehash();
+          }
+          return true;
+        }
+        if (keys[i] == key) {
+          return false;
+        }
+      }
+    }
+
+    private void rehash() {
+      long[] previousKeys = keys;
+      boolean[] previousUsed = used;
+      keys = new long[previousKeys.length * 2];
+      used = new boolean[keys.length];
+      int mask = keys.length - 1;
+      for (int j = 0; j < previousKeys.length; j++) {
+        if (previousUsed[j]) {
+          int i = mix(previousKeys[j] ^ SEED) & mask;
+          while (used[i]) {
+            i = (i + 1) & mask;
+          }
+          used[i] = true;
+          keys[i] = previousKeys[j];
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,22 @@
+package com.renanloureiro.feature_flags.infrastructure.cache;
+
+import java.io.Serializable;
+import java.util.List;
+
+import lombok.Value;
+
+/**
+ * Mensagem única que remove várias chaves de um mesmo cache local, usada
+ * quando uma escrita altera diversas entradas de uma vez
+ */
+@Value
+public class CacheBatchInvalidationMessage implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  String originNodeId;
+
+  String cacheName;
+
+  List<Object> keys;
+}
@@ -0,0 +1,21 @@
+package com.renanloureiro.feature_flags.infrastructure.cache;
+
+import java.io.Serializable;
+
+import lombok.Value;
+
+/**
+ * Mensagem trocada entre as instâncias para remover entradas do cache local.
+ * Uma chave nula indica que o cache inteiro deve ser limpo.
+ */
+@Value
+public class CacheInvalidationMessage implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  String originNodeId;
+
+  String cacheName;
+
+  Object key;
+}
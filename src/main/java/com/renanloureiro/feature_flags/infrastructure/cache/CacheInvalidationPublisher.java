@@ -0,0 +1,18 @@
+package com.renanloureiro.feature_flags.infrastructure.cache;
+
+import java.util.Collection;
+
+/**
+ * Propaga remoções de cache para as demais instâncias da aplicação
+ */
+public interface CacheInvalidationPublisher {
+
+  void publishEvict(String cacheName, Object key);
+
+  /**
+   * Propaga a remoção de várias chaves em uma única mensagem
+   */
+  void publishEvictAll(String cacheName, Collection<?> keys);
+
+  void publishClear(String cacheName);
+}
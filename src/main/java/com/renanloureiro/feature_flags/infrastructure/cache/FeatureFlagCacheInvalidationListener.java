@@ -0,0 +1,62 @@
+package com.renanloureiro.feature_flags.infrastructure.cache;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.renanloureiro.feature_flags.application.cache.CacheNames;
+import com.renanloureiro.feature_flags.application.events.FeatureFlagChangedEvent;
+import com.renanloureiro.feature_flags.application.events.FeatureFlagsChangedEvent;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Remove dos caches as entradas de uma feature flag alterada. Executa após o
+ * commit para que nenhuma leitura concorrente repopule o cache com dados ainda
+ * não confirmados.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class FeatureFlagCacheInvalidationListener {
+
+  private final CacheManager cacheManager;
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onFeatureFlagChanged(FeatureFlagChangedEvent event) {
+    log.debug("Evicting cache entries for feature flag: {}", event.getSlug());
+
+    evict(CacheNames.FEATURE_FLAGS_BY_ID, event.getFlagId());
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onFeatureFlagsChanged(FeatureFlagsChangedEvent event) {
+    log.debug("Evicting cache entries for {} feature flags", event.getChanges().size());
+
+    List<UUID> flagIds = event.getChanges().stream()
+        .map(FeatureFlagChangedEvent::getFlagId)
+        .distinct()
+        .toList();
+
+    Cache cache = cacheManager.getCache(CacheNames.FEATURE_FLAGS_BY_ID);
+    if (cache instanceof TwoLevelCache twoLevelCache) {
+      // uma única mensagem de invalidação para o conjunto inteiro
+      twoLevelCache.evictAll(flagIds);
+    } else if (cache != null) {
+      flagIds.forEach(cache::evict);
+    }
+  }
+
+  private void evict(String cacheName, Object key) {
+    Cache cache = cacheManager.getCache(cacheName);
+    if (cache != null && key != null) {
+      cache.evict(key);
+    }
+  }
+}
@@ -0,0 +1,65 @@
+package com.renanloureiro.feature_flags.infrastructure.cache;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Recebe as invalidações publicadas pelas outras instâncias e remove as
+ * entradas correspondentes apenas do cache local (L1)
+ */
+@Slf4j
+public class RedisCacheInvalidationListener implements MessageListener {
+
+  private final TwoLevelCacheManager cacheManager;
+
+  private final RedisSerializer<Object> serializer;
+
+  private final String nodeId;
+
+  public RedisCacheInvalidationListener(TwoLevelCacheManager cacheManager, RedisSerializer<Object> serializer,
+      String nodeId) {
+    this.cacheManager = cacheManager;
+    this.serializer = serializer;
+    this.nodeId = nodeId;
+  }
+
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    Object payload = serializer.deserialize(message.getBody());
+    if (payload instanceof CacheBatchInvalidationMessage batch) {
+      onBatchInvalidation(batch);
+      return;
+    }
+
+    if (!(payload instanceof CacheInvalidationMessage invalidation)) {
+      return;
+    }
+
+    if (nodeId.equals(invalidation.getOriginNodeId())) {
+      return;
+    }
+
+    log.debug("Received cache invalidation for {}::{}", invalidation.getCacheName(), invalidation.getKey());
+
+    TwoLevelCache cache = cacheManager.getCache(invalidation.getCacheName());
+    if (invalidation.getKey() == null) {
+      cache.clearLocal();
+    } else {
+      cache.evictLocal(invalidation.getKey());
+    }
+  }
+
+  private void onBatchInvalidation(CacheBatchInvalidationMessage batch) {
+    if (nodeId.equals(batch.getOriginNodeId())) {
+      return;
+    }
+
+    log.debug("Received cache invalidation for {} keys of {}", batch.getKeys().size(), batch.getCacheName());
+
+    TwoLevelCache cache = cacheManager.getCache(batch.getCacheName());
+    batch.getKeys().forEach(cache::evictLocal);
+  }
+}
@@ -0,0 +1,58 @@
+package com.renanloureiro.feature_flags.infrastructure.cache;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.redis.core.RedisTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Publica invalidações de cache em um canal Redis pub/sub
+ */
+@Slf4j
+public class RedisCacheInvalidationPublisher implements CacheInvalidationPublisher {
+
+  private final RedisTemplate<String, Object> redisTemplate;
+
+  private final String channel;
+
+  private final String nodeId;
+
+  public RedisCacheInvalidationPublisher(RedisTemplate<String, Object> redisTemplate, String channel,
+      String nodeId) {
+    this.redisTemplate = redisTemplate;
+    this.channel = channel;
+    this.nodeId = nodeId;
+  }
+
+  @Override
+  public void publishEvict(String cacheName, Object key) {
+    publish(new CacheInvalidationMessage(nodeId, cacheName, key));
+  }
+
+  @Override
+  public void publishEvictAll(String cacheName, Collection<?> keys) {
+    CacheBatchInvalidationMessage message = new CacheBatchInvalidationMessage(nodeId, cacheName, List.copyOf(keys));
+    try {
+      redisTemplate.convertAndSend(channel, message);
+    } catch (RuntimeException e) {
+      log.warn("Failed to publish cache invalidation for {} keys of {}: {}",
+          keys.size(), cacheName, e.getMessage());
+    }
+  }
+
+  @Override
+  public void publishClear(String cacheName) {
+    publish(new CacheInvalidationMessage(nodeId, cacheName, null));
+  }
+
+  private void publish(CacheInvalidationMessage message) {
+    try {
+      redisTemplate.convertAndSend(channel, message);
+    } catch (RuntimeException e) {
+      log.warn("Failed to publish cache invalidation for {}::{}: {}",
+          message.getCacheName(), message.getKey(), e.getMessage());
+    }
+  }
+}
@@ -0,0 +1,169 @@
+package com.renanloureiro.feature_flags.infrastructure.cache;
+
+import java.util.Collection;
+import java.util.concurrent.Callable;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Cache em dois níveis: Caffeine local (L1) por instância, apoiado pelo Redis
+ * (L2) compartilhado entre as réplicas.
+ *
+ * Um miss no L1 custa no máximo um acesso ao Redis antes de chegar ao banco.
+ * Remoções são aplicadas nos dois níveis e propagadas para as demais instâncias
+ * através do {@link CacheInvalidationPublisher}. Falhas no Redis são tratadas
+ * como miss para que a indisponibilidade do L2 não derrube as leituras.
+ */
+@Slf4j
+public class TwoLevelCache implements Cache {
+
+  private final CaffeineCache localCache;
+
+  private final Cache remoteCache;
+
+  private final CacheInvalidationPublisher invalidationPublisher;
+
+  public TwoLevelCache(CaffeineCache localCache, Cache remoteCache,
+      CacheInvalidationPublisher invalidationPublisher) {
+    this.localCache = localCache;
+    this.remoteCache = remoteCache;
+    this.invalidationPublisher = invalidationPublisher;
+  }
+
+  @Override
+  public String getName() {
+    return localCache.getName();
+  }
+
+  @Override
+  public Object getNativeCache() {
+    return this;
+  }
+
+  public CaffeineCache getLocalCache() {
+    return localCache;
+  }
+
+  @Override
+  public ValueWrapper get(Object key) {
+    ValueWrapper localValue = localCache.get(key);
+    if (localValue != null) {
+      return localValue;
+    }
+
+    ValueWrapper remoteValue = getRemote(key);
+    if (remoteValue != null) {
+      localCache.put(key, remoteValue.get());
+    }
+    return remoteValue;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> T get(Object key, Class<T> type) {
+    ValueWrapper wrapper = get(key);
+    Object value = wrapper != null ? wrapper.get() : null;
+    if (value != null && type != null && !type.isInstance(value)) {
+      throw new IllegalStateException(
+          "Cached value is not of required type [" + type.getName() + "]: " + value);
+    }
+    return (T) value;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> T get(Object key, Callable<T> valueLoader) {
+    return (T) localCache.get(key, () -> {
+      ValueWrapper remoteValue = getRemote(key);
+      if (remoteValue != null) {
+        return remoteValue.get();
+      }
+
+      T value = valueLoader.call();
+      putRemote(key, value);
+      return value;
+    });
+  }
+
+  @Override
+  public void put(Object key, Object value) {
+    putRemote(key, value);
+    localCache.put(key, value);
+  }
+
+  @Override
+  public void evict(Object key) {
+    evictLocal(key);
+    try {
+      remoteCache.evict(key);
+    } catch (RuntimeException e) {
+      log.warn("Failed to evict key {} from remote cache {}: {}", key, getName(), e.getMessage());
+    }
+    invalidationPublisher.publishEvict(getName(), key);
+  }
+
+  /**
+   * Remove várias chaves nos dois níveis e propaga a remoção às demais
+   * instâncias em uma única mensagem
+   */
+  public void evictAll(Collection<?> keys) {
+    if (keys.isEmpty()) {
+      return;
+    }
+
+    for (Object key : keys) {
+      evictLocal(key);
+      try {
+        remoteCache.evict(key);
+      } catch (RuntimeException e) {
+        log.warn("Failed to evict key {} from remote cache {}: {}", key, getName(), e.getMessage());
+      }
+    }
+    invalidationPublisher.publishEvictAll(getName(), keys);
+  }
+
+  @Override
+  public void clear() {
+    clearLocal();
+    try {
+      remoteCache.clear();
+    } catch (RuntimeException e) {
+      log.warn("Failed to clear remote cache {}: {}", getName(), e.getMessage());
+    }
+    invalidationPublisher.publishClear(getName());
+  }
+
+  /**
+   * Remove a chave apenas do L1, usado ao receber invalidações de outras
+   * instâncias
+   */
+  public void evictLocal(Object key) {
+    localCache.evict(key);
+  }
+
+  public void clearLocal() {
+    localCache.clear();
+  }
+
+  private ValueWrapper getRemote(Object key) {
+    try {
+      ValueWrapper remoteValue = remoteCache.get(key);
+      return remoteValue != null ? new SimpleValueWrapper(remoteValue.get()) : null;
+    } catch (RuntimeException e) {
+      log.warn("Failed to read key {} from remote cache {}: {}", key, getName(), e.getMessage());
+      return null;
+    }
+  }
+
+  private void putRemote(Object key, Object value) {
+    try {
+      remoteCache.put(key, value);
+    } catch (RuntimeException e) {
+      log.warn("Failed to write key {} to remote cache {}: {}", key, getName(), e.getMessage());
+    }
+  }
+}
@@ -0,0 +1,50 @@
+package com.renanloureiro.feature_flags.infrastructure.cache;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+/**
+ * {@link CacheManager} que compõe um {@link CaffeineCacheManager} local com o
+ * gerenciador de cache remoto (Redis) em instâncias de {@link TwoLevelCache}.
+ */
+public class TwoLevelCacheManager implements CacheManager {
+
+  private final CaffeineCacheManager localCacheManager;
+
+  private final CacheManager remoteCacheManager;
+
+  private final CacheInvalidationPublisher invalidationPublisher;
+
+  private final Map<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+  public TwoLevelCacheManager(CaffeineCacheManager localCacheManager, CacheManager remoteCacheManager,
+      CacheInvalidationPublisher invalidationPublisher, Collection<String> cacheNames) {
+    this.localCacheManager = localCacheManager;
+    this.remoteCacheManager = remoteCacheManager;
+    this.invalidationPublisher = invalidationPublisher;
+    cacheNames.forEach(this::getCache);
+  }
+
+  @Override
+  public TwoLevelCache getCache(String name) {
+    return caches.computeIfAbsent(name, this::createCache);
+  }
+
+  @Override
+  public Collection<String> getCacheNames() {
+    return Collections.unmodifiableSet(caches.keySet());
+  }
+
+  private TwoLevelCache createCache(String name) {
+    CaffeineCache localCache = (CaffeineCache) localCacheManager.getCache(name);
+    Cache remoteCache = remoteCacheManager.getCache(name);
+    return new TwoLevelCache(localCache, remoteCache, invalidationPublisher);
+  }
+}
@@ -0,0 +1,18 @@
+package com.renanloureiro.feature_flags.infrastructure.cluster;
+
+import java.util.UUID;
+
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+
+/**
+ * Identifica esta instância nas mensagens trocadas entre os nós, permitindo
+ * ignorar as mensagens publicadas por ela mesma
+ */
+@Component
+@Getter
+public class ClusterNode {
+
+  private final String id = UUID.randomUUID().toString();
+}
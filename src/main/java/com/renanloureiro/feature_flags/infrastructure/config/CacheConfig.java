@@ -0,0 +1,13 @@
+package com.renanloureiro.feature_flags.infrastructure.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Habilita o cache de leitura das feature flags. O provedor, o tamanho máximo e
+ * a coleta de estatísticas são definidos em {@code spring.cache.*}.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+}
@@ -0,0 +1,55 @@
+package com.renanloureiro.feature_flags.infrastructure.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.renanloureiro.feature_flags.application.repositories.FeatureFlagRepository;
+import com.renanloureiro.feature_flags.application.snapshot.FeatureFlagSnapshotHolder;
+import com.renanloureiro.feature_flags.application.usecases.SyncFeatureFlags;
+import com.renanloureiro.feature_flags.infrastructure.cluster.ClusterNode;
+import com.renanloureiro.feature_flags.infrastructure.datasource.PrimaryReads;
+import com.renanloureiro.feature_flags.infrastructure.repositories.FeatureFlagOutboxJpaRepository;
+import com.renanloureiro.feature_flags.infrastructure.snapshot.PostgresFeatureFlagChangePublisher;
+import com.renanloureiro.feature_flags.infrastructure.snapshot.PostgresFeatureFlagChangeListener;
+
+/**
+ * Sem Redis, as instâncias recebem as alterações umas das outras pelo
+ * {@code LISTEN/NOTIFY} do Postgres. Os avisos são enviados a partir do outbox,
+ * depois do commit das alterações.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "spring.cache", name = "type", havingValue = "caffeine")
+public class PostgresSnapshotSyncConfig {
+
+  @Bean
+  public PostgresFeatureFlagChangePublisher postgresFeatureFlagChangePublisher(
+      FeatureFlagOutboxJpaRepository featureFlagOutboxJpaRepository) {
+    return new PostgresFeatureFlagChangePublisher(featureFlagOutboxJpaRepository);
+  }
+
+  /**
+   * O cursor inicial é lido antes de o snapshot ser carregado, então a
+   * primeira sincronização cobre o que mudar entre a carga e o LISTEN
+   */
+  @Bean
+  public PostgresFeatureFlagChangeListener postgresFeatureFlagChangeListener(DataSourceProperties dataSourceProperties,
+      ObjectMapper objectMapper, ApplicationEventPublisher eventPublisher, CacheManager cacheManager,
+      SyncFeatureFlags syncFeatureFlags, PrimaryReads primaryReads, FeatureFlagSnapshotHolder snapshotHolder,
+      FeatureFlagRepository featureFlagRepository, ClusterNode clusterNode,
+      @Value("${feature-flags.snapshot.notify.coalesce-window:50ms}") Duration coalesceWindow,
+      @Value("${feature-flags.snapshot.notify.keepalive-interval:10s}") Duration keepaliveInterval,
+      @Value("${feature-flags.snapshot.notify.reconnect-delay:1s}") Duration reconnectDelay) {
+    return new PostgresFeatureFlagChangeListener(dataSourceProperties.determineUrl(),
+        dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword(), objectMapper,
+        eventPublisher, cacheManager, syncFeatureFlags, primaryReads, snapshotHolder, clusterNode.getId(),
+        featureFlagRepository.findSyncWatermark(), coalesceWindow, keepaliveInterval, reconnectDelay);
+  }
+}
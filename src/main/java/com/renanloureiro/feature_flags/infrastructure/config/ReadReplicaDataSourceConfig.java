@@ -0,0 +1,62 @@
+package com.renanloureiro.feature_flags.infrastructure.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Com {@code feature-flags.datasource.replica.url} configurada, transações
+ * {@code readOnly} são atendidas por um pool próprio apontando para a réplica;
+ * todo o resto, inclusive o Flyway, usa o pool do primário.
+ *
+ * O proxy só obtém a conexão física na primeira instrução, depois que a
+ * transação marcou a conexão como somente leitura, e escolhe o pool por essa
+ * marca. Cada pool é dimensionado em seu próprio bloco {@code hikari}.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "feature-flags.datasource.replica", name = "url")
+public class ReadReplicaDataSourceConfig {
+
+  @Bean
+  @FlywayDataSource
+  @ConfigurationProperties("spring.datasource.hikari")
+  public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+    return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+  }
+
+  @Bean
+  @ConfigurationProperties("feature-flags.datasource.replica.hikari")
+  public HikariDataSource replicaDataSource(DataSourceProperties properties,
+      @Value("${feature-flags.datasource.replica.url}") String url,
+      @Value("${feature-flags.datasource.replica.username:#{null}}") String username,
+      @Value("${feature-flags.datasource.replica.password:#{null}}") String password) {
+    return DataSourceBuilder.create()
+        .type(HikariDataSource.class)
+        .driverClassName(properties.determineDriverClassName())
+        .url(url)
+        .username(username != null ? username : properties.determineUsername())
+        .password(password != null ? password : properties.determinePassword())
+        .build();
+  }
+
+  @Bean
+  @Primary
+  public DataSource dataSource(@Qualifier("primaryDataSource") HikariDataSource primaryDataSource,
+      @Qualifier("replicaDataSource") HikariDataSource replicaDataSource) {
+    LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+    dataSource.setReadOnlyDataSource(replicaDataSource);
+    return dataSource;
+  }
+}
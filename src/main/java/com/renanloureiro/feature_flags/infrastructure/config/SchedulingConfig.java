@@ -0,0 +1,13 @@
+package com.renanloureiro.feature_flags.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Habilita as tarefas periódicas, como o relay do outbox e a retenção do
+ * histórico de valores
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
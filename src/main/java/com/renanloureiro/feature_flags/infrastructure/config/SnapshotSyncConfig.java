@@ -0,0 +1,46 @@
+package com.renanloureiro.feature_flags.infrastructure.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import com.renanloureiro.feature_flags.infrastructure.cluster.ClusterNode;
+import com.renanloureiro.feature_flags.infrastructure.snapshot.RedisFeatureFlagChangeListener;
+import com.renanloureiro.feature_flags.infrastructure.snapshot.RedisFeatureFlagChangePublisher;
+
+/**
+ * Propaga as alterações de feature flags entre as instâncias via Redis pub/sub
+ * para que todos os snapshots convirjam. As alterações são publicadas a partir
+ * do outbox, depois do commit. Sem Redis cada instância atualiza apenas o
+ * próprio snapshot.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "spring.cache", name = "type", havingValue = "redis")
+public class SnapshotSyncConfig {
+
+  @Bean
+  public RedisFeatureFlagChangePublisher featureFlagChangePublisher(
+      RedisTemplate<String, Object> cacheInvalidationRedisTemplate,
+      @Value("${feature-flags.snapshot.changes-channel:ff::changes}") String channel) {
+    return new RedisFeatureFlagChangePublisher(cacheInvalidationRedisTemplate, channel);
+  }
+
+  @Bean
+  public RedisMessageListenerContainer featureFlagChangeListenerContainer(RedisConnectionFactory connectionFactory,
+      ApplicationEventPublisher eventPublisher, RedisSerializer<Object> cacheValueSerializer, ClusterNode clusterNode,
+      @Value("${feature-flags.snapshot.changes-channel:ff::changes}") String channel) {
+    RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+    container.setConnectionFactory(connectionFactory);
+    container.addMessageListener(
+        new RedisFeatureFlagChangeListener(eventPublisher, cacheValueSerializer, clusterNode.getId()),
+        new ChannelTopic(channel));
+    return container;
+  }
+}
@@ -0,0 +1,121 @@
+package com.renanloureiro.feature_flags.infrastructure.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.metrics.cache.CacheMeterBinderProvider;
+import org.springframework.boot.autoconfigure.cache.CacheProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.util.StringUtils;
+
+import com.renanloureiro.feature_flags.infrastructure.cache.CacheInvalidationPublisher;
+import com.renanloureiro.feature_flags.infrastructure.cache.RedisCacheInvalidationListener;
+import com.renanloureiro.feature_flags.infrastructure.cache.RedisCacheInvalidationPublisher;
+import com.renanloureiro.feature_flags.infrastructure.cache.TwoLevelCache;
+import com.renanloureiro.feature_flags.infrastructure.cache.TwoLevelCacheManager;
+import com.renanloureiro.feature_flags.infrastructure.cluster.ClusterNode;
+
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Cache em dois níveis (Caffeine L1 + Redis L2) habilitado com
+ * {@code spring.cache.type=redis}. As invalidações são propagadas entre as
+ * instâncias via Redis pub/sub.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "spring.cache", name = "type", havingValue = "redis")
+@EnableConfigurationProperties(CacheProperties.class)
+public class TwoLevelCacheConfig {
+
+  @Bean
+  public RedisSerializer<Object> cacheValueSerializer() {
+    return new JdkSerializationRedisSerializer(getClass().getClassLoader());
+  }
+
+  @Bean
+  public RedisTemplate<String, Object> cacheInvalidationRedisTemplate(RedisConnectionFactory connectionFactory,
+      RedisSerializer<Object> cacheValueSerializer) {
+    RedisTemplate<String, Object> template = new RedisTemplate<>();
+    template.setConnectionFactory(connectionFactory);
+    template.setKeySerializer(RedisSerializer.string());
+    template.setValueSerializer(cacheValueSerializer);
+    return template;
+  }
+
+  @Bean
+  public CacheInvalidationPublisher cacheInvalidationPublisher(
+      RedisTemplate<String, Object> cacheInvalidationRedisTemplate, ClusterNode clusterNode,
+      @Value("${feature-flags.cache.invalidation-channel:ff::invalidation}") String channel) {
+    return new RedisCacheInvalidationPublisher(cacheInvalidationRedisTemplate, channel, clusterNode.getId());
+  }
+
+  @Bean
+  public TwoLevelCacheManager cacheManager(CacheProperties cacheProperties, RedisConnectionFactory connectionFactory,
+      RedisSerializer<Object> cacheValueSerializer, CacheInvalidationPublisher cacheInvalidationPublisher) {
+    CaffeineCacheManager localCacheManager = new CaffeineCacheManager();
+    String spec = cacheProperties.getCaffeine().getSpec();
+    if (StringUtils.hasText(spec)) {
+      localCacheManager.setCacheSpecification(spec);
+    }
+
+    RedisCacheManager remoteCacheManager = RedisCacheManager.builder(connectionFactory)
+        .cacheDefaults(redisCacheConfiguration(cacheProperties.getRedis(), cacheValueSerializer))
+        .build();
+    remoteCacheManager.initializeCaches();
+
+    return new TwoLevelCacheManager(localCacheManager, remoteCacheManager, cacheInvalidationPublisher,
+        cacheProperties.getCacheNames());
+  }
+
+  @Bean
+  public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory,
+      TwoLevelCacheManager cacheManager, RedisSerializer<Object> cacheValueSerializer, ClusterNode clusterNode,
+      @Value("${feature-flags.cache.invalidation-channel:ff::invalidation}") String channel) {
+    RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+    container.setConnectionFactory(connectionFactory);
+    container.addMessageListener(
+        new RedisCacheInvalidationListener(cacheManager, cacheValueSerializer, clusterNode.getId()),
+        new ChannelTopic(channel));
+    return container;
+  }
+
+  /**
+   * Expõe as estatísticas de hit/miss do L1 nas métricas {@code cache.*}
+   */
+  @Bean
+  public CacheMeterBinderProvider<TwoLevelCache> twoLevelCacheMeterBinderProvider() {
+    return (cache, tags) -> new CaffeineCacheMetrics<>(cache.getLocalCache().getNativeCache(), cache.getName(),
+        tags);
+  }
+
+  private RedisCacheConfiguration redisCacheConfiguration(CacheProperties.Redis redisProperties,
+      RedisSerializer<Object> cacheValueSerializer) {
+    RedisCacheConfiguration config = RedisCacheConfiguration.defaultCacheConfig()
+        .serializeValuesWith(SerializationPair.fromSerializer(cacheValueSerializer));
+
+    if (redisProperties.getTimeToLive() != null) {
+      config = config.entryTtl(redisProperties.getTimeToLive());
+    }
+    if (redisProperties.getKeyPrefix() != null) {
+      config = config.prefixCacheNameWith(redisProperties.getKeyPrefix());
+    }
+    if (!redisProperties.isCacheNullValues()) {
+      config = config.disableCachingNullValues();
+    }
+    if (!redisProperties.isUseKeyPrefix()) {
+      config = config.disableKeyPrefix();
+    }
+    return config;
+  }
+}
@@ -0,0 +1,32 @@
+package com.renanloureiro.feature_flags.infrastructure.datasource;
+
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Executa leituras que precisam enxergar uma escrita recém-confirmada, como a
+ * sincronização a partir de uma revisão recebida do primário. A leitura roda
+ * em uma transação nova de leitura e escrita, que a réplica nunca atende; casos
+ * de uso {@code readOnly} chamados aqui participam dessa transação. O
+ * isolamento {@code REPEATABLE_READ} mantém a mesma visão do banco em todas as
+ * consultas.
+ */
+@Component
+public class PrimaryReads {
+
+  private final TransactionTemplate transactionTemplate;
+
+  public PrimaryReads(PlatformTransactionManager transactionManager) {
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    this.transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+  }
+
+  public <T> T execute(Supplier<T> read) {
+    return transactionTemplate.execute(status -> read.get());
+  }
+}
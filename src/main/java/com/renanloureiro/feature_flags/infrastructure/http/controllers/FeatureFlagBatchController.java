@@ -0,0 +1,34 @@
+package com.renanloureiro.feature_flags.infrastructure.http.controllers;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.renanloureiro.feature_flags.application.dtos.CreateFeatureFlagsBatchDTO;
+import com.renanloureiro.feature_flags.application.usecases.CreateFeatureFlagsBatch;
+import com.renanloureiro.feature_flags.infrastructure.http.doc.FeatureFlagBatchControllerSwagger;
+import com.renanloureiro.feature_flags.infrastructure.http.presenters.FeatureFlagBatchPresenter;
+import com.renanloureiro.feature_flags.infrastructure.http.presenters.batch.FeatureFlagBatchResponseDTO;
+
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+
+@RestController
+@RequestMapping("/v1/feature-flags:batch")
+@Tag(name = "Feature Flags")
+public class FeatureFlagBatchController implements FeatureFlagBatchControllerSwagger {
+
+  @Autowired
+  private CreateFeatureFlagsBatch createFeatureFlagsBatchUseCase;
+
+  @PostMapping
+  public ResponseEntity<FeatureFlagBatchResponseDTO> createFeatureFlags(
+      @Valid @RequestBody CreateFeatureFlagsBatchDTO dto) {
+    var results = createFeatureFlagsBatchUseCase.execute(dto.getFlags());
+    return ResponseEntity.ok(FeatureFlagBatchPresenter.toHttp(results));
+  }
+
+}
@@ -0,0 +1,33 @@
+package com.renanloureiro.feature_flags.infrastructure.http.controllers;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.renanloureiro.feature_flags.application.dtos.PublishChangesetDTO;
+import com.renanloureiro.feature_flags.application.usecases.PublishFeatureFlagValuesChangeset;
+import com.renanloureiro.feature_flags.infrastructure.http.doc.FeatureFlagChangesetControllerSwagger;
+import com.renanloureiro.feature_flags.infrastructure.http.presenters.FeatureFlagChangesetPresenter;
+import com.renanloureiro.feature_flags.infrastructure.http.presenters.changeset.FeatureFlagChangesetResponseDTO;
+
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+
+@RestController
+@RequestMapping("/v1/changesets")
+@Tag(name = "Feature Flag Values")
+public class FeatureFlagChangesetController implements FeatureFlagChangesetControllerSwagger {
+
+  @Autowired
+  private PublishFeatureFlagValuesChangeset publishFeatureFlagValuesChangeset;
+
+  @PostMapping
+  public ResponseEntity<FeatureFlagChangesetResponseDTO> publishChangeset(@Valid @RequestBody PublishChangesetDTO dto) {
+    var featureFlagValues = publishFeatureFlagValuesChangeset.execute(dto.getValues());
+    return ResponseEntity.status(201).body(FeatureFlagChangesetPresenter.toHttp(featureFlagValues));
+  }
+
+}
@@ -1,20 +1,23 @@
 package com.renanloureiro.feature_flags.infrastructure.http.controllers;
 
-import java.util.List;
-import java.util.stream.Collectors;
-
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.renanloureiro.feature_flags.application.dtos.CreateFeatureFlagDTO;
+import com.renanloureiro.feature_flags.application.dtos.ListFeatureFlagsDTO;
 import com.renanloureiro.feature_flags.application.usecases.CreateFeatureFlagUseCase;
+import com.renanloureiro.feature_flags.application.usecases.FetchCurrentFeatureFlagValue;
 import com.renanloureiro.feature_flags.application.usecases.FetchFeatureFlagBySlug;
 import com.renanloureiro.feature_flags.application.usecases.ListFeatureFlags;
 import com.renanloureiro.feature_flags.infrastructure.http.doc.FeatureFlagControllerSwagger;
+import com.renanloureiro.feature_flags.infrastructure.http.etag.RevisionETags;
 import com.renanloureiro.feature_flags.infrastructure.http.presenters.FeatureFlagPresenter;
+import com.renanloureiro.feature_flags.infrastructure.http.presenters.SerializedResponseCache;
 import com.renanloureiro.feature_flags.infrastructure.http.presenters.featureflag.FeatureFlagResponseDTO;
 
 import jakarta.validation.Valid;
@@ -39,6 +42,15 @@ public class FeatureFlagController implements FeatureFlagControllerSwagger {
   @Autowired
   private ListFeatureFlags listFeatureFlagsUseCase;
 
+  @Autowired
+  private FetchCurrentFeatureFlagValue fetchCurrentFeatureFlagValueUseCase;
+
+  @Autowired
+  private RevisionETags revisionETags;
+
+  @Autowired
+  private SerializedResponseCache serializedResponseCache;
+
   @PostMapping
   public ResponseEntity<FeatureFlagResponseDTO> createFeatureFlag(
       @Valid @RequestBody CreateFeatureFlagDTO dto) {
@@ -47,16 +59,44 @@ public class FeatureFlagController implements FeatureFlagControllerSwagger {
   }
 
   @GetMapping("/{slug}")
-  public ResponseEntity<FeatureFlagResponseDTO> getFeatureFlagBySlug(@PathVariable String slug) {
-    var httpResponse = FeatureFlagPresenter.toHttp(fetchFeatureFlagBySlugUseCase.execute(slug));
-    return ResponseEntity.ok(httpResponse);
+  public ResponseEntity<byte[]> getFeatureFlagBySlug(@PathVariable String slug, WebRequest request) {
+    var entry = fetchFeatureFlagBySlugUseCase.execute(slug);
+    var eTag = revisionETags.of(entry.getFlag());
+    if (eTag != null && request.checkNotModified(eTag)) {
+      return null;
+    }
+
+    return ResponseEntity.ok()
+        .eTag(eTag)
+        .contentType(MediaType.APPLICATION_JSON)
+        .body(serializedResponseCache.flag(entry.getFlag()));
+  }
+
+  @GetMapping("/{slug}/value")
+  public ResponseEntity<byte[]> getCurrentFeatureFlagValue(@PathVariable String slug, WebRequest request) {
+    var featureFlagValue = fetchCurrentFeatureFlagValueUseCase.execute(slug);
+    var eTag = revisionETags.of(featureFlagValue);
+    if (eTag != null && request.checkNotModified(eTag)) {
+      return null;
+    }
+
+    return ResponseEntity.ok()
+        .eTag(eTag)
+        .contentType(MediaType.APPLICATION_JSON)
+        .body(serializedResponseCache.value(featureFlagValue));
   }
 
   @GetMapping
-  public ResponseEntity<List<FeatureFlagResponseDTO>> listFeatureFlags() {
-    var httpResponse = listFeatureFlagsUseCase.execute().stream()
-        .map(FeatureFlagPresenter::toHttp)
-        .collect(Collectors.toList());
-    return ResponseEntity.ok(httpResponse);
+  public ResponseEntity<byte[]> listFeatureFlags(@Valid ListFeatureFlagsDTO dto, WebRequest request) {
+    var page = listFeatureFlagsUseCase.execute(dto);
+    var eTag = revisionETags.of(page);
+    if (eTag != null && request.checkNotModified(eTag)) {
+      return null;
+    }
+
+    return ResponseEntity.ok()
+        .eTag(eTag)
+        .contentType(MediaType.APPLICATION_JSON)
+        .body(serializedResponseCache.page(page, dto.isIncludeSchema()));
   }
 }
@@ -0,0 +1,34 @@
+package com.renanloureiro.feature_flags.infrastructure.http.controllers;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.renanloureiro.feature_flags.application.dtos.EvaluateFeatureFlagsDTO;
+import com.renanloureiro.feature_flags.application.usecases.EvaluateFeatureFlags;
+import com.renanloureiro.feature_flags.infrastructure.http.doc.FeatureFlagEvaluationControllerSwagger;
+import com.renanloureiro.feature_flags.infrastructure.http.presenters.FeatureFlagEvaluationPresenter;
+import com.renanloureiro.feature_flags.infrastructure.http.presenters.evaluation.FeatureFlagEvaluationResponseDTO;
+
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+
+@RestController
+@RequestMapping("/v1/evaluate")
+@Tag(name = "Feature Flag Evaluation")
+public class FeatureFlagEvaluationController implements FeatureFlagEvaluationControllerSwagger {
+
+  @Autowired
+  private EvaluateFeatureFlags evaluateFeatureFlagsUseCase;
+
+  @PostMapping
+  public ResponseEntity<FeatureFlagEvaluationResponseDTO> evaluateFeatureFlags(
+      @Valid @RequestBody EvaluateFeatureFlagsDTO dto) {
+    var entries = evaluateFeatureFlagsUseCase.execute(dto.getSlugs());
+    return ResponseEntity.ok(FeatureFlagEvaluationPresenter.toHttp(dto.getSlugs(), entries));
+  }
+
+}
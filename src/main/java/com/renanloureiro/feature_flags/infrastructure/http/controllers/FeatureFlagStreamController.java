@@ -0,0 +1,30 @@
+package com.renanloureiro.feature_flags.infrastructure.http.controllers;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.renanloureiro.feature_flags.infrastructure.http.doc.FeatureFlagStreamControllerSwagger;
+import com.renanloureiro.feature_flags.infrastructure.http.stream.FeatureFlagChangeStream;
+
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@RestController
+@RequestMapping("/v1/feature-flags/stream")
+@Tag(name = "Feature Flag Stream")
+public class FeatureFlagStreamController implements FeatureFlagStreamControllerSwagger {
+
+  @Autowired
+  private FeatureFlagChangeStream featureFlagChangeStream;
+
+  @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  public SseEmitter streamFeatureFlagChanges(
+      @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+    return featureFlagChangeStream.subscribe(lastEventId);
+  }
+
+}
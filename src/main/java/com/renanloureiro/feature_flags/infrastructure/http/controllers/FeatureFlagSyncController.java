@@ -0,0 +1,40 @@
+package com.renanloureiro.feature_flags.infrastructure.http.controllers;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.renanloureiro.feature_flags.application.usecases.SyncFeatureFlags;
+import com.renanloureiro.feature_flags.infrastructure.datasource.PrimaryReads;
+import com.renanloureiro.feature_flags.infrastructure.http.doc.FeatureFlagSyncControllerSwagger;
+import com.renanloureiro.feature_flags.infrastructure.http.presenters.FeatureFlagSyncPresenter;
+import com.renanloureiro.feature_flags.infrastructure.http.presenters.sync.FeatureFlagSyncResponseDTO;
+
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@RestController
+@RequestMapping("/v1/sync")
+@Tag(name = "Feature Flag Sync")
+public class FeatureFlagSyncController implements FeatureFlagSyncControllerSwagger {
+
+  @Autowired
+  private SyncFeatureFlags syncFeatureFlagsUseCase;
+
+  @Autowired
+  private PrimaryReads primaryReads;
+
+  @GetMapping
+  public ResponseEntity<FeatureFlagSyncResponseDTO> syncFeatureFlags(
+      @RequestParam(value = "since", defaultValue = "0") long since) {
+    var result = syncFeatureFlagsUseCase.execute(since);
+    if (result.isFull() && since > result.getRevision()) {
+      // cliente à frente da réplica: responde do primário em vez de mandar tudo
+      result = primaryReads.execute(() -> syncFeatureFlagsUseCase.execute(since));
+    }
+    return ResponseEntity.ok(FeatureFlagSyncPresenter.toHttp(result));
+  }
+
+}
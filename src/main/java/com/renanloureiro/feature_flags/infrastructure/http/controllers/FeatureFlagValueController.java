@@ -1,8 +1,10 @@
 package com.renanloureiro.feature_flags.infrastructure.http.controllers;
 
+import java.io.InputStream;
 import java.util.UUID;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -15,7 +17,6 @@ import com.renanloureiro.feature_flags.infrastructure.http.doc.FeatureFlagValueC
 import com.renanloureiro.feature_flags.infrastructure.http.presenters.FeatureFlagValuePresenter;
 import com.renanloureiro.feature_flags.infrastructure.http.presenters.featureFlagValue.FeatureFlagValueResponseDTO;
 
-import io.swagger.v3.oas.annotations.parameters.RequestBody;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
 @RestController
@@ -26,10 +27,17 @@ public class FeatureFlagValueController implements FeatureFlagValueControllerSwa
   @Autowired
   private CreateFeatureFlagValueUseCase createFeatureFlagValueUseCase;
 
-  @PostMapping
+  /**
+   * O corpo é lido como stream em vez de desserializado no DTO: listas grandes
+   * são validadas durante a leitura, sem montar a árvore do valor. O formato
+   * continua sendo o de {@link CreateFeatureFlagValueDTO}, e as regras do
+   * {@code @Valid} (corpo objeto, {@code value} obrigatório) são aplicadas pela
+   * leitura.
+   */
+  @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
   public ResponseEntity<FeatureFlagValueResponseDTO> createFeatureFlagValue(
-      @PathVariable UUID flagId, @RequestBody CreateFeatureFlagValueDTO dto) {
-    var featureFlagValue = createFeatureFlagValueUseCase.execute(flagId, dto);
+      @PathVariable UUID flagId, InputStream body) {
+    var featureFlagValue = createFeatureFlagValueUseCase.execute(flagId, body);
     return ResponseEntity.status(201).body(FeatureFlagValuePresenter.toHttp(featureFlagValue));
   }
 
@@ -0,0 +1,29 @@
+package com.renanloureiro.feature_flags.infrastructure.http.doc;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+
+import com.renanloureiro.feature_flags.application.dtos.CreateFeatureFlagsBatchDTO;
+import com.renanloureiro.feature_flags.application.exceptions.AppError;
+import com.renanloureiro.feature_flags.infrastructure.http.presenters.batch.FeatureFlagBatchResponseDTO;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.parameters.RequestBody;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@Tag(name = "Feature Flags", description = "Endpoints para gerenciamento de feature flags")
+public interface FeatureFlagBatchControllerSwagger {
+
+  @Operation(summary = "Create many feature flags in a single request", description = "Each item follows the same rules as the single creation endpoint; failed items are reported without preventing the others from being created")
+  @ApiResponse(responseCode = "200", description = "Batch processed, see the status of each item", content = @Content(schema = @Schema(implementation = FeatureFlagBatchResponseDTO.class), mediaType = MediaType.APPLICATION_JSON_VALUE))
+  @ApiResponse(responseCode = "400", description = "Invalid request body", content = @Content(schema = @Schema(implementation = AppError.class), mediaType = MediaType.APPLICATION_JSON_VALUE))
+  @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(schema = @Schema(implementation = AppError.class), mediaType = MediaType.APPLICATION_JSON_VALUE))
+  @PostMapping("/v1/feature-flags:batch")
+  public ResponseEntity<FeatureFlagBatchResponseDTO> createFeatureFlags(
+      @Parameter(description = "Feature flags a serem criadas", required = true) @RequestBody CreateFeatureFlagsBatchDTO dto);
+}
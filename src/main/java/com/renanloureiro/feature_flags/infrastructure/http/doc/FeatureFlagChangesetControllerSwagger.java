@@ -0,0 +1,29 @@
+package com.renanloureiro.feature_flags.infrastructure.http.doc;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+
+import com.renanloureiro.feature_flags.application.dtos.PublishChangesetDTO;
+import com.renanloureiro.feature_flags.application.exceptions.AppError;
+import com.renanloureiro.feature_flags.infrastructure.http.presenters.changeset.FeatureFlagChangesetResponseDTO;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.parameters.RequestBody;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@Tag(name = "Feature Flag Values", description = "Endpoints para gerenciar valores de feature flags")
+public interface FeatureFlagChangesetControllerSwagger {
+
+  @Operation(summary = "Publish values of many feature flags atomically", description = "All values are validated and published in a single transaction; if any of them is invalid, none is published")
+  @ApiResponse(responseCode = "201", description = "Changeset published", content = @Content(schema = @Schema(implementation = FeatureFlagChangesetResponseDTO.class), mediaType = MediaType.APPLICATION_JSON_VALUE))
+  @ApiResponse(responseCode = "400", description = "Invalid value, repeated flag or feature flag not found", content = @Content(schema = @Schema(implementation = AppError.class), mediaType = MediaType.APPLICATION_JSON_VALUE))
+  @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(schema = @Schema(implementation = AppError.class), mediaType = MediaType.APPLICATION_JSON_VALUE))
+  @PostMapping("/v1/changesets")
+  public ResponseEntity<FeatureFlagChangesetResponseDTO> publishChangeset(
+      @Parameter(description = "Valores a serem publicados", required = true) @RequestBody PublishChangesetDTO dto);
+}
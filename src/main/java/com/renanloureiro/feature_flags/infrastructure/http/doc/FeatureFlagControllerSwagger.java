@@ -1,15 +1,18 @@
 package com.renanloureiro.feature_flags.infrastructure.http.doc;
 
-import java.util.List;
-
+import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.context.request.WebRequest;
 
 import com.renanloureiro.feature_flags.application.dtos.CreateFeatureFlagDTO;
+import com.renanloureiro.feature_flags.application.dtos.ListFeatureFlagsDTO;
 import com.renanloureiro.feature_flags.application.exceptions.AppError;
+import com.renanloureiro.feature_flags.infrastructure.http.presenters.featureFlagValue.FeatureFlagValueResponseDTO;
+import com.renanloureiro.feature_flags.infrastructure.http.presenters.featureflag.FeatureFlagPageResponseDTO;
 import com.renanloureiro.feature_flags.infrastructure.http.presenters.featureflag.FeatureFlagResponseDTO;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -32,17 +35,33 @@ public interface FeatureFlagControllerSwagger {
         public ResponseEntity<FeatureFlagResponseDTO> createFeatureFlag(
                         @Parameter(description = "Dados da feature flag a ser criada", required = true) @RequestBody CreateFeatureFlagDTO dto);
 
-        @Operation(summary = "List all feature flags")
-        @ApiResponse(responseCode = "200", description = "Feature flags listed successfully", content = @Content(schema = @Schema(implementation = FeatureFlagResponseDTO.class), mediaType = MediaType.APPLICATION_JSON_VALUE))
+        @Operation(summary = "List feature flags ordered by slug, one page at a time")
+        @ApiResponse(responseCode = "200", description = "Feature flags listed successfully", content = @Content(schema = @Schema(implementation = FeatureFlagPageResponseDTO.class), mediaType = MediaType.APPLICATION_JSON_VALUE))
+        @ApiResponse(responseCode = "304", description = "Feature flags not modified since the revision in If-None-Match")
+        @ApiResponse(responseCode = "400", description = "Invalid limit or type", content = @Content(schema = @Schema(implementation = AppError.class), mediaType = MediaType.APPLICATION_JSON_VALUE))
         @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(schema = @Schema(implementation = AppError.class), mediaType = MediaType.APPLICATION_JSON_VALUE))
         @GetMapping("/v1/feature-flags")
-        public ResponseEntity<List<FeatureFlagResponseDTO>> listFeatureFlags();
+        public ResponseEntity<byte[]> listFeatureFlags(
+                        @ParameterObject ListFeatureFlagsDTO dto,
+                        @Parameter(hidden = true) WebRequest request);
 
         @Operation(summary = "Get a feature flag by slug")
         @ApiResponse(responseCode = "200", description = "Feature flag fetched successfully", content = @Content(schema = @Schema(implementation = FeatureFlagResponseDTO.class), mediaType = MediaType.APPLICATION_JSON_VALUE))
+        @ApiResponse(responseCode = "304", description = "Feature flag not modified since the revision in If-None-Match")
         @ApiResponse(responseCode = "400", description = "Invalid slug", content = @Content(schema = @Schema(implementation = AppError.class), mediaType = MediaType.APPLICATION_JSON_VALUE))
         @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(schema = @Schema(implementation = AppError.class), mediaType = MediaType.APPLICATION_JSON_VALUE))
         @GetMapping("/v1/feature-flags/{slug}")
-        public ResponseEntity<FeatureFlagResponseDTO> getFeatureFlagBySlug(
-                        @Parameter(description = "Slug da feature flag a ser buscada", required = true) @PathVariable String slug);
+        public ResponseEntity<byte[]> getFeatureFlagBySlug(
+                        @Parameter(description = "Slug da feature flag a ser buscada", required = true) @PathVariable String slug,
+                        @Parameter(hidden = true) WebRequest request);
+
+        @Operation(summary = "Get the current value of a feature flag by slug")
+        @ApiResponse(responseCode = "200", description = "Current value fetched successfully", content = @Content(schema = @Schema(implementation = FeatureFlagValueResponseDTO.class), mediaType = MediaType.APPLICATION_JSON_VALUE))
+        @ApiResponse(responseCode = "304", description = "Current value not modified since the revision in If-None-Match")
+        @ApiResponse(responseCode = "404", description = "Feature flag has no published value", content = @Content(schema = @Schema(implementation = AppError.class), mediaType = MediaType.APPLICATION_JSON_VALUE))
+        @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(schema = @Schema(implementation = AppError.class), mediaType = MediaType.APPLICATION_JSON_VALUE))
+        @GetMapping("/v1/feature-flags/{slug}/value")
+        public ResponseEntity<byte[]> getCurrentFeatureFlagValue(
+                        @Parameter(description = "Slug da feature flag", required = true) @PathVariable String slug,
+                        @Parameter(hidden = true) WebRequest request);
 }
@@ -0,0 +1,28 @@
+package com.renanloureiro.feature_flags.infrastructure.http.doc;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+
+import com.renanloureiro.feature_flags.application.dtos.EvaluateFeatureFlagsDTO;
+import com.renanloureiro.feature_flags.application.exceptions.AppError;
+import com.renanloureiro.feature_flags.infrastructure.http.presenters.evaluation.FeatureFlagEvaluationResponseDTO;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@Tag(name = "Feature Flag Evaluation", description = "Endpoints para avaliar várias feature flags de uma vez")
+public interface FeatureFlagEvaluationControllerSwagger {
+
+  @Operation(summary = "Retorna os valores vigentes de várias feature flags em uma única requisição")
+  @ApiResponse(responseCode = "200", description = "Feature flags avaliadas com sucesso", content = @Content(schema = @Schema(implementation = FeatureFlagEvaluationResponseDTO.class), mediaType = MediaType.APPLICATION_JSON_VALUE))
+  @ApiResponse(responseCode = "400", description = "Requisição inválida", content = @Content(schema = @Schema(implementation = AppError.class), mediaType = MediaType.APPLICATION_JSON_VALUE))
+  @ApiResponse(responseCode = "500", description = "Erro interno do servidor", content = @Content(schema = @Schema(implementation = AppError.class), mediaType = MediaType.APPLICATION_JSON_VALUE))
+  @PostMapping("/v1/evaluate")
+  public ResponseEntity<FeatureFlagEvaluationResponseDTO> evaluateFeatureFlags(
+      @RequestBody EvaluateFeatureFlagsDTO dto);
+}
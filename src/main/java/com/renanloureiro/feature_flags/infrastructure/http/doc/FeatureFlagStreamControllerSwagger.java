@@ -0,0 +1,25 @@
+package com.renanloureiro.feature_flags.infrastructure.http.doc;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.renanloureiro.feature_flags.infrastructure.http.presenters.evaluation.FeatureFlagEvaluationDTO;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@Tag(name = "Feature Flag Stream", description = "Stream de alterações de feature flags via Server-Sent Events")
+public interface FeatureFlagStreamControllerSwagger {
+
+  @Operation(summary = "Abre um stream SSE com as alterações de feature flags", description = "Cada alteração é enviada como um evento `flag-changed`. Ao reconectar, envie o último id recebido em `Last-Event-ID` para receber os eventos perdidos; se não for possível retomar, o servidor envia `reset` e o cliente deve recarregar as flags.")
+  @ApiResponse(responseCode = "200", description = "Stream aberto", content = @Content(schema = @Schema(implementation = FeatureFlagEvaluationDTO.class), mediaType = MediaType.TEXT_EVENT_STREAM_VALUE))
+  @GetMapping(value = "/v1/feature-flags/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  public SseEmitter streamFeatureFlagChanges(
+      @Parameter(description = "Id do último evento recebido") @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId);
+}
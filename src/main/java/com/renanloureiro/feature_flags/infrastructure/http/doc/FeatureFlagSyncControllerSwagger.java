@@ -0,0 +1,28 @@
+package com.renanloureiro.feature_flags.infrastructure.http.doc;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import com.renanloureiro.feature_flags.application.exceptions.AppError;
+import com.renanloureiro.feature_flags.infrastructure.http.presenters.sync.FeatureFlagSyncResponseDTO;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@Tag(name = "Feature Flag Sync", description = "Endpoints para sincronização incremental de feature flags")
+public interface FeatureFlagSyncControllerSwagger {
+
+  @Operation(summary = "Retorna as feature flags alteradas depois de uma revisão", description = "Quando a revisão foi compactada, é desconhecida ou omitida, retorna o catálogo inteiro com full=true")
+  @ApiResponse(responseCode = "200", description = "Alterações retornadas com sucesso", content = @Content(schema = @Schema(implementation = FeatureFlagSyncResponseDTO.class), mediaType = MediaType.APPLICATION_JSON_VALUE))
+  @ApiResponse(responseCode = "400", description = "Revisão inválida", content = @Content(schema = @Schema(implementation = AppError.class), mediaType = MediaType.APPLICATION_JSON_VALUE))
+  @ApiResponse(responseCode = "500", description = "Erro interno do servidor", content = @Content(schema = @Schema(implementation = AppError.class), mediaType = MediaType.APPLICATION_JSON_VALUE))
+  @GetMapping("/v1/sync")
+  public ResponseEntity<FeatureFlagSyncResponseDTO> syncFeatureFlags(
+      @Parameter(description = "Revisão retornada pela última sincronização", example = "1042") @RequestParam(value = "since", defaultValue = "0") long since);
+}
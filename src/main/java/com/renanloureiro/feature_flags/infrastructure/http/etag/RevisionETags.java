@@ -0,0 +1,67 @@
+package com.renanloureiro.feature_flags.infrastructure.http.etag;
+
+import org.springframework.stereotype.Component;
+
+import com.renanloureiro.feature_flags.application.pagination.FeatureFlagPage;
+import com.renanloureiro.feature_flags.domain.FeatureFlag;
+import com.renanloureiro.feature_flags.domain.FeatureFlagValue;
+
+/**
+ * Gera ETags fortes a partir das revisões globais atribuídas pelo banco, sem
+ * serializar a resposta. Como as revisões são as mesmas em todas as
+ * instâncias, o mesmo estado tem a mesma ETag em qualquer réplica atrás do
+ * balanceador. Retorna nulo quando a revisão ainda não é conhecida, e a
+ * resposta segue sem ETag.
+ */
+@Component
+public class RevisionETags {
+
+  /**
+   * ETag de uma página da listagem. Combina as revisões das flags, na ordem da
+   * página, e a existência de uma próxima página, que também altera o corpo.
+   * Como a ETag vale para a URL, os parâmetros da página já a diferenciam.
+   */
+  public String of(FeatureFlagPage page) {
+    long hash = page.getNextCursor() == null ? 0 : 1;
+    long head = 0;
+    for (FeatureFlag flag : page.getItems()) {
+      Long revision = flag.getRevision();
+      if (revision == null) {
+        return null;
+      }
+      head = Math.max(head, revision);
+      hash = mix(hash * 31 + revision);
+    }
+    return "\"" + head + "-" + Long.toHexString(hash) + "\"";
+  }
+
+  /**
+   * ETag de uma flag, alterada somente quando a própria flag muda
+   */
+  public String of(FeatureFlag flag) {
+    return quoted(flag.getRevision());
+  }
+
+  /**
+   * ETag do valor vigente de uma flag, alterada a cada publicação
+   */
+  public String of(FeatureFlagValue value) {
+    return quoted(value.getRevision());
+  }
+
+  private static String quoted(Long revision) {
+    return revision == null ? null : "\"" + revision + "\"";
+  }
+
+  /**
+   * Finalizador do MurmurHash3
+   */
+  private static long mix(long value) {
+    value ^= value >>> 33;
+    value *= 0xff51afd7ed558ccdL;
+    value ^= value >>> 33;
+    value *= 0xc4ceb9fe1a85ec53L;
+    value ^= value >>> 33;
+    return value;
+  }
+}
@@ -0,0 +1,78 @@
+package com.renanloureiro.feature_flags.infrastructure.http.handlers;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Limita quantos erros de cada código são logados por janela de tempo. Um
+ * cliente que gera milhares de erros iguais por segundo produz no máximo
+ * {@code limit} linhas por janela, e a linha seguinte informa quantas foram
+ * omitidas.
+ */
+final class ErrorLogSampler {
+
+  private final int limit;
+
+  private final long windowNanos;
+
+  private final LongSupplier clock;
+
+  /**
+   * Uma janela por código; os códigos vêm de enums e dos handlers, então o mapa
+   * não cresce com a entrada do cliente
+   */
+  private final ConcurrentMap<String, Window> windows = new ConcurrentHashMap<>();
+
+  ErrorLogSampler(int limit, long window, TimeUnit unit) {
+    this(limit, unit.toNanos(window), System::nanoTime);
+  }
+
+  ErrorLogSampler(int limit, long windowNanos, LongSupplier clock) {
+    this.limit = limit;
+    this.windowNanos = windowNanos;
+    this.clock = clock;
+  }
+
+  /**
+   * Registra uma ocorrência do código. Retorna -1 quando ela não deve ser
+   * logada; caso contrário, quantas ocorrências foram omitidas desde o último
+   * log.
+   */
+  long sample(String code) {
+    long now = clock.getAsLong();
+    Window window = windows.computeIfAbsent(code, ignored -> new Window(now));
+    if (now - window.start >= windowNanos) {
+      window.restart(now, windowNanos);
+    }
+    if (window.logged.incrementAndGet() > limit) {
+      window.omitted.incrementAndGet();
+      return -1;
+    }
+    return window.omitted.getAndSet(0);
+  }
+
+  private static final class Window {
+
+    private volatile long start;
+
+    private final AtomicInteger logged = new AtomicInteger();
+
+    private final AtomicLong omitted = new AtomicLong();
+
+    private Window(long start) {
+      this.start = start;
+    }
+
+    private synchronized void restart(long now, long windowNanos) {
+      // outra thread pode ter reiniciado a janela enquanto esta esperava
+      if (now - start >= windowNanos) {
+        start = now;
+        logged.set(0);
+      }
+    }
+  }
+}
@@ -1,9 +1,11 @@
 package com.renanloureiro.feature_flags.infrastructure.http.handlers;
 
 import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.HttpMediaTypeNotSupportedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -13,79 +15,57 @@ import org.springframework.web.servlet.resource.NoResourceFoundException;
 
 import com.renanloureiro.feature_flags.application.exceptions.AppError;
 import com.renanloureiro.feature_flags.application.exceptions.BaseException;
+import com.renanloureiro.feature_flags.application.exceptions.ErrorCode;
 import com.renanloureiro.feature_flags.application.exceptions.ResourceNotFoundException;
 import com.renanloureiro.feature_flags.application.exceptions.SlugAlreadyExists;
 import com.renanloureiro.feature_flags.application.exceptions.ValidationException;
 
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Traduz exceções em {@link AppError}. Erros de cliente são esperados e podem
+ * chegar em rajadas, então são logados em WARN, sem stack trace e amostrados
+ * por código; apenas erros não tratados vão para ERROR com o stack trace.
+ */
 @RestControllerAdvice
 @Slf4j
 public class GlobalExceptionHandler {
 
-  @ExceptionHandler(BaseException.class)
-  public ResponseEntity<AppError> handleBaseException(BaseException ex, WebRequest request) {
-    log.error("Erro customizado capturado: {}", ex.getMessage(), ex);
+  private static final int LOGS_PER_CODE_PER_SECOND = 10;
 
-    AppError error = AppError.builder()
-        .message(ex.getMessage())
-        .timestamp(ex.getTimestamp())
-        .status(ex.getStatus())
-        .build();
+  private final ErrorLogSampler sampler = new ErrorLogSampler(LOGS_PER_CODE_PER_SECOND, 1, TimeUnit.SECONDS);
 
-    return ResponseEntity.status(ex.getStatus()).body(error);
+  @ExceptionHandler(BaseException.class)
+  public ResponseEntity<AppError> handleBaseException(BaseException ex, WebRequest request) {
+    return businessError("Erro customizado capturado", ex);
   }
 
   @ExceptionHandler(SlugAlreadyExists.class)
   public ResponseEntity<AppError> handleSlugAlreadyExists(SlugAlreadyExists ex, WebRequest request) {
-    log.error("Slug já existe: {}", ex.getMessage(), ex);
-
-    AppError error = AppError.builder()
-        .message(ex.getMessage())
-        .timestamp(ex.getTimestamp())
-        .status(ex.getStatus())
-        .build();
-
-    return ResponseEntity.status(ex.getStatus()).body(error);
+    return businessError("Slug já existe", ex);
   }
 
   @ExceptionHandler(ValidationException.class)
   public ResponseEntity<AppError> handleValidationException(ValidationException ex, WebRequest request) {
-    log.error("Erro de validação: {}", ex.getMessage(), ex);
-
-    AppError error = AppError.builder()
-        .message(ex.getMessage())
-        .timestamp(ex.getTimestamp())
-        .status(ex.getStatus())
-        .build();
-
-    return ResponseEntity.status(ex.getStatus()).body(error);
+    return businessError("Erro de validação", ex);
   }
 
   @ExceptionHandler(ResourceNotFoundException.class)
   public ResponseEntity<AppError> handleResourceNotFoundException(ResourceNotFoundException ex, WebRequest request) {
-    log.error("Recurso não encontrado: {}", ex.getMessage(), ex);
-
-    AppError error = AppError.builder()
-        .message(ex.getMessage())
-        .timestamp(ex.getTimestamp())
-        .status(ex.getStatus())
-        .build();
-
-    return ResponseEntity.status(ex.getStatus()).body(error);
+    return businessError("Recurso não encontrado", ex);
   }
 
   @ExceptionHandler(MethodArgumentNotValidException.class)
   public ResponseEntity<AppError> handleValidationErrors(MethodArgumentNotValidException ex, WebRequest request) {
-    log.error("Erro de validação de argumentos: {}", ex.getMessage(), ex);
-
     String errorMessage = ex.getBindingResult().getFieldErrors().stream()
         .map(error -> error.getField() + ": " + error.getDefaultMessage())
         .findFirst()
-        .orElse("Erro de validação");
+        .orElse(ErrorCode.INVALID_REQUEST.getTemplate());
+    logSampled("Erro de validação de argumentos", ErrorCode.INVALID_REQUEST.name(), errorMessage, null);
 
     AppError error = AppError.builder()
         .message(errorMessage)
+        .code(ErrorCode.INVALID_REQUEST.name())
         .timestamp(LocalDateTime.now())
         .status(400)
         .build();
@@ -95,10 +75,12 @@ public class GlobalExceptionHandler {
 
   @ExceptionHandler(IllegalArgumentException.class)
   public ResponseEntity<AppError> handleIllegalArgumentException(IllegalArgumentException ex, WebRequest request) {
-    log.error("Argumento inválido: {}", ex.getMessage(), ex);
+    // não é um erro de negócio: o stack trace ajuda a achar a origem
+    logSampled("Argumento inválido", ErrorCode.INVALID_ARGUMENT.name(), ex.getMessage(), ex);
 
     AppError error = AppError.builder()
-        .message("Argumento inválido: " + ex.getMessage())
+        .message(String.format(ErrorCode.INVALID_ARGUMENT.getTemplate(), ex.getMessage()))
+        .code(ErrorCode.INVALID_ARGUMENT.name())
         .timestamp(LocalDateTime.now())
         .status(400)
         .build();
@@ -109,12 +91,13 @@ public class GlobalExceptionHandler {
   @ExceptionHandler(MethodArgumentTypeMismatchException.class)
   public ResponseEntity<AppError> handleMethodArgumentTypeMismatch(MethodArgumentTypeMismatchException ex,
       WebRequest request) {
-    log.error("Erro de tipo de argumento: {}", ex.getMessage(), ex);
+    String message = String.format(ErrorCode.INVALID_ARGUMENT.getTemplate(),
+        ex.getName() + " deve ser do tipo " + ex.getRequiredType().getSimpleName());
+    logSampled("Erro de tipo de argumento", ErrorCode.INVALID_ARGUMENT.name(), message, null);
 
-    String message = "Argumento inválido: " + ex.getName() + " deve ser do tipo "
-        + ex.getRequiredType().getSimpleName();
     AppError error = AppError.builder()
         .message(message)
+        .code(ErrorCode.INVALID_ARGUMENT.name())
         .timestamp(LocalDateTime.now())
         .status(400)
         .build();
@@ -122,13 +105,29 @@ public class GlobalExceptionHandler {
     return ResponseEntity.badRequest().body(error);
   }
 
+  @ExceptionHandler(HttpMediaTypeNotSupportedException.class)
+  public ResponseEntity<AppError> handleMediaTypeNotSupported(HttpMediaTypeNotSupportedException ex,
+      WebRequest request) {
+    String message = String.format(ErrorCode.UNSUPPORTED_MEDIA_TYPE.getTemplate(), ex.getContentType());
+    logSampled("Content-Type não suportado", ErrorCode.UNSUPPORTED_MEDIA_TYPE.name(), message, null);
+
+    AppError error = AppError.builder()
+        .message(message)
+        .code(ErrorCode.UNSUPPORTED_MEDIA_TYPE.name())
+        .timestamp(LocalDateTime.now())
+        .status(415)
+        .build();
+
+    return ResponseEntity.status(HttpStatus.UNSUPPORTED_MEDIA_TYPE).body(error);
+  }
+
   @ExceptionHandler(NoResourceFoundException.class)
   public ResponseEntity<AppError> handleNoResourceFoundException(NoResourceFoundException ex, WebRequest request) {
-    log.error("Recurso não encontrado: {}", ex.getMessage(), ex);
+    logSampled("Recurso não encontrado", ErrorCode.ENDPOINT_NOT_FOUND.name(), ex.getMessage(), null);
 
-    String message = "Endpoint não encontrado. Verifique se a URL está correta e inclui o prefixo /api";
     AppError error = AppError.builder()
-        .message(message)
+        .message(ErrorCode.ENDPOINT_NOT_FOUND.getTemplate())
+        .code(ErrorCode.ENDPOINT_NOT_FOUND.name())
         .timestamp(LocalDateTime.now())
         .status(404)
         .build();
@@ -141,11 +140,40 @@ public class GlobalExceptionHandler {
     log.error("Erro não tratado capturado: {}", ex.getMessage(), ex);
 
     AppError error = AppError.builder()
-        .message("Erro interno do servidor")
+        .message(ErrorCode.INTERNAL_ERROR.getTemplate())
+        .code(ErrorCode.INTERNAL_ERROR.name())
         .timestamp(LocalDateTime.now())
         .status(500)
         .build();
 
     return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error);
   }
-}
\ No newline at end of file
+
+  private ResponseEntity<AppError> businessError(String description, BaseException ex) {
+    logSampled(description, ex.getCode(), ex.getMessage(), null);
+
+    AppError error = AppError.builder()
+        .message(ex.getMessage())
+        .code(ex.getCode())
+        .timestamp(ex.getTimestamp())
+        .status(ex.getStatus())
+        .build();
+
+    return ResponseEntity.status(ex.getStatus()).body(error);
+  }
+
+  private void logSampled(String description, String code, String message, Throwable cause) {
+    if (!log.isWarnEnabled()) {
+      return;
+    }
+    long omitted = sampler.sample(code);
+    if (omitted < 0) {
+      return;
+    }
+    if (omitted == 0) {
+      log.warn("{} [{}]: {}", description, code, message, cause);
+    } else {
+      log.warn("{} [{}]: {} ({} ocorrências omitidas)", description, code, message, omitted, cause);
+    }
+  }
+}
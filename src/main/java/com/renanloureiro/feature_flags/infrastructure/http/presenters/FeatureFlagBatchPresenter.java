@@ -0,0 +1,33 @@
+package com.renanloureiro.feature_flags.infrastructure.http.presenters;
+
+import java.util.List;
+
+import com.renanloureiro.feature_flags.application.batch.FeatureFlagBatchItemResult;
+import com.renanloureiro.feature_flags.infrastructure.http.presenters.batch.FeatureFlagBatchItemDTO;
+import com.renanloureiro.feature_flags.infrastructure.http.presenters.batch.FeatureFlagBatchResponseDTO;
+
+public class FeatureFlagBatchPresenter {
+
+  public static FeatureFlagBatchResponseDTO toHttp(List<FeatureFlagBatchItemResult> results) {
+    List<FeatureFlagBatchItemDTO> items = results.stream()
+        .map(FeatureFlagBatchPresenter::toHttp)
+        .toList();
+    int created = (int) results.stream().filter(FeatureFlagBatchItemResult::isCreated).count();
+
+    return FeatureFlagBatchResponseDTO.builder()
+        .created(created)
+        .failed(results.size() - created)
+        .items(items)
+        .build();
+  }
+
+  public static FeatureFlagBatchItemDTO toHttp(FeatureFlagBatchItemResult result) {
+    return FeatureFlagBatchItemDTO.builder()
+        .index(result.getIndex())
+        .slug(result.getSlug())
+        .status(result.getStatus())
+        .flag(result.isCreated() ? FeatureFlagPresenter.toHttp(result.getFlag()) : null)
+        .error(result.getError())
+        .build();
+  }
+}
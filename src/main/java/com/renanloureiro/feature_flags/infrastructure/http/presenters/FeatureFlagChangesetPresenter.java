@@ -0,0 +1,15 @@
+package com.renanloureiro.feature_flags.infrastructure.http.presenters;
+
+import java.util.List;
+
+import com.renanloureiro.feature_flags.domain.FeatureFlagValue;
+import com.renanloureiro.feature_flags.infrastructure.http.presenters.changeset.FeatureFlagChangesetResponseDTO;
+
+public class FeatureFlagChangesetPresenter {
+
+  public static FeatureFlagChangesetResponseDTO toHttp(List<FeatureFlagValue> featureFlagValues) {
+    return FeatureFlagChangesetResponseDTO.builder()
+        .values(featureFlagValues.stream().map(FeatureFlagValuePresenter::toHttp).toList())
+        .build();
+  }
+}
@@ -0,0 +1,47 @@
+package com.renanloureiro.feature_flags.infrastructure.http.presenters;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.renanloureiro.feature_flags.application.snapshot.FeatureFlagSnapshotEntry;
+import com.renanloureiro.feature_flags.domain.FeatureFlagValue;
+import com.renanloureiro.feature_flags.infrastructure.http.presenters.evaluation.FeatureFlagEvaluationDTO;
+import com.renanloureiro.feature_flags.infrastructure.http.presenters.evaluation.FeatureFlagEvaluationResponseDTO;
+
+public class FeatureFlagEvaluationPresenter {
+
+  public static FeatureFlagEvaluationResponseDTO toHttp(List<String> requestedSlugs,
+      List<FeatureFlagSnapshotEntry> entries) {
+    List<FeatureFlagEvaluationDTO> flags = new ArrayList<>(entries.size());
+    Set<String> foundSlugs = new HashSet<>(entries.size() * 2);
+    for (FeatureFlagSnapshotEntry entry : entries) {
+      flags.add(toHttp(entry));
+      foundSlugs.add(entry.getFlag().getSlug());
+    }
+
+    List<String> missing = new ArrayList<>();
+    for (String slug : new LinkedHashSet<>(requestedSlugs)) {
+      if (!foundSlugs.contains(slug)) {
+        missing.add(slug);
+      }
+    }
+
+    return FeatureFlagEvaluationResponseDTO.builder()
+        .flags(flags)
+        .missing(missing)
+        .build();
+  }
+
+  public static FeatureFlagEvaluationDTO toHttp(FeatureFlagSnapshotEntry entry) {
+    FeatureFlagValue value = entry.getCurrentValue();
+    return FeatureFlagEvaluationDTO.builder()
+        .slug(entry.getFlag().getSlug())
+        .type(entry.getFlag().getType())
+        .version(value != null ? value.getVersion() : null)
+        .value(value != null ? value.getValue() : null)
+        .build();
+  }
+}
@@ -16,4 +16,17 @@ public class FeatureFlagPresenter {
         .build();
   }
 
+  /**
+   * Representação sem o schema, para listagens em que ele não é necessário
+   */
+  public static FeatureFlagResponseDTO toSummaryHttp(FeatureFlag featureFlag) {
+    return FeatureFlagResponseDTO.builder()
+        .id(featureFlag.getId())
+        .name(featureFlag.getName())
+        .slug(featureFlag.getSlug())
+        .type(featureFlag.getType())
+        .description(featureFlag.getDescription())
+        .build();
+  }
+
 }
@@ -0,0 +1,31 @@
+package com.renanloureiro.feature_flags.infrastructure.http.presenters;
+
+import java.util.List;
+
+import com.renanloureiro.feature_flags.application.snapshot.FeatureFlagSnapshotEntry;
+import com.renanloureiro.feature_flags.application.sync.FeatureFlagSyncResult;
+import com.renanloureiro.feature_flags.infrastructure.http.presenters.sync.FeatureFlagSyncItemDTO;
+import com.renanloureiro.feature_flags.infrastructure.http.presenters.sync.FeatureFlagSyncResponseDTO;
+
+public class FeatureFlagSyncPresenter {
+
+  public static FeatureFlagSyncResponseDTO toHttp(FeatureFlagSyncResult result) {
+    List<FeatureFlagSyncItemDTO> items = result.getEntries().stream()
+        .map(FeatureFlagSyncPresenter::toHttp)
+        .toList();
+
+    return FeatureFlagSyncResponseDTO.builder()
+        .revision(result.getRevision())
+        .full(result.isFull())
+        .items(items)
+        .build();
+  }
+
+  public static FeatureFlagSyncItemDTO toHttp(FeatureFlagSnapshotEntry entry) {
+    return FeatureFlagSyncItemDTO.builder()
+        .flag(FeatureFlagPresenter.toHttp(entry.getFlag()))
+        .value(entry.getCurrentValue() != null ? FeatureFlagValuePresenter.toHttp(entry.getCurrentValue()) : null)
+        .revision(entry.getRevision())
+        .build();
+  }
+}
@@ -0,0 +1,86 @@
+package com.renanloureiro.feature_flags.infrastructure.http.presenters;
+
+import java.io.ByteArrayOutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.renanloureiro.feature_flags.application.pagination.FeatureFlagPage;
+import com.renanloureiro.feature_flags.domain.FeatureFlag;
+import com.renanloureiro.feature_flags.domain.FeatureFlagValue;
+
+/**
+ * Guarda o JSON já serializado das respostas de leitura. As chaves são as
+ * instâncias imutáveis do snapshot, comparadas por identidade e mantidas por
+ * referência fraca: uma flag alterada gera uma nova instância e a entrada
+ * antiga é descartada pelo GC junto com o snapshot que a referenciava.
+ */
+@Component
+public class SerializedResponseCache {
+
+  private static final byte[] ITEMS_FIELD = "{\"items\":[".getBytes(StandardCharsets.UTF_8);
+
+  private static final byte[] NEXT_CURSOR_FIELD = "],\"nextCursor\":".getBytes(StandardCharsets.UTF_8);
+
+  private final ObjectMapper objectMapper;
+
+  private final Cache<FeatureFlag, byte[]> flags = Caffeine.newBuilder().weakKeys().build();
+
+  private final Cache<FeatureFlag, byte[]> summaries = Caffeine.newBuilder().weakKeys().build();
+
+  private final Cache<FeatureFlagValue, byte[]> values = Caffeine.newBuilder().weakKeys().build();
+
+  public SerializedResponseCache(ObjectMapper objectMapper) {
+    this.objectMapper = objectMapper;
+  }
+
+  public byte[] flag(FeatureFlag featureFlag) {
+    return flags.get(featureFlag, key -> serialize(FeatureFlagPresenter.toHttp(key)));
+  }
+
+  /**
+   * JSON da flag sem o schema, usado na listagem resumida
+   */
+  public byte[] summary(FeatureFlag featureFlag) {
+    return summaries.get(featureFlag, key -> serialize(FeatureFlagPresenter.toSummaryHttp(key)));
+  }
+
+  public byte[] value(FeatureFlagValue featureFlagValue) {
+    return values.get(featureFlagValue, key -> serialize(FeatureFlagValuePresenter.toHttp(key)));
+  }
+
+  /**
+   * Monta a página concatenando o JSON já serializado de cada flag, de modo
+   * que só as flags que de fato mudaram são serializadas novamente. Sem o
+   * schema, cada item usa a forma resumida da flag.
+   */
+  public byte[] page(FeatureFlagPage page, boolean includeSchema) {
+    List<FeatureFlag> featureFlags = page.getItems();
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    out.writeBytes(ITEMS_FIELD);
+    for (int i = 0; i < featureFlags.size(); i++) {
+      if (i > 0) {
+        out.write(',');
+      }
+      out.writeBytes(includeSchema ? flag(featureFlags.get(i)) : summary(featureFlags.get(i)));
+    }
+    out.writeBytes(NEXT_CURSOR_FIELD);
+    out.writeBytes(serialize(page.getNextCursor()));
+    out.write('}');
+    return out.toByteArray();
+  }
+
+  private byte[] serialize(Object response) {
+    try {
+      return objectMapper.writeValueAsBytes(response);
+    } catch (JsonProcessingException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -0,0 +1,29 @@
+package com.renanloureiro.feature_flags.infrastructure.http.presenters.batch;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.renanloureiro.feature_flags.infrastructure.http.presenters.featureflag.FeatureFlagResponseDTO;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Resultado de um item da criação em lote")
+public class FeatureFlagBatchItemDTO {
+  @Schema(description = "Posição do item na requisição", example = "0")
+  private int index;
+
+  @Schema(description = "Slug gerado a partir do nome", example = "dark-mode")
+  private String slug;
+
+  @Schema(description = "Status HTTP equivalente ao da criação individual", example = "201")
+  private int status;
+
+  @Schema(description = "Feature flag criada, presente quando status é 201")
+  private FeatureFlagResponseDTO flag;
+
+  @Schema(description = "Motivo da falha, presente quando o item não foi criado")
+  private String error;
+}
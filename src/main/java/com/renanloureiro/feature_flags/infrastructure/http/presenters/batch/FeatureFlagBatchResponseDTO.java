@@ -0,0 +1,21 @@
+package com.renanloureiro.feature_flags.infrastructure.http.presenters.batch;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+@Schema(description = "DTO de resposta da criação em lote")
+public class FeatureFlagBatchResponseDTO {
+  @Schema(description = "Quantidade de flags criadas", example = "2")
+  private int created;
+
+  @Schema(description = "Quantidade de itens que falharam", example = "1")
+  private int failed;
+
+  @Schema(description = "Resultado de cada item, na ordem da requisição")
+  private List<FeatureFlagBatchItemDTO> items;
+}
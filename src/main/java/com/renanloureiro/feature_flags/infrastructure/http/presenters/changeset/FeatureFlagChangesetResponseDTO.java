@@ -0,0 +1,17 @@
+package com.renanloureiro.feature_flags.infrastructure.http.presenters.changeset;
+
+import java.util.List;
+
+import com.renanloureiro.feature_flags.infrastructure.http.presenters.featureFlagValue.FeatureFlagValueResponseDTO;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+@Schema(description = "DTO de resposta da publicação de um changeset")
+public class FeatureFlagChangesetResponseDTO {
+  @Schema(description = "Valores publicados, na ordem da requisição")
+  private List<FeatureFlagValueResponseDTO> values;
+}
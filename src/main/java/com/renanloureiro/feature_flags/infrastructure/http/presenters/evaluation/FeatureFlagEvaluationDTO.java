@@ -0,0 +1,16 @@
+package com.renanloureiro.feature_flags.infrastructure.http.presenters.evaluation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.renanloureiro.feature_flags.domain.FeatureFlagType;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class FeatureFlagEvaluationDTO {
+  private String slug;
+  private FeatureFlagType type;
+  private Integer version;
+  private JsonNode value;
+}
@@ -0,0 +1,13 @@
+package com.renanloureiro.feature_flags.infrastructure.http.presenters.evaluation;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class FeatureFlagEvaluationResponseDTO {
+  private List<FeatureFlagEvaluationDTO> flags;
+  private List<String> missing;
+}
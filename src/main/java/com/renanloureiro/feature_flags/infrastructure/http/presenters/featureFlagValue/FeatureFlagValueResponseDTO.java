@@ -2,19 +2,38 @@ package com.renanloureiro.feature_flags.infrastructure.http.presenters.featureFl
 
 import java.util.UUID;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.annotation.JsonRawValue;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.renanloureiro.feature_flags.domain.FeatureFlagType;
 
 import lombok.Builder;
 import lombok.Data;
 
+import io.swagger.v3.oas.annotations.media.Schema;
+
 @Data
 @Builder
+@JsonPropertyOrder({ "id", "flagId", "version", "type", "value", "valueAsString" })
 public class FeatureFlagValueResponseDTO {
   private UUID id;
   private UUID flagId;
   private int version;
   private FeatureFlagType type;
+  @JsonIgnore
   private JsonNode value;
   private String valueAsString;
-}
\ No newline at end of file
+
+  /**
+   * Escreve o valor a partir do JSON já gerado para valueAsString, evitando
+   * serializar a árvore duas vezes
+   */
+  @JsonProperty("value")
+  @JsonRawValue
+  @Schema(name = "value", implementation = Object.class)
+  public String getRawValue() {
+    return valueAsString;
+  }
+}
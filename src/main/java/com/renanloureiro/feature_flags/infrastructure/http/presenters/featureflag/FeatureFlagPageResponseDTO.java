@@ -0,0 +1,19 @@
+package com.renanloureiro.feature_flags.infrastructure.http.presenters.featureflag;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Data;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Data
+@Builder
+@Schema(description = "Página de feature flags ordenada por slug")
+public class FeatureFlagPageResponseDTO {
+  @Schema(description = "Feature flags da página")
+  private List<FeatureFlagResponseDTO> items;
+
+  @Schema(description = "Cursor para a próxima página, enviado em after; nulo na última página", example = "dark-mode", nullable = true)
+  private String nextCursor;
+}
@@ -2,6 +2,7 @@ package com.renanloureiro.feature_flags.infrastructure.http.presenters.featurefl
 
 import java.util.UUID;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.renanloureiro.feature_flags.domain.FeatureFlagType;
 
@@ -26,7 +27,8 @@ public class FeatureFlagResponseDTO {
   @Schema(description = "Tipo da feature flag", example = "BOOLEAN")
   private FeatureFlagType type;
 
-  @Schema(description = "Schema JSON da feature flag")
+  @Schema(description = "Schema JSON da feature flag; omitido na listagem com includeSchema=false", nullable = true)
+  @JsonInclude(JsonInclude.Include.NON_NULL)
   private JsonNode schema;
 
   @Schema(description = "Descrição da feature flag", example = "Habilita a nova interface do usuário")
@@ -0,0 +1,22 @@
+package com.renanloureiro.feature_flags.infrastructure.http.presenters.sync;
+
+import com.renanloureiro.feature_flags.infrastructure.http.presenters.featureFlagValue.FeatureFlagValueResponseDTO;
+import com.renanloureiro.feature_flags.infrastructure.http.presenters.featureflag.FeatureFlagResponseDTO;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+@Schema(description = "Feature flag alterada com seu valor vigente")
+public class FeatureFlagSyncItemDTO {
+  @Schema(description = "Feature flag")
+  private FeatureFlagResponseDTO flag;
+
+  @Schema(description = "Valor vigente, nulo quando nenhum valor foi publicado", nullable = true)
+  private FeatureFlagValueResponseDTO value;
+
+  @Schema(description = "Revisão global da última escrita na flag ou em seus valores", example = "1042")
+  private long revision;
+}
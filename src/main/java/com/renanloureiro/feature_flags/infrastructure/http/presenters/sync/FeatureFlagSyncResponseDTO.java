@@ -0,0 +1,21 @@
+package com.renanloureiro.feature_flags.infrastructure.http.presenters.sync;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+@Schema(description = "DTO de resposta da sincronização incremental")
+public class FeatureFlagSyncResponseDTO {
+  @Schema(description = "Revisão de cabeça, a ser enviada como since na próxima chamada", example = "1042")
+  private long revision;
+
+  @Schema(description = "Indica que a revisão pedida foi compactada e items contém o catálogo inteiro")
+  private boolean full;
+
+  @Schema(description = "Flags alteradas em ordem crescente de revisão")
+  private List<FeatureFlagSyncItemDTO> items;
+}
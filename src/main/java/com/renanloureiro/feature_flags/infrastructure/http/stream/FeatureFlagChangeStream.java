@@ -0,0 +1,212 @@
+package com.renanloureiro.feature_flags.infrastructure.http.stream;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.renanloureiro.feature_flags.application.events.FeatureFlagSnapshotUpdatedEvent;
+import com.renanloureiro.feature_flags.infrastructure.cluster.ClusterNode;
+import com.renanloureiro.feature_flags.infrastructure.http.presenters.FeatureFlagEvaluationPresenter;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Distribui as alterações de feature flags para as conexões SSE desta
+ * instância.
+ *
+ * Conexões ociosas não ocupam threads: cada assinante tem uma fila limitada
+ * esvaziada sob demanda por uma virtual thread. Um assinante cuja fila enche é
+ * desconectado, sem bloquear quem publica, e pode retomar pelo
+ * {@code Last-Event-ID} enquanto o evento ainda estiver no buffer circular.
+ */
+@Slf4j
+@Component
+public class FeatureFlagChangeStream implements DisposableBean {
+
+  static final String CHANGE_EVENT = "flag-changed";
+
+  static final String READY_EVENT = "ready";
+
+  static final String RESET_EVENT = "reset";
+
+  private final ObjectMapper objectMapper;
+
+  private final String idPrefix;
+
+  private final int bufferSize;
+
+  private final int queueCapacity;
+
+  private final long timeoutMillis;
+
+  private final ArrayDeque<StreamEvent> buffer;
+
+  private final Set<StreamSubscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+  private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+
+  private final ScheduledExecutorService heartbeats = Executors.newSingleThreadScheduledExecutor(
+      Thread.ofPlatform().name("ff-stream-heartbeat").daemon().factory());
+
+  private final Set<DataWithMediaType> heartbeat = SseEmitter.event().comment("heartbeat").build();
+
+  private long sequence;
+
+  public FeatureFlagChangeStream(ObjectMapper objectMapper, ClusterNode clusterNode,
+      @Value("${feature-flags.stream.buffer-size:1024}") int bufferSize,
+      @Value("${feature-flags.stream.queue-capacity:64}") int queueCapacity,
+      @Value("${feature-flags.stream.timeout:30m}") Duration timeout,
+      @Value("${feature-flags.stream.heartbeat-interval:15s}") Duration heartbeatInterval) {
+    this.objectMapper = objectMapper;
+    this.idPrefix = clusterNode.getId() + "-";
+    this.bufferSize = bufferSize;
+    this.queueCapacity = queueCapacity;
+    this.timeoutMillis = timeout.toMillis();
+    this.buffer = new ArrayDeque<>(bufferSize);
+
+    long interval = heartbeatInterval.toMillis();
+    heartbeats.scheduleAtFixedRate(this::sendHeartbeat, interval, interval, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Registra uma nova conexão. Com um {@code Last-Event-ID} conhecido, os
+   * eventos perdidos são reenviados; caso contrário, ou quando eles não cabem na
+   * fila da conexão, o cliente recebe {@value #RESET_EVENT} e deve recarregar as
+   * flags.
+   */
+  public SseEmitter subscribe(String lastEventId) {
+    SseEmitter emitter = new SseEmitter(timeoutMillis);
+    StreamSubscriber subscriber = new StreamSubscriber(emitter, queueCapacity, senders);
+    emitter.onCompletion(() -> subscribers.remove(subscriber));
+    emitter.onTimeout(() -> subscribers.remove(subscriber));
+    emitter.onError(error -> subscribers.remove(subscriber));
+
+    synchronized (this) {
+      for (Set<DataWithMediaType> event : backlog(lastEventId)) {
+        subscriber.offer(event);
+      }
+      subscribers.add(subscriber);
+    }
+
+    log.debug("Nova conexão SSE, {} conexões ativas", subscribers.size());
+    return emitter;
+  }
+
+  @EventListener
+  public void onSnapshotUpdated(FeatureFlagSnapshotUpdatedEvent event) {
+    String data = serialize(FeatureFlagEvaluationPresenter.toHttp(event.getEntry()));
+
+    synchronized (this) {
+      sequence++;
+      StreamEvent streamEvent = new StreamEvent(sequence, build(CHANGE_EVENT, sequence, data));
+      if (buffer.size() == bufferSize) {
+        buffer.removeFirst();
+      }
+      buffer.addLast(streamEvent);
+
+      for (StreamSubscriber subscriber : subscribers) {
+        if (!subscriber.offer(streamEvent.payload())) {
+          drop(subscriber);
+        }
+      }
+    }
+  }
+
+  public int getSubscriberCount() {
+    return subscribers.size();
+  }
+
+  @Override
+  public void destroy() {
+    heartbeats.shutdownNow();
+    subscribers.forEach(StreamSubscriber::close);
+    senders.shutdown();
+  }
+
+  /**
+   * Eventos a enviar para uma nova conexão, calculados sob o mesmo lock da
+   * publicação para não perder nem duplicar eventos
+   */
+  private List<Set<DataWithMediaType>> backlog(String lastEventId) {
+    if (lastEventId == null || lastEventId.isBlank()) {
+      return List.of(build(READY_EVENT, sequence, ""));
+    }
+
+    long lastSequence = parseSequence(lastEventId);
+    long oldest = buffer.isEmpty() ? sequence + 1 : buffer.peekFirst().sequence();
+    if (lastSequence < 0 || lastSequence > sequence || lastSequence < oldest - 1) {
+      log.debug("Last-Event-ID {} fora do buffer, solicitando recarga ao cliente", lastEventId);
+      return List.of(build(RESET_EVENT, sequence, ""));
+    }
+
+    List<Set<DataWithMediaType>> missed = new ArrayList<>();
+    for (StreamEvent event : buffer) {
+      if (event.sequence() > lastSequence) {
+        missed.add(event.payload());
+      }
+    }
+    if (missed.size() > queueCapacity) {
+      log.debug("{} eventos perdidos não cabem na fila da conexão, solicitando recarga ao cliente", missed.size());
+      return List.of(build(RESET_EVENT, sequence, ""));
+    }
+    return missed;
+  }
+
+  private long parseSequence(String eventId) {
+    if (!eventId.startsWith(idPrefix)) {
+      return -1;
+    }
+    try {
+      return Long.parseLong(eventId.substring(idPrefix.length()));
+    } catch (NumberFormatException e) {
+      return -1;
+    }
+  }
+
+  private Set<DataWithMediaType> build(String name, long eventSequence, String data) {
+    return SseEmitter.event()
+        .id(idPrefix + eventSequence)
+        .name(name)
+        .data(data)
+        .build();
+  }
+
+  private void drop(StreamSubscriber subscriber) {
+    log.warn("Conexão SSE lenta desconectada após {} eventos pendentes", queueCapacity);
+    subscribers.remove(subscriber);
+    subscriber.close();
+  }
+
+  private void sendHeartbeat() {
+    for (StreamSubscriber subscriber : subscribers) {
+      subscriber.offer(heartbeat);
+    }
+  }
+
+  private String serialize(Object data) {
+    try {
+      return objectMapper.writeValueAsString(data);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Failed to serialize feature flag change", e);
+    }
+  }
+
+  private record StreamEvent(long sequence, Set<DataWithMediaType> payload) {
+  }
+}
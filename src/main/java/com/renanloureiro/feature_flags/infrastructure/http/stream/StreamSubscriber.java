@@ -0,0 +1,82 @@
+package com.renanloureiro.feature_flags.infrastructure.http.stream;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Uma conexão SSE com sua fila de eventos pendentes. A escrita no socket
+ * acontece fora da thread que publica, em uma virtual thread que só existe
+ * enquanto houver eventos na fila.
+ */
+class StreamSubscriber {
+
+  private final SseEmitter emitter;
+
+  private final BlockingQueue<Set<DataWithMediaType>> queue;
+
+  private final Executor executor;
+
+  private final AtomicBoolean draining = new AtomicBoolean();
+
+  private volatile boolean closed;
+
+  StreamSubscriber(SseEmitter emitter, int capacity, Executor executor) {
+    this.emitter = emitter;
+    this.queue = new ArrayBlockingQueue<>(capacity);
+    this.executor = executor;
+  }
+
+  /**
+   * Enfileira um evento sem bloquear. Retorna {@code false} se a fila estiver
+   * cheia.
+   */
+  boolean offer(Set<DataWithMediaType> event) {
+    if (closed) {
+      return true;
+    }
+    if (!queue.offer(event)) {
+      return false;
+    }
+    if (draining.compareAndSet(false, true)) {
+      executor.execute(this::drain);
+    }
+    return true;
+  }
+
+  /**
+   * Encerra a conexão em uma virtual thread, já que {@link SseEmitter} pode
+   * estar bloqueado em uma escrita lenta
+   */
+  void close() {
+    closed = true;
+    queue.clear();
+    executor.execute(emitter::complete);
+  }
+
+  private void drain() {
+    try {
+      while (!closed) {
+        Set<DataWithMediaType> event = queue.poll();
+        if (event == null) {
+          draining.set(false);
+          if (queue.isEmpty() || !draining.compareAndSet(false, true)) {
+            return;
+          }
+          continue;
+        }
+        emitter.send(event);
+      }
+    } catch (IOException | IllegalStateException e) {
+      closed = true;
+      queue.clear();
+      emitter.completeWithError(e);
+    }
+  }
+}
@@ -0,0 +1,97 @@
+package com.renanloureiro.feature_flags.infrastructure.outbox;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.renanloureiro.feature_flags.application.usecases.DispatchFeatureFlagOutbox;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Esvazia o outbox periodicamente, lote a lote, até encontrá-lo vazio ou
+ * atingir o limite de lotes por execução. Várias instâncias podem rodar o relay
+ * ao mesmo tempo: cada uma bloqueia lotes diferentes. Falhas são registradas e
+ * o lote é entregue novamente na próxima execução.
+ *
+ * Após uma falha o relay espera um intervalo crescente e passa a entregar uma
+ * alteração por vez, até a primeira entrega bem-sucedida. Cada nova falha nesse
+ * modo conta uma tentativa para a alteração isolada, que é descartada ao
+ * esgotar as tentativas em vez de bloquear as alterações seguintes da flag.
+ */
+@Slf4j
+@Component
+public class FeatureFlagOutboxRelay {
+
+  private final DispatchFeatureFlagOutbox dispatchFeatureFlagOutbox;
+
+  private final int batchSize;
+
+  private final int maxBatchesPerRun;
+
+  private final int maxAttempts;
+
+  private final long pollIntervalMillis;
+
+  private final long maxBackoffMillis;
+
+  // acessados apenas pela thread do agendador
+  private int consecutiveFailures;
+
+  private long retryAt;
+
+  public FeatureFlagOutboxRelay(DispatchFeatureFlagOutbox dispatchFeatureFlagOutbox,
+      @Value("${feature-flags.outbox.batch-size:500}") int batchSize,
+      @Value("${feature-flags.outbox.max-batches-per-run:100}") int maxBatchesPerRun,
+      @Value("${feature-flags.outbox.max-attempts:20}") int maxAttempts,
+      @Value("${feature-flags.outbox.poll-interval:100ms}") Duration pollInterval,
+      @Value("${feature-flags.outbox.max-backoff:30s}") Duration maxBackoff) {
+    this.dispatchFeatureFlagOutbox = dispatchFeatureFlagOutbox;
+    this.batchSize = batchSize;
+    this.maxBatchesPerRun = maxBatchesPerRun;
+    this.maxAttempts = maxAttempts;
+    this.pollIntervalMillis = pollInterval.toMillis();
+    this.maxBackoffMillis = maxBackoff.toMillis();
+  }
+
+  @Scheduled(fixedDelayString = "${feature-flags.outbox.poll-interval:100ms}")
+  public void run() {
+    if (System.currentTimeMillis() < retryAt) {
+      return;
+    }
+
+    try {
+      int dispatched = 0;
+      for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+        int size = consecutiveFailures > 0 ? 1 : batchSize;
+        int dispatchedInBatch = dispatchFeatureFlagOutbox.execute(size, maxAttempts);
+        consecutiveFailures = 0;
+        dispatched += dispatchedInBatch;
+        if (dispatchedInBatch < size) {
+          break;
+        }
+      }
+      if (dispatched > 0) {
+        log.debug("{} alterações entregues a partir do outbox", dispatched);
+      }
+    } catch (RuntimeException e) {
+      onFailure(e);
+    }
+  }
+
+  private void onFailure(RuntimeException failure) {
+    if (consecutiveFailures > 0) {
+      try {
+        dispatchFeatureFlagOutbox.recordFailedAttempt();
+      } catch (RuntimeException e) {
+        log.debug("Falha ao registrar a tentativa de entrega do outbox: {}", e.getMessage());
+      }
+    }
+    consecutiveFailures++;
+    long backoff = Math.min(maxBackoffMillis, pollIntervalMillis << Math.min(consecutiveFailures - 1, 20));
+    retryAt = System.currentTimeMillis() + backoff;
+    log.warn("Falha ao entregar as alterações do outbox, nova tentativa em {} ms", backoff, failure);
+  }
+}
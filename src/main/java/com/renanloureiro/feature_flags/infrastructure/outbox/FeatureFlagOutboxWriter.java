@@ -0,0 +1,47 @@
+package com.renanloureiro.feature_flags.infrastructure.outbox;
+
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.renanloureiro.feature_flags.application.events.FeatureFlagChangedEvent;
+import com.renanloureiro.feature_flags.application.events.FeatureFlagsChangedEvent;
+import com.renanloureiro.feature_flags.application.repositories.FeatureFlagOutboxRepository;
+import com.renanloureiro.feature_flags.domain.FeatureFlagOutboxEntry;
+import com.renanloureiro.feature_flags.infrastructure.cluster.ClusterNode;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Grava no outbox as alterações publicadas pelos casos de uso. Roda antes do
+ * commit, na mesma transação da alteração: ou ambas são persistidas, ou
+ * nenhuma.
+ */
+@Component
+@RequiredArgsConstructor
+public class FeatureFlagOutboxWriter {
+
+  private final FeatureFlagOutboxRepository featureFlagOutboxRepository;
+  private final ClusterNode clusterNode;
+
+  @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+  public void onFeatureFlagChanged(FeatureFlagChangedEvent event) {
+    featureFlagOutboxRepository.saveAll(List.of(toEntry(event)));
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+  public void onFeatureFlagsChanged(FeatureFlagsChangedEvent event) {
+    featureFlagOutboxRepository.saveAll(event.getChanges().stream().map(this::toEntry).toList());
+  }
+
+  private FeatureFlagOutboxEntry toEntry(FeatureFlagChangedEvent event) {
+    return FeatureFlagOutboxEntry.builder()
+        .flagId(event.getFlagId())
+        .slug(event.getSlug())
+        .valueId(event.getValue() != null ? event.getValue().getId() : null)
+        .originNodeId(clusterNode.getId())
+        .build();
+  }
+}
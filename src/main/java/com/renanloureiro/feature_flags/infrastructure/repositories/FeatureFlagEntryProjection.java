@@ -0,0 +1,75 @@
+package com.renanloureiro.feature_flags.infrastructure.repositories;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.renanloureiro.feature_flags.application.snapshot.FeatureFlagSnapshotEntry;
+import com.renanloureiro.feature_flags.domain.FeatureFlag;
+import com.renanloureiro.feature_flags.domain.FeatureFlagType;
+import com.renanloureiro.feature_flags.domain.FeatureFlagValue;
+
+/**
+ * Colunas de uma flag e do seu valor vigente lidas como escalares. Ao contrário
+ * da seleção das entidades, nada passa pelo contexto de persistência: não há
+ * registro das instâncias, cópia do estado carregado para o dirty checking nem
+ * cópia dos campos jsonb. As colunas do valor são nulas quando nenhum valor foi
+ * publicado.
+ */
+public record FeatureFlagEntryProjection(
+    UUID id,
+    String name,
+    String slug,
+    FeatureFlagType type,
+    JsonNode schema,
+    String description,
+    LocalDateTime createdAt,
+    LocalDateTime updatedAt,
+    Long flagRevision,
+    UUID valueId,
+    JsonNode value,
+    Integer version,
+    String updatedBy,
+    LocalDateTime valueCreatedAt,
+    LocalDateTime valueUpdatedAt,
+    Long valueRevision,
+    Long revision) {
+
+  public FeatureFlagSnapshotEntry toEntry() {
+    FeatureFlag flag = FeatureFlag.builder()
+        .id(id)
+        .name(name)
+        .slug(slug)
+        .type(type)
+        .schema(schema)
+        .description(description)
+        .createdAt(createdAt)
+        .updatedAt(updatedAt)
+        .revision(flagRevision)
+        .build();
+
+    FeatureFlagValue currentValue = valueId == null ? null
+        : FeatureFlagValue.builder()
+            .id(valueId)
+            .flag(flag)
+            .value(value)
+            .version(version)
+            .updatedBy(updatedBy)
+            .createdAt(valueCreatedAt)
+            .updatedAt(valueUpdatedAt)
+            .revision(valueRevision)
+            .build();
+
+    return new FeatureFlagSnapshotEntry(flag, currentValue, revision);
+  }
+
+  public static List<FeatureFlagSnapshotEntry> toEntries(List<FeatureFlagEntryProjection> projections) {
+    List<FeatureFlagSnapshotEntry> entries = new ArrayList<>(projections.size());
+    for (FeatureFlagEntryProjection projection : projections) {
+      entries.add(projection.toEntry());
+    }
+    return entries;
+  }
+}
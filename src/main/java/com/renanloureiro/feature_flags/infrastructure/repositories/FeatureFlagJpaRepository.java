@@ -1,25 +1,200 @@
 package com.renanloureiro.feature_flags.infrastructure.repositories;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.renanloureiro.feature_flags.application.cache.CacheNames;
 import com.renanloureiro.feature_flags.application.repositories.FeatureFlagRepository;
+import com.renanloureiro.feature_flags.application.snapshot.FeatureFlagSnapshotEntry;
 import com.renanloureiro.feature_flags.domain.FeatureFlag;
+import com.renanloureiro.feature_flags.domain.FeatureFlagType;
 
 @Repository
 public interface FeatureFlagJpaRepository extends JpaRepository<FeatureFlag, UUID>, FeatureFlagRepository {
 
+  /**
+   * Leituras que alimentam o snapshot selecionam colunas em vez de entidades;
+   * ver {@link FeatureFlagEntryProjection}. O último argumento é a revisão da
+   * entrada.
+   */
+  String SELECT_ENTRY = "select new com.renanloureiro.feature_flags.infrastructure.repositories.FeatureFlagEntryProjection("
+      + "f.id, f.name, f.slug, f.type, f.schema, f.description, f.createdAt, f.updatedAt, f.revision, "
+      + "v.id, v.value, v.version, v.updatedBy, v.createdAt, v.updatedAt, v.revision, ";
+
+  String ENTRY_REVISION = "coalesce(greatest(f.revision, v.revision), 0L)) ";
+
+  String FROM_ENTRY = "from FeatureFlag f left join FeatureFlagCurrentValue c on c.flagId = f.id "
+      + "left join c.value v ";
+
   @Override
   Optional<FeatureFlag> findBySlug(String slug);
 
+
+  @Override
+  default Optional<FeatureFlag> insertIfSlugAvailable(FeatureFlag featureFlag) {
+    if (featureFlag.getId() == null) {
+      featureFlag.setId(UUID.randomUUID());
+    }
+    LocalDateTime now = LocalDateTime.now();
+    featureFlag.setCreatedAt(now);
+    featureFlag.setUpdatedAt(now);
+
+    return insertIgnoringSlugConflict(featureFlag.getId(), featureFlag.getSlug(), featureFlag.getName(),
+        featureFlag.getType().name(), featureFlag.getSchema().toString(), featureFlag.getDescription(), now)
+        .map(revision -> {
+          featureFlag.setRevision(revision);
+          return featureFlag;
+        });
+  }
+
+  /**
+   * {@code ON CONFLICT DO NOTHING} não devolve linha quando o slug já existe,
+   * sem erro e sem abortar a transação.
+   *
+   * Sem {@code @Modifying} de propósito: o {@code RETURNING} devolve um result
+   * set, e {@code @Modifying} executa com {@code executeUpdate}, que o driver
+   * do Postgres rejeita quando recebe linhas ("A result was returned when none
+   * was expected"). A escrita roda como consulta; o Hibernate descarrega o
+   * contexto antes de uma consulta nativa, e o {@code @Transactional} sem
+   * {@code readOnly} substitui o padrão somente leitura dos métodos de
+   * repositório. Os demais {@code INSERT ... RETURNING} dos repositórios seguem
+   * a mesma regra.
+   */
+  @Transactional
+  @Query(value = "insert into feature_flags (id, slug, name, type, schema, description, created_at, updated_at) "
+      + "values (:id, :slug, :name, :type, cast(:schema as jsonb), cast(:description as text), :now, :now) "
+      + "on conflict (slug) do nothing returning revision", nativeQuery = true)
+  Optional<Long> insertIgnoringSlugConflict(@Param("id") UUID id, @Param("slug") String slug,
+      @Param("name") String name, @Param("type") String type, @Param("schema") String schema,
+      @Param("description") String description, @Param("now") LocalDateTime now);
+
+  @Override
+  default List<FeatureFlag> insertAllIfSlugsAvailable(List<FeatureFlag> featureFlags) {
+    LocalDateTime now = LocalDateTime.now();
+    ArrayNode rows = JsonNodeFactory.instance.arrayNode(featureFlags.size());
+    Map<UUID, FeatureFlag> byId = new HashMap<>();
+    for (FeatureFlag featureFlag : featureFlags) {
+      if (featureFlag.getId() == null) {
+        featureFlag.setId(UUID.randomUUID());
+      }
+      featureFlag.setCreatedAt(now);
+      featureFlag.setUpdatedAt(now);
+      byId.put(featureFlag.getId(), featureFlag);
+      rows.addObject()
+          .put("id", featureFlag.getId().toString())
+          .put("slug", featureFlag.getSlug())
+          .put("name", featureFlag.getName())
+          .put("type", featureFlag.getType().name())
+          .put("description", featureFlag.getDescription())
+          .set("schema", featureFlag.getSchema());
+    }
+
+    List<FeatureFlag> inserted = new ArrayList<>();
+    for (Object[] row : insertAllIgnoringSlugConflicts(rows.toString(), now)) {
+      FeatureFlag featureFlag = byId.get((UUID) row[0]);
+      featureFlag.setRevision(((Number) row[1]).longValue());
+      inserted.add(featureFlag);
+    }
+    return inserted;
+  }
+
+  /**
+   * As linhas chegam como um único array JSON, então o lote inteiro é um comando
+   * só, e um slug ocupado por outra transação depois da validação vira uma linha
+   * a menos no RETURNING em vez de abortar a transação. Sem {@code @Modifying}
+   * pelo mesmo motivo de {@link #insertIgnoringSlugConflict}.
+   */
+  @Transactional
+  @Query(value = "insert into feature_flags (id, slug, name, type, schema, description, created_at, updated_at) "
+      + "select r.id, r.slug, r.name, r.type, r.schema, r.description, :now, :now "
+      + "from jsonb_to_recordset(cast(:rows as jsonb)) "
+      + "as r(id uuid, slug text, name text, type text, schema jsonb, description text) "
+      + "on conflict (slug) do nothing returning id, revision", nativeQuery = true)
+  List<Object[]> insertAllIgnoringSlugConflicts(@Param("rows") String rows, @Param("now") LocalDateTime now);
+
+  @Override
+  @Cacheable(cacheNames = CacheNames.FEATURE_FLAGS_BY_ID, key = "#p0", unless = "#result == null")
+  Optional<FeatureFlag> findById(UUID id);
+
+  /**
+   * Flags e valores vigentes em uma única consulta, via ponteiro em
+   * {@code feature_flag_current_values} (join por chave primária). Com
+   * {@code in_clause_parameter_padding} a lista de slugs gera poucas variações
+   * de SQL, reaproveitando os planos em cache.
+   */
+  @Override
+  default List<FeatureFlagSnapshotEntry> findWithCurrentValueBySlugs(Collection<String> slugs) {
+    return FeatureFlagEntryProjection.toEntries(findEntriesBySlugs(slugs));
+  }
+
+  @Query(SELECT_ENTRY + "0L) " + FROM_ENTRY + "where f.slug in :slugs")
+  List<FeatureFlagEntryProjection> findEntriesBySlugs(@Param("slugs") Collection<String> slugs);
+
+  /**
+   * Paginação por keyset: o filtro {@code slug > :afterSlug} com ordenação por
+   * slug percorre o índice único (ou {@code idx_ff_type_slug} quando há filtro
+   * de tipo) a partir do cursor, sem ler as páginas anteriores
+   */
+  @Override
+  default List<FeatureFlagSnapshotEntry> findPage(FeatureFlagType type, String afterSlug, int limit) {
+    return FeatureFlagEntryProjection.toEntries(
+        findEntryPage(type, afterSlug == null ? "" : afterSlug, Limit.of(limit)));
+  }
+
+  @Query(SELECT_ENTRY + "0L) " + FROM_ENTRY
+      + "where f.slug > :afterSlug and (:type is null or f.type = :type) "
+      + "order by f.slug")
+  List<FeatureFlagEntryProjection> findEntryPage(@Param("type") FeatureFlagType type,
+      @Param("afterSlug") String afterSlug, Limit limit);
+
+  @Override
+  default List<FeatureFlagSnapshotEntry> findWithCurrentValueByIds(Collection<UUID> ids) {
+    return FeatureFlagEntryProjection.toEntries(findEntriesByIds(ids));
+  }
+
+  @Query(SELECT_ENTRY + ENTRY_REVISION + FROM_ENTRY + "where f.id in :ids")
+  List<FeatureFlagEntryProjection> findEntriesByIds(@Param("ids") Collection<UUID> ids);
+
+  @Override
+  default List<FeatureFlagSnapshotEntry> findAllWithCurrentValue() {
+    return FeatureFlagEntryProjection.toEntries(findAllEntries());
+  }
+
+  @Query(SELECT_ENTRY + ENTRY_REVISION + FROM_ENTRY)
+  List<FeatureFlagEntryProjection> findAllEntries();
+
+  /**
+   * Usa os índices em {@code writer_xid} das duas tabelas, então o custo
+   * acompanha o tamanho da alteração e não o do catálogo
+   */
   @Override
-  boolean existsBySlug(String slug);
+  @Query(value = "select id from feature_flags where writer_xid >= cast(cast(:watermark as text) as xid8) "
+      + "union select flag_id from feature_flag_values where writer_xid >= cast(cast(:watermark as text) as xid8)",
+      nativeQuery = true)
+  List<UUID> findIdsChangedSince(@Param("watermark") long watermark);
 
+  /**
+   * O xmin do snapshot também está disponível em réplicas de leitura, que
+   * aplicam os ids de transação do primário
+   */
   @Override
-  List<FeatureFlag> findAll();
+  @Query(value = "select cast(cast(pg_snapshot_xmin(pg_current_snapshot()) as text) as bigint)", nativeQuery = true)
+  long findSyncWatermark();
 
 }
\ No newline at end of file
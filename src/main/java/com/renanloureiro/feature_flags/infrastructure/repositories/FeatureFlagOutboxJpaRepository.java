@@ -0,0 +1,61 @@
+package com.renanloureiro.feature_flags.infrastructure.repositories;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.renanloureiro.feature_flags.application.repositories.FeatureFlagOutboxRepository;
+import com.renanloureiro.feature_flags.domain.FeatureFlagOutboxEntry;
+
+@Repository
+public interface FeatureFlagOutboxJpaRepository
+    extends JpaRepository<FeatureFlagOutboxEntry, Long>, FeatureFlagOutboxRepository {
+
+  // As linhas são travadas primeiro, com o LIMIT já aplicado; só então o
+  // advisory lock por flag (liberado no commit) é tentado, e apenas para as
+  // candidatas entregues. Uma candidata também é descartada quando existe uma
+  // alteração anterior da mesma flag fora do lote, travada por outra transação
+  // que ainda não pegou o advisory lock. O CASE fixa essa ordem de avaliação.
+  @Override
+  @Query(value = """
+      with candidates as materialized (
+        select * from feature_flag_outbox
+        order by id
+        limit :limit
+        for update skip locked
+      )
+      select c.* from candidates c
+      where case
+        when exists (
+          select 1 from feature_flag_outbox e
+          where e.flag_id = c.flag_id and e.id < c.id
+            and not exists (select 1 from candidates p where p.id = e.id))
+        then false
+        else pg_try_advisory_xact_lock(4242002, hashtext(c.flag_id::text))
+      end
+      order by c.id
+      """, nativeQuery = true)
+  List<FeatureFlagOutboxEntry> lockNextBatch(@Param("limit") int limit);
+
+  @Override
+  @Modifying
+  @Transactional
+  @Query("update FeatureFlagOutboxEntry e set e.attempts = e.attempts + 1 where e.id in :ids")
+  void incrementAttempts(@Param("ids") Collection<Long> ids);
+
+  // Não é @Modifying: o pg_notify roda dentro de um SELECT. Os avisos saem no
+  // commit da transação que entrega o lote, antes de as linhas serem removidas.
+  @Query(value = """
+      select count(pg_notify(:channel, cast(json_build_object(
+        'originNodeId', o.origin_node_id, 'flagId', o.flag_id, 'slug', o.slug) as text)))
+      from feature_flag_outbox o
+      where o.id in (:ids)
+      """, nativeQuery = true)
+  long notifyChanges(@Param("channel") String channel, @Param("ids") List<Long> ids);
+}
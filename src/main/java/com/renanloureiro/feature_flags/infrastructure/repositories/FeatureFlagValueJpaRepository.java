@@ -1,13 +1,24 @@
 package com.renanloureiro.feature_flags.infrastructure.repositories;
 
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.renanloureiro.feature_flags.application.repositories.FeatureFlagValueRepository;
-import com.renanloureiro.feature_flags.domain.FeatureFlag;
 import com.renanloureiro.feature_flags.domain.FeatureFlagValue;
 
 @Repository
@@ -15,7 +26,147 @@ public interface FeatureFlagValueJpaRepository extends
     JpaRepository<FeatureFlagValue, UUID>,
     FeatureFlagValueRepository {
 
-  Optional<FeatureFlagValue> findByFlagAndVersion(FeatureFlag flag, Integer version);
+  @Override
+  default FeatureFlagValue insertJson(FeatureFlagValue featureFlagValue, String json) {
+    if (featureFlagValue.getId() == null) {
+      featureFlagValue.setId(UUID.randomUUID());
+    }
+    LocalDateTime now = LocalDateTime.now();
+    featureFlagValue.setCreatedAt(now);
+    featureFlagValue.setUpdatedAt(now);
 
-  boolean existsByFlagAndVersion(FeatureFlag flag, Integer version);
-}
\ No newline at end of file
+    featureFlagValue.setRevision(insertValue(featureFlagValue.getId(), featureFlagValue.getFlag().getId(), json,
+        featureFlagValue.getVersion(), featureFlagValue.getUpdatedBy(), now));
+    return featureFlagValue;
+  }
+
+  /**
+   * O texto é convertido para jsonb pelo próprio banco. Como os demais
+   * {@code RETURNING} deste repositório, não usa {@code @Modifying}: ver
+   * {@link FeatureFlagJpaRepository#insertIgnoringSlugConflict}.
+   */
+  @Transactional
+  @Query(value = "insert into feature_flag_values (id, flag_id, value, version, updated_by, created_at, updated_at) "
+      + "values (:id, :flagId, cast(:value as jsonb), :version, :updatedBy, :now, :now) returning revision",
+      nativeQuery = true)
+  long insertValue(@Param("id") UUID id, @Param("flagId") UUID flagId, @Param("value") String value,
+      @Param("version") int version, @Param("updatedBy") String updatedBy, @Param("now") LocalDateTime now);
+
+  @Override
+  default List<FeatureFlagValue> insertAll(List<FeatureFlagValue> featureFlagValues) {
+    LocalDateTime now = LocalDateTime.now();
+    ArrayNode rows = JsonNodeFactory.instance.arrayNode(featureFlagValues.size());
+    Map<UUID, FeatureFlagValue> byId = new HashMap<>();
+    for (FeatureFlagValue featureFlagValue : featureFlagValues) {
+      if (featureFlagValue.getId() == null) {
+        featureFlagValue.setId(UUID.randomUUID());
+      }
+      featureFlagValue.setCreatedAt(now);
+      featureFlagValue.setUpdatedAt(now);
+      byId.put(featureFlagValue.getId(), featureFlagValue);
+      rows.addObject()
+          .put("id", featureFlagValue.getId().toString())
+          .put("flag_id", featureFlagValue.getFlag().getId().toString())
+          .put("version", featureFlagValue.getVersion())
+          .put("updated_by", featureFlagValue.getUpdatedBy())
+          .set("value", featureFlagValue.getValue());
+    }
+
+    for (Object[] row : insertValueRows(rows.toString(), now)) {
+      byId.get((UUID) row[0]).setRevision(((Number) row[1]).longValue());
+    }
+    return featureFlagValues;
+  }
+
+  /**
+   * As linhas chegam como um único array JSON, então o lote inteiro é um comando
+   * só e a revisão de cada valor volta no próprio {@code RETURNING}. Sem
+   * {@code @Modifying} pelo mesmo motivo de {@link #insertValue}.
+   */
+  @Transactional
+  @Query(value = "insert into feature_flag_values (id, flag_id, value, version, updated_by, created_at, updated_at) "
+      + "select r.id, r.flag_id, r.value, r.version, r.updated_by, :now, :now "
+      + "from jsonb_to_recordset(cast(:rows as jsonb)) "
+      + "as r(id uuid, flag_id uuid, value jsonb, version int, updated_by text) "
+      + "returning id, revision", nativeQuery = true)
+  List<Object[]> insertValueRows(@Param("rows") String rows, @Param("now") LocalDateTime now);
+
+  /**
+   * O upsert trava a linha do contador até o commit: um segundo publicador na
+   * mesma flag espera e recebe a versão seguinte, sem violar UNIQUE (flag_id,
+   * version)
+   */
+  @Override
+  @Transactional
+  @Query(value = "insert into feature_flag_version_counters (flag_id, last_version) values (:flagId, 1) "
+      + "on conflict (flag_id) do update set last_version = feature_flag_version_counters.last_version + 1 "
+      + "returning last_version", nativeQuery = true)
+  int allocateNextVersion(@Param("flagId") UUID flagId);
+
+  @Override
+  default Map<UUID, Integer> allocateNextVersions(Collection<UUID> flagIds) {
+    Map<UUID, Integer> versions = new HashMap<>();
+    for (Object[] row : allocateNextVersionRows(flagIds)) {
+      versions.put((UUID) row[0], ((Number) row[1]).intValue());
+    }
+    return versions;
+  }
+
+  /**
+   * Upsert de várias linhas do contador em um único comando. A ordenação por id
+   * fixa a ordem em que as linhas são travadas, evitando deadlock entre
+   * publicações concorrentes que compartilham flags.
+   */
+  @Transactional
+  @Query(value = "insert into feature_flag_version_counters (flag_id, last_version) "
+      + "select f.id, 1 from feature_flags f where f.id in (:flagIds) order by f.id "
+      + "on conflict (flag_id) do update set last_version = feature_flag_version_counters.last_version + 1 "
+      + "returning flag_id, last_version", nativeQuery = true)
+  List<Object[]> allocateNextVersionRows(@Param("flagIds") Collection<UUID> flagIds);
+
+  @Override
+  @Modifying
+  @Transactional
+  @Query(value = "insert into feature_flag_current_values (flag_id, value_id, version) "
+      + "select v.flag_id, v.id, v.version from feature_flag_values v where v.id in (:valueIds) order by v.flag_id "
+      + "on conflict (flag_id) do update set value_id = excluded.value_id, version = excluded.version "
+      + "where feature_flag_current_values.version < excluded.version", nativeQuery = true)
+  void markAsCurrent(@Param("valueIds") Collection<UUID> valueIds);
+
+  /**
+   * Resolve o slug pelo índice único e segue o ponteiro do valor vigente, sem
+   * percorrer o histórico de versões
+   */
+  @Override
+  @Query("select v from FeatureFlagCurrentValue c join c.value v join fetch v.flag f "
+      + "where f.slug = :slug and c.flagId = f.id")
+  Optional<FeatureFlagValue> findCurrentByFlagSlug(@Param("slug") String slug);
+
+  /**
+   * Cada chamada é um lote curto na própria transação. O SKIP LOCKED deixa
+   * instâncias concorrentes dividirem o trabalho em vez de esperarem umas
+   * pelas outras.
+   */
+  @Override
+  @Modifying
+  @Transactional
+  @Query(value = "delete from feature_flag_values v using ("
+      + "select e.id, e.created_at from feature_flag_values e "
+      + "join feature_flag_current_values c on c.flag_id = e.flag_id "
+      + "where e.version <= c.version - :keepLastVersions and e.created_at < :olderThan "
+      + "limit :batchSize for update of e skip locked) expired "
+      + "where v.id = expired.id and v.created_at = expired.created_at", nativeQuery = true)
+  int deleteExpiredVersions(@Param("keepLastVersions") int keepLastVersions, @Param("olderThan") Instant olderThan,
+      @Param("batchSize") int batchSize);
+
+  @Override
+  @Transactional
+  @Query(value = "select drop_expired_feature_flag_value_partitions(:keepLastVersions, :olderThan)", nativeQuery = true)
+  List<String> dropExpiredPartitions(@Param("keepLastVersions") int keepLastVersions,
+      @Param("olderThan") Instant olderThan);
+
+  @Override
+  @Transactional
+  @Query(value = "select create_feature_flag_value_partitions(now(), :monthsAhead)", nativeQuery = true)
+  int createPartitionsAhead(@Param("monthsAhead") int monthsAhead);
+}
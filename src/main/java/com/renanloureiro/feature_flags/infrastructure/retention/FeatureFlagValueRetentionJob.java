@@ -0,0 +1,82 @@
+package com.renanloureiro.feature_flags.infrastructure.retention;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.renanloureiro.feature_flags.application.repositories.FeatureFlagValueRepository;
+import com.renanloureiro.feature_flags.application.retention.RetentionPolicy;
+import com.renanloureiro.feature_flags.application.usecases.PurgeFeatureFlagValueHistory;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Manutenção periódica do histórico de valores: cria as partições dos próximos
+ * meses, movendo para elas as linhas que caíram na partição padrão, e, quando a
+ * retenção está habilitada, remove as versões expiradas. Falhas são registradas
+ * e a próxima execução tenta novamente; uma configuração inválida impede a
+ * inicialização.
+ */
+@Slf4j
+@Component
+public class FeatureFlagValueRetentionJob {
+
+  private final PurgeFeatureFlagValueHistory purgeFeatureFlagValueHistory;
+
+  private final FeatureFlagValueRepository featureFlagValueRepository;
+
+  private final boolean retentionEnabled;
+
+  private final RetentionPolicy policy;
+
+  private final int partitionsAhead;
+
+  public FeatureFlagValueRetentionJob(PurgeFeatureFlagValueHistory purgeFeatureFlagValueHistory,
+      FeatureFlagValueRepository featureFlagValueRepository,
+      @Value("${feature-flags.retention.enabled:false}") boolean retentionEnabled,
+      @Value("${feature-flags.retention.keep-last-versions:1}") int keepLastVersions,
+      @Value("${feature-flags.retention.max-age:#{null}}") Duration maxAge,
+      @Value("${feature-flags.retention.batch-size:1000}") int batchSize,
+      @Value("${feature-flags.retention.max-batches-per-run:100}") int maxBatchesPerRun,
+      @Value("${feature-flags.retention.partitions-ahead:2}") int partitionsAhead) {
+    if (keepLastVersions < 1) {
+      throw new IllegalStateException(
+          "feature-flags.retention.keep-last-versions must be at least 1, got " + keepLastVersions);
+    }
+    this.purgeFeatureFlagValueHistory = purgeFeatureFlagValueHistory;
+    this.featureFlagValueRepository = featureFlagValueRepository;
+    this.retentionEnabled = retentionEnabled;
+    this.policy = RetentionPolicy.builder()
+        .keepLastVersions(keepLastVersions)
+        .maxAge(maxAge)
+        .batchSize(batchSize)
+        .maxBatchesPerRun(maxBatchesPerRun)
+        .build();
+    this.partitionsAhead = partitionsAhead;
+  }
+
+  @Scheduled(initialDelayString = "${feature-flags.retention.initial-delay:1m}",
+      fixedDelayString = "${feature-flags.retention.interval:5m}")
+  public void run() {
+    try {
+      int created = featureFlagValueRepository.createPartitionsAhead(partitionsAhead);
+      if (created > 0) {
+        log.info("{} partições do histórico de valores criadas", created);
+      }
+    } catch (RuntimeException e) {
+      log.warn("Falha ao criar partições do histórico de valores: {}", e.getMessage());
+    }
+
+    if (!retentionEnabled) {
+      return;
+    }
+
+    try {
+      purgeFeatureFlagValueHistory.execute(policy);
+    } catch (RuntimeException e) {
+      log.warn("Falha ao aplicar a retenção do histórico de valores: {}", e.getMessage());
+    }
+  }
+}
@@ -0,0 +1,20 @@
+package com.renanloureiro.feature_flags.infrastructure.snapshot;
+
+import java.io.Serializable;
+import java.util.List;
+
+import lombok.Value;
+
+/**
+ * Mensagem trocada entre as instâncias para avisar que várias feature flags
+ * foram alteradas na mesma transação
+ */
+@Value
+public class FeatureFlagBatchChangeMessage implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  String originNodeId;
+
+  List<String> slugs;
+}
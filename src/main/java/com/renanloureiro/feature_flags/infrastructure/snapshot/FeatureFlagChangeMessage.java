@@ -0,0 +1,22 @@
+package com.renanloureiro.feature_flags.infrastructure.snapshot;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+import lombok.Value;
+
+/**
+ * Mensagem trocada entre as instâncias para avisar que uma feature flag foi
+ * alterada
+ */
+@Value
+public class FeatureFlagChangeMessage implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  String originNodeId;
+
+  UUID flagId;
+
+  String slug;
+}
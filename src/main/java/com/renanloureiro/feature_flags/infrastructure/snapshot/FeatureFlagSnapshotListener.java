@@ -0,0 +1,79 @@
+package com.renanloureiro.feature_flags.infrastructure.snapshot;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.renanloureiro.feature_flags.application.events.FeatureFlagChangedEvent;
+import com.renanloureiro.feature_flags.application.events.FeatureFlagSnapshotUpdatedEvent;
+import com.renanloureiro.feature_flags.application.events.FeatureFlagsChangedEvent;
+import com.renanloureiro.feature_flags.application.events.RemoteFeatureFlagChangedEvent;
+import com.renanloureiro.feature_flags.application.events.RemoteFeatureFlagsChangedEvent;
+import com.renanloureiro.feature_flags.application.snapshot.FeatureFlagSnapshotEntry;
+import com.renanloureiro.feature_flags.application.snapshot.FeatureFlagSnapshotHolder;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Mantém o snapshot atualizado. Alterações locais são aplicadas diretamente a
+ * partir do evento, após o commit; alterações vindas de outras instâncias são
+ * relidas do banco. Em ambos os casos, publica
+ * {@link FeatureFlagSnapshotUpdatedEvent} com a entrada resultante.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class FeatureFlagSnapshotListener {
+
+  private final FeatureFlagSnapshotHolder snapshotHolder;
+  private final ApplicationEventPublisher eventPublisher;
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onFeatureFlagChanged(FeatureFlagChangedEvent event) {
+    if (event.getFlag() == null) {
+      return;
+    }
+
+    var snapshot = snapshotHolder.apply(event.getFlag(), event.getValue());
+    log.debug("Snapshot atualizado para a flag {} na revisão {}", event.getSlug(), snapshot.getRevision());
+
+    snapshot.findById(event.getFlagId()).ifPresent(this::publishUpdated);
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onFeatureFlagsChanged(FeatureFlagsChangedEvent event) {
+    List<FeatureFlagSnapshotEntry> changes = new ArrayList<>(event.getChanges().size());
+    for (FeatureFlagChangedEvent change : event.getChanges()) {
+      changes.add(new FeatureFlagSnapshotEntry(change.getFlag(), change.getValue(), 0));
+    }
+
+    var snapshot = snapshotHolder.applyAll(changes);
+    log.debug("Snapshot atualizado para {} flags na revisão {}", changes.size(), snapshot.getRevision());
+
+    for (FeatureFlagChangedEvent change : event.getChanges()) {
+      snapshot.findById(change.getFlagId()).ifPresent(this::publishUpdated);
+    }
+  }
+
+  @EventListener
+  public void onRemoteFeatureFlagChanged(RemoteFeatureFlagChangedEvent event) {
+    log.debug("Atualizando snapshot após alteração remota da flag {}", event.getSlug());
+    snapshotHolder.refresh(event.getSlug()).ifPresent(this::publishUpdated);
+  }
+
+  @EventListener
+  public void onRemoteFeatureFlagsChanged(RemoteFeatureFlagsChangedEvent event) {
+    log.debug("Atualizando snapshot após alteração remota de {} flags", event.getSlugs().size());
+    snapshotHolder.refreshAll(event.getSlugs()).forEach(this::publishUpdated);
+  }
+
+  private void publishUpdated(FeatureFlagSnapshotEntry entry) {
+    eventPublisher.publishEvent(new FeatureFlagSnapshotUpdatedEvent(entry));
+  }
+}
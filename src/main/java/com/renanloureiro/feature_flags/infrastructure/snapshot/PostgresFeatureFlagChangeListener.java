@@ -0,0 +1,269 @@
+package com.renanloureiro.feature_flags.infrastructure.snapshot;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.UUID;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.renanloureiro.feature_flags.application.cache.CacheNames;
+import com.renanloureiro.feature_flags.application.events.RemoteFeatureFlagsChangedEvent;
+import com.renanloureiro.feature_flags.application.snapshot.FeatureFlagSnapshotEntry;
+import com.renanloureiro.feature_flags.application.snapshot.FeatureFlagSnapshotHolder;
+import com.renanloureiro.feature_flags.application.sync.FeatureFlagSyncResult;
+import com.renanloureiro.feature_flags.application.usecases.SyncFeatureFlags;
+import com.renanloureiro.feature_flags.infrastructure.datasource.PrimaryReads;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Recebe as alterações de feature flags via {@code LISTEN/NOTIFY} do Postgres,
+ * em uma conexão dedicada fora do pool, e as repassa como
+ * {@link RemoteFeatureFlagsChangedEvent} após remover as flags do cache local.
+ * Os avisos publicados por esta instância são ignorados.
+ *
+ * Avisos que chegam juntos são agrupados durante uma pequena janela e
+ * processados de uma vez. A cada conexão (inclusive a primeira), as alterações
+ * desde o último cursor de sincronização são relidas com
+ * {@link SyncFeatureFlags}, cobrindo o que foi commitado enquanto a conexão
+ * estava fora.
+ */
+@Slf4j
+public class PostgresFeatureFlagChangeListener implements SmartLifecycle {
+
+  static final String CHANNEL = "feature_flag_changes";
+
+  private final String url;
+
+  private final Properties connectionProperties = new Properties();
+
+  private final ObjectMapper objectMapper;
+
+  private final ApplicationEventPublisher eventPublisher;
+
+  private final CacheManager cacheManager;
+
+  private final SyncFeatureFlags syncFeatureFlags;
+
+  private final PrimaryReads primaryReads;
+
+  private final FeatureFlagSnapshotHolder snapshotHolder;
+
+  private final String nodeId;
+
+  private final int coalesceMillis;
+
+  private final int keepaliveMillis;
+
+  private final long reconnectDelayMillis;
+
+  private volatile boolean running;
+
+  private volatile Connection connection;
+
+  private Thread thread;
+
+  /**
+   * Cursor da última sincronização; acessado apenas pela thread do listener
+   */
+  private long syncWatermark;
+
+  public PostgresFeatureFlagChangeListener(String url, String username, String password, ObjectMapper objectMapper,
+      ApplicationEventPublisher eventPublisher, CacheManager cacheManager, SyncFeatureFlags syncFeatureFlags,
+      PrimaryReads primaryReads, FeatureFlagSnapshotHolder snapshotHolder, String nodeId, long initialWatermark,
+      Duration coalesceWindow, Duration keepaliveInterval, Duration reconnectDelay) {
+    this.url = url;
+    if (username != null) {
+      connectionProperties.setProperty("user", username);
+    }
+    if (password != null) {
+      connectionProperties.setProperty("password", password);
+    }
+    // identifica a conexão em pg_stat_activity
+    connectionProperties.setProperty("ApplicationName", "feature-flags-listener");
+    this.objectMapper = objectMapper;
+    this.eventPublisher = eventPublisher;
+    this.cacheManager = cacheManager;
+    this.syncFeatureFlags = syncFeatureFlags;
+    this.primaryReads = primaryReads;
+    this.snapshotHolder = snapshotHolder;
+    this.nodeId = nodeId;
+    this.syncWatermark = initialWatermark;
+    this.coalesceMillis = (int) coalesceWindow.toMillis();
+    this.keepaliveMillis = (int) keepaliveInterval.toMillis();
+    this.reconnectDelayMillis = reconnectDelay.toMillis();
+  }
+
+  @Override
+  public void start() {
+    running = true;
+    thread = Thread.ofPlatform().name("ff-pg-listener").daemon().start(this::run);
+  }
+
+  @Override
+  public void stop() {
+    running = false;
+    closeQuietly(connection);
+    if (thread != null) {
+      thread.interrupt();
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    return running;
+  }
+
+  private void run() {
+    while (running) {
+      try (Connection listening = DriverManager.getConnection(url, connectionProperties)) {
+        connection = listening;
+        try (Statement statement = listening.createStatement()) {
+          statement.execute("LISTEN " + CHANNEL);
+        }
+        log.info("Listening for feature flag changes on Postgres channel {}", CHANNEL);
+
+        resync();
+        receive(listening);
+      } catch (SQLException | RuntimeException e) {
+        if (running) {
+          log.warn("Postgres change notifications connection lost, reconnecting in {} ms: {}", reconnectDelayMillis,
+              e.getMessage());
+          sleep(reconnectDelayMillis);
+        }
+      } finally {
+        connection = null;
+      }
+    }
+  }
+
+  private void receive(Connection listening) throws SQLException {
+    PGConnection pgConnection = listening.unwrap(PGConnection.class);
+    while (running) {
+      PGNotification[] notifications = pgConnection.getNotifications(keepaliveMillis);
+      if (notifications == null || notifications.length == 0) {
+        // sem avisos no intervalo: confirma que a conexão ainda está viva
+        try (Statement statement = listening.createStatement()) {
+          statement.execute("SELECT 1");
+        }
+        continue;
+      }
+
+      ChangeBurst burst = new ChangeBurst();
+      burst.addAll(notifications);
+
+      long deadline = System.currentTimeMillis() + coalesceMillis;
+      long remaining;
+      while ((remaining = deadline - System.currentTimeMillis()) > 0) {
+        burst.addAll(pgConnection.getNotifications((int) remaining));
+      }
+
+      dispatch(burst);
+    }
+  }
+
+  /**
+   * Relê do primário as alterações desde o último cursor, que uma réplica
+   * atrasada ainda pode não ter
+   */
+  private void resync() {
+    FeatureFlagSyncResult result = primaryReads.execute(() -> syncFeatureFlags.execute(syncWatermark));
+    if (result.isFull()) {
+      log.info("Full resync of feature flags at sync watermark {}", result.getRevision());
+      snapshotHolder.reload();
+      Cache cache = cacheManager.getCache(CacheNames.FEATURE_FLAGS_BY_ID);
+      if (cache != null) {
+        cache.clear();
+      }
+    } else if (!result.getEntries().isEmpty()) {
+      log.info("Resyncing {} feature flags changed since sync watermark {}", result.getEntries().size(),
+          syncWatermark);
+      ChangeBurst burst = new ChangeBurst();
+      for (FeatureFlagSnapshotEntry entry : result.getEntries()) {
+        burst.add(entry.getFlag().getId(), entry.getFlag().getSlug());
+      }
+      dispatch(burst);
+    }
+    syncWatermark = result.getRevision();
+  }
+
+  private void dispatch(ChangeBurst burst) {
+    if (burst.slugs.isEmpty()) {
+      return;
+    }
+
+    log.debug("Received feature flag changes for {} flags", burst.slugs.size());
+    Cache cache = cacheManager.getCache(CacheNames.FEATURE_FLAGS_BY_ID);
+    if (cache != null) {
+      burst.flagIds.forEach(cache::evict);
+    }
+    eventPublisher.publishEvent(new RemoteFeatureFlagsChangedEvent(List.copyOf(burst.slugs)));
+  }
+
+  private void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      running = false;
+    }
+  }
+
+  private static void closeQuietly(Connection connection) {
+    if (connection == null) {
+      return;
+    }
+    try {
+      connection.close();
+    } catch (SQLException e) {
+      log.debug("Failed to close Postgres change notifications connection: {}", e.getMessage());
+    }
+  }
+
+  /**
+   * Alterações recebidas em uma mesma janela, sem repetições
+   */
+  private class ChangeBurst {
+
+    private final Set<UUID> flagIds = new LinkedHashSet<>();
+
+    private final Set<String> slugs = new LinkedHashSet<>();
+
+    private void addAll(PGNotification[] notifications) {
+      if (notifications == null) {
+        return;
+      }
+      for (PGNotification notification : notifications) {
+        try {
+          JsonNode payload = objectMapper.readTree(notification.getParameter());
+          if (nodeId.equals(payload.path("originNodeId").asText())) {
+            continue;
+          }
+          add(UUID.fromString(payload.path("flagId").asText()), payload.path("slug").asText());
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+          log.warn("Ignoring malformed feature flag change notification: {}", notification.getParameter());
+        }
+      }
+    }
+
+    private void add(UUID flagId, String slug) {
+      flagIds.add(flagId);
+      slugs.add(slug);
+    }
+  }
+}
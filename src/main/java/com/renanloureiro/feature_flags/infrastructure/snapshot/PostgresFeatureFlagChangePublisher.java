@@ -0,0 +1,37 @@
+package com.renanloureiro.feature_flags.infrastructure.snapshot;
+
+import org.springframework.context.event.EventListener;
+
+import com.renanloureiro.feature_flags.application.events.CommittedFeatureFlagChangesEvent;
+import com.renanloureiro.feature_flags.domain.FeatureFlagOutboxEntry;
+import com.renanloureiro.feature_flags.infrastructure.repositories.FeatureFlagOutboxJpaRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Avisa as instâncias, via {@code NOTIFY} do Postgres, que feature flags foram
+ * alteradas. O aviso parte do outbox, na transação que entrega o lote: só é
+ * enviado no commit dela, e apenas quando o listener está ativo, então as
+ * escritas das flags não disputam a fila global de {@code NOTIFY}.
+ */
+@Slf4j
+public class PostgresFeatureFlagChangePublisher {
+
+  private final FeatureFlagOutboxJpaRepository featureFlagOutboxJpaRepository;
+
+  public PostgresFeatureFlagChangePublisher(FeatureFlagOutboxJpaRepository featureFlagOutboxJpaRepository) {
+    this.featureFlagOutboxJpaRepository = featureFlagOutboxJpaRepository;
+  }
+
+  /**
+   * Um aviso por alteração, com a instância de origem, que o ignora por já ter
+   * aplicado a própria alteração
+   */
+  @EventListener
+  public void onCommittedFeatureFlagChanges(CommittedFeatureFlagChangesEvent event) {
+    long notified = featureFlagOutboxJpaRepository.notifyChanges(PostgresFeatureFlagChangeListener.CHANNEL,
+        event.getChanges().stream().map(FeatureFlagOutboxEntry::getId).toList());
+    log.debug("Notified {} feature flag changes on Postgres channel {}", notified,
+        PostgresFeatureFlagChangeListener.CHANNEL);
+  }
+}
@@ -0,0 +1,44 @@
+package com.renanloureiro.feature_flags.infrastructure.snapshot;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import com.renanloureiro.feature_flags.application.events.RemoteFeatureFlagChangedEvent;
+import com.renanloureiro.feature_flags.application.events.RemoteFeatureFlagsChangedEvent;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Recebe as alterações publicadas pelas outras instâncias e as repassa como
+ * {@link RemoteFeatureFlagChangedEvent} ou {@link RemoteFeatureFlagsChangedEvent}
+ */
+@Slf4j
+public class RedisFeatureFlagChangeListener implements MessageListener {
+
+  private final ApplicationEventPublisher eventPublisher;
+
+  private final RedisSerializer<Object> serializer;
+
+  private final String nodeId;
+
+  public RedisFeatureFlagChangeListener(ApplicationEventPublisher eventPublisher, RedisSerializer<Object> serializer,
+      String nodeId) {
+    this.eventPublisher = eventPublisher;
+    this.serializer = serializer;
+    this.nodeId = nodeId;
+  }
+
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    Object payload = serializer.deserialize(message.getBody());
+    if (payload instanceof FeatureFlagChangeMessage change && !nodeId.equals(change.getOriginNodeId())) {
+      log.debug("Received feature flag change for {}", change.getSlug());
+      eventPublisher.publishEvent(new RemoteFeatureFlagChangedEvent(change.getFlagId(), change.getSlug()));
+    } else if (payload instanceof FeatureFlagBatchChangeMessage changes && !nodeId.equals(changes.getOriginNodeId())) {
+      log.debug("Received feature flag changes for {} flags", changes.getSlugs().size());
+      eventPublisher.publishEvent(new RemoteFeatureFlagsChangedEvent(changes.getSlugs()));
+    }
+  }
+}
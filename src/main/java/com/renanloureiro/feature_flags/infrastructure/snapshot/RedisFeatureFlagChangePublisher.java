@@ -0,0 +1,55 @@
+package com.renanloureiro.feature_flags.infrastructure.snapshot;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import com.renanloureiro.feature_flags.application.events.CommittedFeatureFlagChangesEvent;
+import com.renanloureiro.feature_flags.domain.FeatureFlagOutboxEntry;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Avisa as instâncias, via Redis pub/sub, que feature flags foram alteradas
+ * para que atualizem seus snapshots. As alterações chegam pelo outbox, então
+ * uma falha ao publicar mantém o lote pendente em vez de perder o aviso.
+ */
+@Slf4j
+public class RedisFeatureFlagChangePublisher {
+
+  private final RedisTemplate<String, Object> redisTemplate;
+
+  private final String channel;
+
+  public RedisFeatureFlagChangePublisher(RedisTemplate<String, Object> redisTemplate, String channel) {
+    this.redisTemplate = redisTemplate;
+    this.channel = channel;
+  }
+
+  /**
+   * Uma mensagem por instância de origem, que já aplicou as próprias
+   * alterações e ignora a mensagem; a instância que entrega o lote também a
+   * recebe quando não for a origem
+   */
+  @EventListener
+  public void onCommittedFeatureFlagChanges(CommittedFeatureFlagChangesEvent event) {
+    Map<String, Set<String>> slugsByOrigin = new LinkedHashMap<>();
+    for (FeatureFlagOutboxEntry change : event.getChanges()) {
+      slugsByOrigin.computeIfAbsent(change.getOriginNodeId(), origin -> new LinkedHashSet<>()).add(change.getSlug());
+    }
+
+    slugsByOrigin.forEach((origin, slugs) -> {
+      try {
+        redisTemplate.convertAndSend(channel, new FeatureFlagBatchChangeMessage(origin, List.copyOf(slugs)));
+      } catch (RuntimeException e) {
+        log.warn("Failed to publish feature flag changes for {} flags: {}", slugs.size(), e.getMessage());
+        throw e;
+      }
+    });
+  }
+}
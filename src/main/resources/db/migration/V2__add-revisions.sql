@@ -0,0 +1,54 @@
+-- Revisão global para sincronização incremental (GET /v1/sync?since=)
+
+CREATE SEQUENCE feature_flag_revision_seq;
+
+ALTER TABLE feature_flags ADD COLUMN revision BIGINT;
+ALTER TABLE feature_flag_values ADD COLUMN revision BIGINT;
+
+-- Atribui revisões aos registros existentes na ordem em que foram criados
+UPDATE feature_flags f
+   SET revision = r.revision
+  FROM (SELECT id, nextval('feature_flag_revision_seq') AS revision
+          FROM (SELECT id FROM feature_flags ORDER BY created_at, id) ordered) r
+ WHERE f.id = r.id;
+
+UPDATE feature_flag_values v
+   SET revision = r.revision
+  FROM (SELECT id, nextval('feature_flag_revision_seq') AS revision
+          FROM (SELECT id FROM feature_flag_values ORDER BY created_at, version, id) ordered) r
+ WHERE v.id = r.id;
+
+ALTER TABLE feature_flags ALTER COLUMN revision SET NOT NULL;
+ALTER TABLE feature_flag_values ALTER COLUMN revision SET NOT NULL;
+
+-- Transação que fez a última escrita na linha. A sincronização incremental usa
+-- como cursor o xmin do snapshot de leitura: toda transação abaixo dele já
+-- terminou, e as que estavam em andamento têm id maior ou igual e são
+-- devolvidas na próxima leitura. Assim nenhuma escrita confirmada fica para
+-- trás sem que os escritores precisem ser serializados.
+ALTER TABLE feature_flags ADD COLUMN writer_xid XID8 NOT NULL DEFAULT pg_current_xact_id();
+ALTER TABLE feature_flag_values ADD COLUMN writer_xid XID8 NOT NULL DEFAULT pg_current_xact_id();
+
+CREATE INDEX idx_ff_revision ON feature_flags (revision);
+CREATE INDEX idx_ff_values_revision ON feature_flag_values (revision);
+CREATE INDEX idx_ff_writer_xid ON feature_flags (writer_xid);
+CREATE INDEX idx_ff_values_writer_xid ON feature_flag_values (writer_xid);
+
+-- A revisão identifica a versão de cada linha (ETags, ordem das alterações de
+-- uma mesma flag); ela não segue a ordem de commit entre flags diferentes e por
+-- isso não é usada como cursor de sincronização
+CREATE FUNCTION assign_feature_flag_revision() RETURNS trigger AS $$
+BEGIN
+    NEW.revision := nextval('feature_flag_revision_seq');
+    NEW.writer_xid := pg_current_xact_id();
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_feature_flags_revision
+    BEFORE INSERT OR UPDATE ON feature_flags
+    FOR EACH ROW EXECUTE FUNCTION assign_feature_flag_revision();
+
+CREATE TRIGGER trg_feature_flag_values_revision
+    BEFORE INSERT OR UPDATE ON feature_flag_values
+    FOR EACH ROW EXECUTE FUNCTION assign_feature_flag_revision();
@@ -0,0 +1,2 @@
+-- Paginação por keyset filtrada por tipo (GET /v1/feature-flags?type=&after=)
+CREATE INDEX idx_ff_type_slug ON feature_flags (type, slug);
@@ -0,0 +1,11 @@
+-- Contador de versões por flag: a próxima versão é alocada por um único
+-- INSERT ... ON CONFLICT DO UPDATE ... RETURNING, atômico no banco. Publicações
+-- concorrentes na mesma flag aguardam o lock da linha do contador em vez de
+-- colidir em UNIQUE (flag_id, version).
+CREATE TABLE feature_flag_version_counters (
+    flag_id      UUID PRIMARY KEY REFERENCES feature_flags(id) ON DELETE CASCADE,
+    last_version INT  NOT NULL
+);
+
+INSERT INTO feature_flag_version_counters (flag_id, last_version)
+SELECT flag_id, max(version) FROM feature_flag_values GROUP BY flag_id;
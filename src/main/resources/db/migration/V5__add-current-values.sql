@@ -0,0 +1,13 @@
+-- Ponteiro para o valor vigente de cada flag, mantido na mesma transação que
+-- publica o valor. Resolver o valor vigente (de uma flag ou de todas) passa a
+-- ser um join por chave primária, sem procurar a maior versão no histórico.
+CREATE TABLE feature_flag_current_values (
+    flag_id  UUID PRIMARY KEY REFERENCES feature_flags(id) ON DELETE CASCADE,
+    value_id UUID NOT NULL UNIQUE REFERENCES feature_flag_values(id),
+    version  INT  NOT NULL
+);
+
+INSERT INTO feature_flag_current_values (flag_id, value_id, version)
+SELECT DISTINCT ON (flag_id) flag_id, id, version
+FROM feature_flag_values
+ORDER BY flag_id, version DESC;
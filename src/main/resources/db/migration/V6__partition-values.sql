@@ -0,0 +1,119 @@
+-- Particiona o histórico de valores por mês de created_at. A retenção remove
+-- versões antigas em lotes pequenos e, quando nenhuma linha de uma partição
+-- precisa ser mantida, descarta a partição inteira com um DROP TABLE.
+--
+-- Em tabelas particionadas toda chave única precisa conter a coluna de
+-- partição: a chave primária passa a ser (id, created_at) e UNIQUE (flag_id,
+-- version) deixa de existir, pois a unicidade da versão já é garantida por
+-- feature_flag_version_counters. Pelo mesmo motivo o ponteiro do valor vigente
+-- não referencia mais o valor por chave estrangeira; a retenção nunca remove o
+-- valor vigente.
+
+ALTER TABLE feature_flag_current_values DROP CONSTRAINT feature_flag_current_values_value_id_fkey;
+
+ALTER TABLE feature_flag_values RENAME TO feature_flag_values_unpartitioned;
+
+CREATE TABLE feature_flag_values (
+    id          UUID        NOT NULL DEFAULT gen_random_uuid(),
+    flag_id     UUID        NOT NULL REFERENCES feature_flags(id) ON DELETE CASCADE,
+    value       JSONB       NOT NULL,
+    version     INT         NOT NULL DEFAULT 1,
+    updated_by  TEXT        NOT NULL,
+    created_at  TIMESTAMPTZ NOT NULL DEFAULT now(),
+    updated_at  TIMESTAMPTZ NOT NULL DEFAULT now(),
+    revision    BIGINT      NOT NULL,
+    writer_xid  XID8        NOT NULL DEFAULT pg_current_xact_id()
+) PARTITION BY RANGE (created_at);
+
+-- Recebe linhas fora das partições mensais (partição atrasada, relógio
+-- adiantado). A manutenção cria as partições com antecedência e, ao criar a
+-- partição de um mês, move para ela as linhas desse mês que estavam aqui.
+CREATE TABLE feature_flag_values_default PARTITION OF feature_flag_values DEFAULT;
+
+-- Cria as partições mensais (em UTC) desde o mês mais antigo entre from_month e
+-- as linhas da partição padrão até months_ahead meses depois do mês corrente.
+-- Uma partição não pode ser criada enquanto a padrão tiver linhas do seu
+-- intervalo: a tabela do mês é criada solta, recebe as linhas e só então é
+-- anexada. Retorna quantas partições foram criadas.
+CREATE FUNCTION create_feature_flag_value_partitions(from_month TIMESTAMPTZ, months_ahead INT) RETURNS INT AS $$
+DECLARE
+    month      TIMESTAMPTZ := date_trunc('month', least(from_month,
+                   coalesce((SELECT min(created_at) FROM feature_flag_values_default), from_month)), 'UTC');
+    last_month TIMESTAMPTZ := date_trunc('month', now(), 'UTC') + make_interval(months => months_ahead);
+    name       TEXT;
+    created    INT := 0;
+BEGIN
+    WHILE month <= last_month LOOP
+        name := 'feature_flag_values_' || to_char(month AT TIME ZONE 'UTC', 'YYYY_MM');
+        IF to_regclass(name) IS NULL THEN
+            EXECUTE format('CREATE TABLE %I (LIKE feature_flag_values INCLUDING DEFAULTS)', name);
+            EXECUTE format('WITH moved AS (DELETE FROM feature_flag_values_default '
+                || 'WHERE created_at >= $1 AND created_at < $2 RETURNING *) INSERT INTO %I SELECT * FROM moved', name)
+                USING month, month + interval '1 month';
+            EXECUTE format('ALTER TABLE feature_flag_values ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                name, month, month + interval '1 month');
+            created := created + 1;
+        END IF;
+        month := month + interval '1 month';
+    END LOOP;
+    RETURN created;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Descarta as partições mensais que terminam antes de older_than e não têm
+-- nenhuma versão entre as keep_last_versions mais recentes de sua flag (o
+-- valor vigente é sempre mantido). Retorna os nomes das partições removidas.
+CREATE FUNCTION drop_expired_feature_flag_value_partitions(keep_last_versions INT, older_than TIMESTAMPTZ)
+RETURNS SETOF TEXT AS $$
+DECLARE
+    partition RECORD;
+    retained  BOOLEAN;
+BEGIN
+    -- DROP precisa de lock exclusivo na tabela pai: desiste em vez de enfileirar
+    -- as leituras atrás de uma transação longa
+    PERFORM set_config('lock_timeout', '2s', true);
+
+    FOR partition IN
+        SELECT c.relname AS name,
+               to_date(substring(c.relname FROM '\d{4}_\d{2}$'), 'YYYY_MM')::timestamp AT TIME ZONE 'UTC' AS month
+          FROM pg_inherits i
+          JOIN pg_class c ON c.oid = i.inhrelid
+         WHERE i.inhparent = 'feature_flag_values'::regclass
+           AND c.relname ~ '^feature_flag_values_\d{4}_\d{2}$'
+         ORDER BY c.relname
+    LOOP
+        CONTINUE WHEN partition.month + interval '1 month' > older_than;
+
+        EXECUTE format('SELECT EXISTS (SELECT 1 FROM %I v JOIN feature_flag_current_values c ON c.flag_id = v.flag_id '
+            || 'WHERE v.version > c.version - $1)', partition.name)
+            USING keep_last_versions INTO retained;
+        CONTINUE WHEN retained;
+
+        EXECUTE format('DROP TABLE %I', partition.name);
+        RETURN NEXT partition.name;
+    END LOOP;
+END;
+$$ LANGUAGE plpgsql;
+
+SELECT create_feature_flag_value_partitions(
+    coalesce((SELECT min(created_at) FROM feature_flag_values_unpartitioned), now()), 2);
+
+-- O trigger de revisão só é criado depois da cópia para preservar as revisões
+INSERT INTO feature_flag_values (id, flag_id, value, version, updated_by, created_at, updated_at, revision, writer_xid)
+SELECT id, flag_id, value, version, updated_by, created_at, updated_at, revision, writer_xid
+  FROM feature_flag_values_unpartitioned;
+
+DROP TABLE feature_flag_values_unpartitioned;
+
+-- Índices criados após a carga. idx_ff_values_flagid não é recriado: é
+-- prefixo de idx_ff_values_flagid_version. O created_at no fim do índice deixa
+-- a retenção percorrer as versões antigas de cada flag e descartar as recentes
+-- demais sem ler a tabela.
+ALTER TABLE feature_flag_values ADD PRIMARY KEY (id, created_at);
+CREATE INDEX idx_ff_values_flagid_version ON feature_flag_values (flag_id, version DESC, created_at);
+CREATE INDEX idx_ff_values_revision ON feature_flag_values (revision);
+CREATE INDEX idx_ff_values_writer_xid ON feature_flag_values (writer_xid);
+
+CREATE TRIGGER trg_feature_flag_values_revision
+    BEFORE INSERT OR UPDATE ON feature_flag_values
+    FOR EACH ROW EXECUTE FUNCTION assign_feature_flag_revision();
@@ -0,0 +1,25 @@
+-- Outbox das alterações de feature flags: cada alteração grava uma linha na
+-- mesma transação que a altera, e o relay a entrega aos listeners depois do
+-- commit, removendo a linha somente após a entrega (ao menos uma vez).
+--
+-- O id é a ordem de entrega. Ele é sorteado antes do commit, enquanto a
+-- transação ainda segura o lock da flag (linha do contador de versões), então
+-- as alterações de uma mesma flag recebem ids na ordem de commit. Por isso a
+-- sequência não reserva blocos: um bloco reservado por uma instância poderia
+-- dar a uma escrita posterior um id menor que o de outra instância. Não há
+-- chave estrangeira para feature_flags: uma alteração pode ser entregue depois
+-- da remoção da flag.
+CREATE SEQUENCE feature_flag_outbox_seq;
+
+CREATE TABLE feature_flag_outbox (
+    id             BIGINT      PRIMARY KEY,
+    flag_id        UUID        NOT NULL,
+    slug           TEXT        NOT NULL,
+    value_id       UUID,
+    origin_node_id TEXT        NOT NULL,
+    attempts       INT         NOT NULL DEFAULT 0,
+    created_at     TIMESTAMPTZ NOT NULL DEFAULT now()
+);
+
+-- Procura alterações anteriores da mesma flag ao montar o lote
+CREATE INDEX idx_ff_outbox_flag_id ON feature_flag_outbox (flag_id, id);
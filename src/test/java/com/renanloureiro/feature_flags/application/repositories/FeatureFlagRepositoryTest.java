@@ -45,17 +45,4 @@ class FeatureFlagRepositoryTest {
     assertNotNull(result.get());
     assertNotNull(result.get().getId());
   }
-
-  @Test
-  void shouldCheckExistsBySlug() {
-    // Given
-    String slug = "test-flag";
-    when(featureFlagRepository.existsBySlug(slug)).thenReturn(true);
-
-    // When
-    boolean exists = featureFlagRepository.existsBySlug(slug);
-
-    // Then
-    assertNotNull(exists);
-  }
 }
\ No newline at end of file
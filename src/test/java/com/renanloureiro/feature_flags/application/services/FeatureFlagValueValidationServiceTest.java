@@ -0,0 +1,105 @@
+package com.renanloureiro.feature_flags.application.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.renanloureiro.feature_flags.application.exceptions.ValidationException;
+import com.renanloureiro.feature_flags.domain.FeatureFlag;
+import com.renanloureiro.feature_flags.domain.FeatureFlagType;
+
+class FeatureFlagValueValidationServiceTest {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  private FeatureFlagValueValidationService validationService;
+
+  private FeatureFlag allowlist;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    validationService = new FeatureFlagValueValidationService(objectMapper);
+    allowlist = FeatureFlag.builder()
+        .name("allowlist")
+        .slug("allowlist")
+        .type(FeatureFlagType.LIST)
+        .schema(objectMapper.readTree(
+            "{\"type\":\"array\",\"items\":{\"type\":\"string\"},\"maxItems\":2,\"uniqueItems\":true}"))
+        .build();
+  }
+
+  @Test
+  @DisplayName("Deve validar a lista durante a leitura e devolver o JSON compacto")
+  void shouldStreamListValue() {
+    // Given
+    InputStream body = body("{ \"value\" : [ \"user-1\" , \"user-2\" ], \"ignored\": {\"a\": [1]} }");
+
+    // When
+    String value = validationService.readValidatedValue(allowlist, body);
+
+    // Then
+    assertEquals("[\"user-1\",\"user-2\"]", value);
+  }
+
+  @Test
+  @DisplayName("Deve parar de ler o corpo na primeira violação da lista")
+  void shouldStopReadingAtFirstViolation() {
+    // Given: o restante do corpo falha se for lido
+    InputStream body = new SequenceInputStream(body("{\"value\":[\"a\",\"b\",\"c\""), new InputStream() {
+      @Override
+      public int read() throws IOException {
+        throw new IOException("Corpo lido além da violação");
+      }
+    });
+
+    // When
+    ValidationException exception = assertThrows(ValidationException.class,
+        () -> validationService.readValidatedValue(allowlist, body));
+
+    // Then
+    assertEquals("Array deve ter no máximo 2 itens para feature flag 'allowlist'", exception.getMessage());
+  }
+
+  @Test
+  @DisplayName("Deve rejeitar itens repetidos durante a leitura")
+  void shouldRejectDuplicatedItemsWhileStreaming() {
+    // When
+    ValidationException exception = assertThrows(ValidationException.class,
+        () -> validationService.readValidatedValue(allowlist, body("{\"value\":[\"a\",\"a\"]}")));
+
+    // Then
+    assertEquals("Item na posição 1 é repetido e a feature flag 'allowlist' exige itens únicos",
+        exception.getMessage());
+  }
+
+  @Test
+  @DisplayName("Deve rejeitar corpo sem valor ou com JSON inválido")
+  void shouldRejectMissingValueOrMalformedBody() {
+    // When
+    ValidationException missing = assertThrows(ValidationException.class,
+        () -> validationService.readValidatedValue(allowlist, body("{\"value\":null}")));
+    ValidationException malformed = assertThrows(ValidationException.class,
+        () -> validationService.readValidatedValue(allowlist, body("{\"value\":[\"a\"")));
+    ValidationException wrongType = assertThrows(ValidationException.class,
+        () -> validationService.readValidatedValue(allowlist, body("{\"value\":\"a\"}")));
+
+    // Then
+    assertEquals("Valor não pode ser nulo", missing.getMessage());
+    assertEquals("Corpo da requisição não é um JSON válido", malformed.getMessage());
+    assertEquals("Valor deve ser do tipo array para feature flag 'allowlist'", wrongType.getMessage());
+  }
+
+  private static InputStream body(String json) {
+    return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -0,0 +1,150 @@
+package com.renanloureiro.feature_flags.application.snapshot;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.node.BooleanNode;
+import com.renanloureiro.feature_flags.domain.FeatureFlag;
+import com.renanloureiro.feature_flags.domain.FeatureFlagType;
+import com.renanloureiro.feature_flags.domain.FeatureFlagValue;
+import com.renanloureiro.feature_flags.infrastructure.repositories.FeatureFlagRepositoryInMemoryImpl;
+import com.renanloureiro.feature_flags.infrastructure.repositories.FeatureFlagValueRepositoryInMemoryImpl;
+
+class FeatureFlagSnapshotHolderTest {
+
+  private FeatureFlagRepositoryInMemoryImpl featureFlagRepository;
+
+  private FeatureFlagValueRepositoryInMemoryImpl featureFlagValueRepository;
+
+  private FeatureFlagSnapshotHolder snapshotHolder;
+
+  @BeforeEach
+  void setUp() {
+    featureFlagValueRepository = new FeatureFlagValueRepositoryInMemoryImpl();
+    featureFlagRepository = new FeatureFlagRepositoryInMemoryImpl(featureFlagValueRepository);
+    snapshotHolder = new FeatureFlagSnapshotHolder(featureFlagRepository, featureFlagValueRepository);
+  }
+
+  @Test
+  @DisplayName("Deve carregar todas as flags com seus valores vigentes")
+  void shouldLoadFlagsWithCurrentValues() {
+    // Given
+    FeatureFlag darkMode = featureFlagRepository.save(flag("dark-mode"));
+    FeatureFlag beta = featureFlagRepository.save(flag("beta"));
+    featureFlagValueRepository.save(value(darkMode, BooleanNode.FALSE, 1));
+    featureFlagValueRepository.save(value(darkMode, BooleanNode.TRUE, 2));
+
+    // When
+    FeatureFlagSnapshot snapshot = snapshotHolder.reload();
+
+    // Then
+    assertEquals(1, snapshot.getRevision());
+    assertEquals(2, snapshot.size());
+    assertEquals("beta", snapshot.getFlags().get(0).getSlug());
+    assertEquals(2, snapshot.findBySlug("dark-mode").orElseThrow().getCurrentValue().getVersion());
+    assertNull(snapshot.findById(beta.getId()).orElseThrow().getCurrentValue());
+  }
+
+  @Test
+  @DisplayName("Deve publicar um novo snapshot sem alterar o anterior")
+  void shouldCopyOnWrite() {
+    // Given
+    FeatureFlag darkMode = flag("dark-mode");
+    FeatureFlagSnapshot before = snapshotHolder.current();
+
+    // When
+    FeatureFlagSnapshot after = snapshotHolder.apply(darkMode, value(darkMode, BooleanNode.TRUE, 1));
+
+    // Then
+    assertTrue(before.findBySlug("dark-mode").isEmpty());
+    assertEquals(before.getRevision() + 1, after.getRevision());
+    assertSame(after, snapshotHolder.current());
+    assertEquals(after.getRevision(), after.findBySlug("dark-mode").orElseThrow().getRevision());
+  }
+
+  @Test
+  @DisplayName("Deve manter o valor de maior versão quando eventos chegam fora de ordem")
+  void shouldKeepNewestVersion() {
+    // Given
+    FeatureFlag darkMode = flag("dark-mode");
+    snapshotHolder.apply(darkMode, value(darkMode, BooleanNode.TRUE, 2));
+
+    // When
+    snapshotHolder.apply(darkMode, value(darkMode, BooleanNode.FALSE, 1));
+    snapshotHolder.apply(darkMode, null);
+
+    // Then
+    FeatureFlagValue current = snapshotHolder.current().findBySlug("dark-mode").orElseThrow().getCurrentValue();
+    assertEquals(2, current.getVersion());
+    assertEquals(BooleanNode.TRUE, current.getValue());
+  }
+
+  @Test
+  @DisplayName("Deve reler uma flag do banco ao atualizar pelo slug")
+  void shouldRefreshFromRepository() {
+    // Given
+    FeatureFlag darkMode = featureFlagRepository.save(flag("dark-mode"));
+    featureFlagValueRepository.save(value(darkMode, BooleanNode.TRUE, 1));
+
+    // When
+    var entry = snapshotHolder.refresh("dark-mode");
+
+    // Then
+    assertEquals(1, entry.orElseThrow().getCurrentValue().getVersion());
+    assertTrue(snapshotHolder.refresh("missing-flag").isEmpty());
+  }
+
+  @Test
+  @DisplayName("Deve preservar alterações aplicadas durante a releitura do catálogo")
+  void shouldKeepChangesAppliedDuringReload() {
+    // Given
+    FeatureFlag darkMode = featureFlagRepository.save(flag("dark-mode"));
+    featureFlagValueRepository.save(value(darkMode, BooleanNode.FALSE, 1));
+    FeatureFlag beta = flag("beta");
+    FeatureFlagRepositoryInMemoryImpl racingRepository = new FeatureFlagRepositoryInMemoryImpl(featureFlagValueRepository) {
+      @Override
+      public List<FeatureFlagSnapshotEntry> findPage(FeatureFlagType type, String afterSlug, int limit) {
+        List<FeatureFlagSnapshotEntry> page = featureFlagRepository.findPage(type, afterSlug, limit);
+        // escritas que chegam depois da leitura da página e antes da troca
+        snapshotHolder.apply(darkMode, value(darkMode, BooleanNode.TRUE, 2));
+        snapshotHolder.apply(beta, value(beta, BooleanNode.TRUE, 1));
+        return page;
+      }
+    };
+    snapshotHolder = new FeatureFlagSnapshotHolder(racingRepository, featureFlagValueRepository);
+
+    // When
+    FeatureFlagSnapshot snapshot = snapshotHolder.reload();
+
+    // Then
+    assertEquals(2, snapshot.findBySlug("dark-mode").orElseThrow().getCurrentValue().getVersion());
+    assertEquals(List.of("beta", "dark-mode"), snapshot.getFlags().stream().map(FeatureFlag::getSlug).toList());
+  }
+
+  private FeatureFlag flag(String slug) {
+    return FeatureFlag.builder()
+        .id(UUID.randomUUID())
+        .name(slug)
+        .slug(slug)
+        .type(FeatureFlagType.BOOLEAN)
+        .build();
+  }
+
+  private FeatureFlagValue value(FeatureFlag flag, BooleanNode value, int version) {
+    return FeatureFlagValue.builder()
+        .flag(flag)
+        .value(value)
+        .version(version)
+        .updatedBy("api")
+        .build();
+  }
+}
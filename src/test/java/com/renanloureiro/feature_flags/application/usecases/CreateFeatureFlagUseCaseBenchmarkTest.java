@@ -0,0 +1,132 @@
+package com.renanloureiro.feature_flags.application.usecases;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.function.Function;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.renanloureiro.feature_flags.application.exceptions.SlugAlreadyExists;
+import com.renanloureiro.feature_flags.application.repositories.FeatureFlagRepository;
+import com.renanloureiro.feature_flags.domain.FeatureFlag;
+import com.renanloureiro.feature_flags.domain.FeatureFlagType;
+import com.renanloureiro.feature_flags.infrastructure.AbstractPostgresBenchmarkTest;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Comandos enviados ao banco por criação: verificação do slug seguida do
+ * insert contra o insert único com {@code ON CONFLICT}. Executar com
+ * {@code mvn test -Pbenchmark}.
+ */
+@Slf4j
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class CreateFeatureFlagUseCaseBenchmarkTest extends AbstractPostgresBenchmarkTest {
+
+  private static final int CREATES = 2_000;
+
+  @Autowired
+  private FeatureFlagRepository featureFlagRepository;
+
+  @Autowired
+  private TransactionTemplate transactionTemplate;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  private Statistics statistics;
+
+  @BeforeAll
+  void enableStatistics() {
+    statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+  }
+
+  @Test
+  @DisplayName("Benchmark: criação de flags com e sem a verificação prévia do slug")
+  void shouldCreateWithSingleStatement() {
+    // aquecimento dos dois caminhos
+    run("warmup-check-", 200, this::checkThenSave);
+    run("warmup-insert-", 200, this::insertIfSlugAvailable);
+
+    Result checkThenSave = run("check-", CREATES, this::checkThenSave);
+    Result insert = run("insert-", CREATES, this::insertIfSlugAvailable);
+    log.info("Verificação + insert: {} comandos/criação, {} criações/s", format(checkThenSave.statementsPerCreate()),
+        format(checkThenSave.createsPerSecond()));
+    log.info("Insert com ON CONFLICT: {} comandos/criação, {} criações/s", format(insert.statementsPerCreate()),
+        format(insert.createsPerSecond()));
+
+    Result conflicts = run("insert-", CREATES, slug -> {
+      try {
+        return insertIfSlugAvailable(slug);
+      } catch (SlugAlreadyExists e) {
+        return null;
+      }
+    });
+    log.info("Insert com ON CONFLICT em slugs existentes: {} comandos/criação", format(conflicts.statementsPerCreate()));
+
+    assertEquals(2.0, checkThenSave.statementsPerCreate());
+    assertEquals(1.0, insert.statementsPerCreate());
+    assertEquals(1.0, conflicts.statementsPerCreate());
+    assertEquals(2 * (CREATES + 200), jdbcTemplate.queryForObject("select count(*) from feature_flags", Integer.class));
+  }
+
+  /**
+   * Caminho anterior da criação, mantido apenas para comparação
+   */
+  private FeatureFlag checkThenSave(String slug) {
+    return transactionTemplate.execute(status -> {
+      if (featureFlagRepository.findBySlug(slug).isPresent()) {
+        throw new SlugAlreadyExists();
+      }
+      return featureFlagRepository.save(flag(slug));
+    });
+  }
+
+  private FeatureFlag insertIfSlugAvailable(String slug) {
+    return transactionTemplate.execute(status -> featureFlagRepository.insertIfSlugAvailable(flag(slug))
+        .orElseThrow(SlugAlreadyExists::new));
+  }
+
+  private Result run(String prefix, int creates, Function<String, FeatureFlag> create) {
+    statistics.clear();
+    long startedAt = System.nanoTime();
+    for (int i = 0; i < creates; i++) {
+      create.apply(prefix + i);
+    }
+    long elapsed = System.nanoTime() - startedAt;
+    return new Result((double) statistics.getPrepareStatementCount() / creates,
+        creates / (elapsed / 1_000_000_000.0));
+  }
+
+  private static FeatureFlag flag(String slug) {
+    return FeatureFlag.builder()
+        .name(slug)
+        .slug(slug)
+        .type(FeatureFlagType.BOOLEAN)
+        .schema(JsonNodeFactory.instance.objectNode().put("type", "boolean"))
+        .build();
+  }
+
+  private static String format(double value) {
+    return String.format("%.2f", value);
+  }
+
+  private record Result(double statementsPerCreate, double createsPerSecond) {
+  }
+}
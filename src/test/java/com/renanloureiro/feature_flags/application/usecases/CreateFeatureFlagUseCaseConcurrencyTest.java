@@ -0,0 +1,111 @@
+package com.renanloureiro.feature_flags.application.usecases;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.renanloureiro.feature_flags.application.dtos.CreateFeatureFlagDTO;
+import com.renanloureiro.feature_flags.application.exceptions.SlugAlreadyExists;
+import com.renanloureiro.feature_flags.domain.FeatureFlag;
+import com.renanloureiro.feature_flags.domain.FeatureFlagType;
+
+/**
+ * Criações simultâneas do mesmo slug: uma vence e as demais recebem
+ * {@link SlugAlreadyExists}, nunca uma violação de constraint
+ */
+@SpringBootTest(classes = com.renanloureiro.feature_flags.infrastructure.FeatureFlagsApplication.class)
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@Testcontainers
+class CreateFeatureFlagUseCaseConcurrencyTest {
+
+  private static final int WRITERS = 64;
+
+  @Container
+  static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+      .withDatabaseName("feature_flags_create_concurrency_test")
+      .withUsername("test_user")
+      .withPassword("test_password")
+      .withInitScript("init-test-db.sql");
+
+  @DynamicPropertySource
+  static void configureProperties(DynamicPropertyRegistry registry) {
+    registry.add("spring.datasource.url", postgres::getJdbcUrl);
+    registry.add("spring.datasource.username", postgres::getUsername);
+    registry.add("spring.datasource.password", postgres::getPassword);
+    registry.add("spring.datasource.driver-class-name", postgres::getDriverClassName);
+    registry.add("spring.datasource.hikari.maximum-pool-size", () -> WRITERS);
+  }
+
+  @Autowired
+  private CreateFeatureFlagUseCase createFeatureFlagUseCase;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Test
+  @DisplayName("Deve criar a flag uma única vez com 64 criações simultâneas do mesmo slug")
+  void shouldCreateOnceUnderConcurrentDuplicates() throws Exception {
+    // Arrange
+    CreateFeatureFlagDTO dto = CreateFeatureFlagDTO.builder()
+        .name("Concurrent Checkout")
+        .description("Flag criada por vários escritores")
+        .type(FeatureFlagType.BOOLEAN)
+        .build();
+
+    ExecutorService executor = Executors.newFixedThreadPool(WRITERS);
+    CountDownLatch start = new CountDownLatch(1);
+    List<Future<FeatureFlag>> futures = new ArrayList<>(WRITERS);
+    List<FeatureFlag> created = new ArrayList<>();
+    List<Throwable> failures = new ArrayList<>();
+
+    // Act
+    try {
+      for (int i = 0; i < WRITERS; i++) {
+        futures.add(executor.submit(() -> {
+          start.await();
+          return createFeatureFlagUseCase.execute(dto);
+        }));
+      }
+      start.countDown();
+      for (Future<FeatureFlag> future : futures) {
+        try {
+          created.add(future.get());
+        } catch (ExecutionException e) {
+          failures.add(e.getCause());
+        }
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    // Assert
+    assertEquals(1, created.size());
+    assertEquals(WRITERS - 1, failures.size());
+    failures.forEach(failure -> assertInstanceOf(SlugAlreadyExists.class, failure));
+    assertEquals(1, jdbcTemplate.queryForObject(
+        "select count(*) from feature_flags where slug = 'concurrent-checkout'", Integer.class));
+    assertEquals(created.get(0).getRevision(), jdbcTemplate.queryForObject(
+        "select revision from feature_flags where slug = 'concurrent-checkout'", Long.class));
+  }
+}
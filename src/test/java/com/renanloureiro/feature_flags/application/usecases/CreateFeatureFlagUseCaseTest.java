@@ -2,14 +2,21 @@ package com.renanloureiro.feature_flags.application.usecases;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.Optional;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.context.ContextConfiguration;
 
 import com.fasterxml.jackson.databind.JsonNode;
@@ -18,6 +25,8 @@ import com.renanloureiro.feature_flags.application.dtos.CreateFeatureFlagDTO;
 import com.renanloureiro.feature_flags.application.dtos.NumberConstraints;
 import com.renanloureiro.feature_flags.application.dtos.StringConstraints;
 import com.renanloureiro.feature_flags.application.dtos.ListConstraints;
+import com.renanloureiro.feature_flags.application.events.FeatureFlagChangedEvent;
+import com.renanloureiro.feature_flags.application.exceptions.SlugAlreadyExists;
 import com.renanloureiro.feature_flags.application.repositories.FeatureFlagRepository;
 import com.renanloureiro.feature_flags.application.services.SchemaGeneratorService;
 import com.renanloureiro.feature_flags.application.validation.JsonSchemaValidationService;
@@ -38,6 +47,9 @@ class CreateFeatureFlagUseCaseTest {
   @Mock
   private SchemaGeneratorService schemaGeneratorService;
 
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
   private CreateFeatureFlagUseCase useCase;
 
   private ObjectMapper objectMapper;
@@ -45,7 +57,8 @@ class CreateFeatureFlagUseCaseTest {
   @BeforeEach
   void setUp() {
     objectMapper = new ObjectMapper();
-    useCase = new CreateFeatureFlagUseCase(featureFlagRepository, schemaValidationService, schemaGeneratorService);
+    useCase = new CreateFeatureFlagUseCase(featureFlagRepository, schemaValidationService, schemaGeneratorService,
+        eventPublisher);
     try {
       java.lang.reflect.Field repoField = CreateFeatureFlagUseCase.class.getDeclaredField("featureFlagRepository");
       repoField.setAccessible(true);
@@ -92,8 +105,7 @@ class CreateFeatureFlagUseCaseTest {
     // Mock dos métodos void
     org.mockito.Mockito.doNothing().when(schemaValidationService).validateSchema(schema);
     org.mockito.Mockito.doNothing().when(schemaValidationService).validateSchemaForType(schema, type.name());
-    when(featureFlagRepository.existsBySlug("test-feature-flag")).thenReturn(false);
-    when(featureFlagRepository.save(expectedFeatureFlag)).thenReturn(expectedFeatureFlag);
+    when(featureFlagRepository.insertIfSlugAvailable(expectedFeatureFlag)).thenReturn(Optional.of(expectedFeatureFlag));
 
     // Act
     FeatureFlag result = useCase.execute(dto);
@@ -133,8 +145,7 @@ class CreateFeatureFlagUseCaseTest {
     // Mock dos métodos void
     org.mockito.Mockito.doNothing().when(schemaValidationService).validateSchema(schema);
     org.mockito.Mockito.doNothing().when(schemaValidationService).validateSchemaForType(schema, type.name());
-    when(featureFlagRepository.existsBySlug("another-test-flag")).thenReturn(false);
-    when(featureFlagRepository.save(expectedFeatureFlag)).thenReturn(expectedFeatureFlag);
+    when(featureFlagRepository.insertIfSlugAvailable(expectedFeatureFlag)).thenReturn(Optional.of(expectedFeatureFlag));
 
     // Act
     FeatureFlag result = useCase.execute(dto);
@@ -175,8 +186,7 @@ class CreateFeatureFlagUseCaseTest {
     when(schemaGeneratorService.generateSchema(type, null)).thenReturn(expectedSchema);
     org.mockito.Mockito.doNothing().when(schemaValidationService).validateSchema(expectedSchema);
     org.mockito.Mockito.doNothing().when(schemaValidationService).validateSchemaForType(expectedSchema, type.name());
-    when(featureFlagRepository.existsBySlug("test-boolean-flag")).thenReturn(false);
-    when(featureFlagRepository.save(expectedFeatureFlag)).thenReturn(expectedFeatureFlag);
+    when(featureFlagRepository.insertIfSlugAvailable(expectedFeatureFlag)).thenReturn(Optional.of(expectedFeatureFlag));
 
     // Act
     FeatureFlag result = useCase.execute(dto);
@@ -220,8 +230,7 @@ class CreateFeatureFlagUseCaseTest {
     when(schemaGeneratorService.generateSchema(type, constraints)).thenReturn(expectedSchema);
     org.mockito.Mockito.doNothing().when(schemaValidationService).validateSchema(expectedSchema);
     org.mockito.Mockito.doNothing().when(schemaValidationService).validateSchemaForType(expectedSchema, type.name());
-    when(featureFlagRepository.existsBySlug("test-number-flag")).thenReturn(false);
-    when(featureFlagRepository.save(expectedFeatureFlag)).thenReturn(expectedFeatureFlag);
+    when(featureFlagRepository.insertIfSlugAvailable(expectedFeatureFlag)).thenReturn(Optional.of(expectedFeatureFlag));
 
     // Act
     FeatureFlag result = useCase.execute(dto);
@@ -267,8 +276,7 @@ class CreateFeatureFlagUseCaseTest {
     when(schemaGeneratorService.generateSchema(type, constraints)).thenReturn(expectedSchema);
     org.mockito.Mockito.doNothing().when(schemaValidationService).validateSchema(expectedSchema);
     org.mockito.Mockito.doNothing().when(schemaValidationService).validateSchemaForType(expectedSchema, type.name());
-    when(featureFlagRepository.existsBySlug("test-string-flag")).thenReturn(false);
-    when(featureFlagRepository.save(expectedFeatureFlag)).thenReturn(expectedFeatureFlag);
+    when(featureFlagRepository.insertIfSlugAvailable(expectedFeatureFlag)).thenReturn(Optional.of(expectedFeatureFlag));
 
     // Act
     FeatureFlag result = useCase.execute(dto);
@@ -315,8 +323,7 @@ class CreateFeatureFlagUseCaseTest {
     when(schemaGeneratorService.generateSchema(type, constraints)).thenReturn(expectedSchema);
     org.mockito.Mockito.doNothing().when(schemaValidationService).validateSchema(expectedSchema);
     org.mockito.Mockito.doNothing().when(schemaValidationService).validateSchemaForType(expectedSchema, type.name());
-    when(featureFlagRepository.existsBySlug("test-list-flag")).thenReturn(false);
-    when(featureFlagRepository.save(expectedFeatureFlag)).thenReturn(expectedFeatureFlag);
+    when(featureFlagRepository.insertIfSlugAvailable(expectedFeatureFlag)).thenReturn(Optional.of(expectedFeatureFlag));
 
     // Act
     FeatureFlag result = useCase.execute(dto);
@@ -327,4 +334,23 @@ class CreateFeatureFlagUseCaseTest {
     assertEquals(type, result.getType());
     assertEquals(expectedSchema, result.getSchema());
   }
-}
\ No newline at end of file
+
+  @Test
+  @DisplayName("Deve lançar SlugAlreadyExists quando o insert encontra o slug ocupado")
+  void shouldThrowSlugAlreadyExistsOnSlugConflict() throws Exception {
+    // Arrange
+    JsonNode schema = objectMapper.readTree("{\"type\": \"boolean\"}");
+
+    CreateFeatureFlagDTO dto = CreateFeatureFlagDTO.builder()
+        .name("Existing Flag")
+        .type(FeatureFlagType.BOOLEAN)
+        .schema(schema)
+        .build();
+
+    when(featureFlagRepository.insertIfSlugAvailable(any(FeatureFlag.class))).thenReturn(Optional.empty());
+
+    // Act & Assert
+    assertThrows(SlugAlreadyExists.class, () -> useCase.execute(dto));
+    verify(eventPublisher, never()).publishEvent(any(FeatureFlagChangedEvent.class));
+  }
+}
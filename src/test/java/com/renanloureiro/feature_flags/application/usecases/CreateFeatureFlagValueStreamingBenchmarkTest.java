@@ -0,0 +1,125 @@
+package com.renanloureiro.feature_flags.application.usecases;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.renanloureiro.feature_flags.application.dtos.CreateFeatureFlagDTO;
+import com.renanloureiro.feature_flags.application.dtos.CreateFeatureFlagValueDTO;
+import com.renanloureiro.feature_flags.application.dtos.ListConstraints;
+import com.renanloureiro.feature_flags.application.exceptions.ValidationException;
+import com.renanloureiro.feature_flags.domain.FeatureFlagType;
+import com.renanloureiro.feature_flags.infrastructure.AbstractPostgresBenchmarkTest;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Publicação de uma lista com 100 mil itens pelo DTO, cuja árvore é montada e
+ * serializada de volta antes da leitura, e direto do corpo em stream. Mede tempo e memória
+ * alocada por publicação. Executar com {@code mvn test -Pbenchmark}.
+ */
+@Slf4j
+class CreateFeatureFlagValueStreamingBenchmarkTest extends AbstractPostgresBenchmarkTest {
+
+  private static final int ITEMS = 100_000;
+
+  private static final int ITERATIONS = 10;
+
+  @Autowired
+  private CreateFeatureFlagUseCase createFeatureFlagUseCase;
+
+  @Autowired
+  private CreateFeatureFlagValueUseCase createFeatureFlagValueUseCase;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  @Test
+  @DisplayName("Benchmark: lista de 100 mil itens pelo DTO e em stream")
+  void shouldAllocateLessWhenStreamingLargeList() throws Exception {
+    // Given
+    UUID flagId = createFeatureFlagUseCase.execute(CreateFeatureFlagDTO.builder()
+        .name("Benchmark Allowlist")
+        .description("Flag usada no benchmark de listas grandes")
+        .type(FeatureFlagType.LIST)
+        .listConstraints(ListConstraints.builder()
+            .itemType("string")
+            .maxItems(ITEMS)
+            .uniqueItems(true)
+            .build())
+        .build()).getId();
+    byte[] body = body(ITEMS);
+    byte[] oversized = body(ITEMS * 10);
+
+    // When
+    Measurement tree = measure(() -> createFeatureFlagValueUseCase.execute(flagId, CreateFeatureFlagValueDTO.builder()
+        .value(objectMapper.readTree(body).get("value"))
+        .build()));
+    Measurement stream = measure(() -> createFeatureFlagValueUseCase.execute(flagId, new ByteArrayInputStream(body)));
+    Measurement rejected = measure(() -> assertThrows(ValidationException.class,
+        () -> createFeatureFlagValueUseCase.execute(flagId, new ByteArrayInputStream(oversized))));
+
+    log.info("DTO: {} ms e {} MB alocados por publicação", format(tree.millis()), megabytes(tree.bytes()));
+    log.info("Stream: {} ms e {} MB alocados por publicação", format(stream.millis()), megabytes(stream.bytes()));
+    log.info("Lista de {} itens rejeitada em {} ms com {} MB alocados", ITEMS * 10, format(rejected.millis()),
+        megabytes(rejected.bytes()));
+
+    // Then
+    assertEquals(ITEMS, createFeatureFlagValueUseCase.execute(flagId, new ByteArrayInputStream(body)).getValue().size());
+    assertTrue(stream.bytes() < tree.bytes(), "Stream alocou mais que o DTO");
+    assertTrue(rejected.bytes() < stream.bytes() * 2, "Rejeição leu a lista inteira");
+  }
+
+  private byte[] body(int items) {
+    StringBuilder json = new StringBuilder(items * 16).append("{\"value\":[");
+    for (int i = 0; i < items; i++) {
+      json.append(i == 0 ? "" : ",").append("\"user-").append(i).append('"');
+    }
+    return json.append("]}").toString().getBytes(StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Tempo médio e bytes alocados pela thread por execução, depois de uma rodada
+   * de aquecimento
+   */
+  private Measurement measure(ThrowingRunnable publish) throws Exception {
+    com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    for (int i = 0; i < ITERATIONS / 2; i++) {
+      publish.run();
+    }
+
+    long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+    long startedAt = System.nanoTime();
+    for (int i = 0; i < ITERATIONS; i++) {
+      publish.run();
+    }
+    long elapsed = System.nanoTime() - startedAt;
+    long allocated = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+    return new Measurement(elapsed / 1_000_000.0 / ITERATIONS, allocated / ITERATIONS);
+  }
+
+  private static String format(double millis) {
+    return String.format("%.2f", millis);
+  }
+
+  private static String megabytes(long bytes) {
+    return String.format("%.1f", bytes / (1024.0 * 1024.0));
+  }
+
+  private interface ThrowingRunnable {
+    void run() throws Exception;
+  }
+
+  private record Measurement(double millis, long bytes) {
+  }
+}
@@ -0,0 +1,116 @@
+package com.renanloureiro.feature_flags.application.usecases;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import com.fasterxml.jackson.databind.node.BooleanNode;
+import com.renanloureiro.feature_flags.application.dtos.CreateFeatureFlagDTO;
+import com.renanloureiro.feature_flags.application.dtos.CreateFeatureFlagValueDTO;
+import com.renanloureiro.feature_flags.application.repositories.FeatureFlagValueRepository;
+import com.renanloureiro.feature_flags.domain.FeatureFlag;
+import com.renanloureiro.feature_flags.domain.FeatureFlagType;
+import com.renanloureiro.feature_flags.infrastructure.AbstractPostgresBenchmarkTest;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Vazão de publicação com 64 escritores disputando a mesma flag. Executar com
+ * {@code mvn test -Pbenchmark}.
+ */
+@Slf4j
+class CreateFeatureFlagValueUseCaseBenchmarkTest extends AbstractPostgresBenchmarkTest {
+
+  private static final int WRITERS = 64;
+
+  private static final int PUBLISHES_PER_WRITER = 25;
+
+  private static final int ROUNDS = 5;
+
+  @DynamicPropertySource
+  static void configurePool(DynamicPropertyRegistry registry) {
+    registry.add("spring.datasource.hikari.maximum-pool-size", () -> WRITERS);
+  }
+
+  @Autowired
+  private CreateFeatureFlagUseCase createFeatureFlagUseCase;
+
+  @Autowired
+  private CreateFeatureFlagValueUseCase createFeatureFlagValueUseCase;
+
+  @Autowired
+  private FeatureFlagValueRepository featureFlagValueRepository;
+
+  @Test
+  @DisplayName("Benchmark: 64 escritores simultâneos na mesma flag")
+  void shouldSustainThroughputWithConcurrentWriters() throws Exception {
+    // Given
+    FeatureFlag flag = createFeatureFlagUseCase.execute(CreateFeatureFlagDTO.builder()
+        .name("Benchmark Rollout")
+        .description("Flag usada no benchmark de publicação")
+        .type(FeatureFlagType.BOOLEAN)
+        .build());
+    UUID flagId = flag.getId();
+    CreateFeatureFlagValueDTO dto = CreateFeatureFlagValueDTO.builder().value(BooleanNode.TRUE).build();
+
+    // When
+    List<Double> throughputs = new ArrayList<>(ROUNDS);
+    AtomicInteger failures = new AtomicInteger();
+    ExecutorService executor = Executors.newFixedThreadPool(WRITERS);
+    try {
+      for (int round = 1; round <= ROUNDS; round++) {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>(WRITERS);
+        for (int i = 0; i < WRITERS; i++) {
+          futures.add(executor.submit(() -> {
+            start.await();
+            for (int j = 0; j < PUBLISHES_PER_WRITER; j++) {
+              try {
+                createFeatureFlagValueUseCase.execute(flagId, dto);
+              } catch (RuntimeException e) {
+                failures.incrementAndGet();
+              }
+            }
+            return null;
+          }));
+        }
+
+        long startedAt = System.nanoTime();
+        start.countDown();
+        for (Future<?> future : futures) {
+          future.get();
+        }
+        double seconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+        double throughput = WRITERS * PUBLISHES_PER_WRITER / seconds;
+        throughputs.add(throughput);
+        log.info("Rodada {}: {} publicações em {} s ({} publicações/s)", round, WRITERS * PUBLISHES_PER_WRITER,
+            String.format("%.2f", seconds), String.format("%.0f", throughput));
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    // Then
+    int expectedVersions = WRITERS * PUBLISHES_PER_WRITER * ROUNDS;
+    assertEquals(0, failures.get());
+    assertEquals(expectedVersions, featureFlagValueRepository.findCurrentByFlagSlug(flag.getSlug()).orElseThrow().getVersion());
+
+    double slowest = throughputs.stream().mapToDouble(Double::doubleValue).min().orElseThrow();
+    double fastest = throughputs.stream().mapToDouble(Double::doubleValue).max().orElseThrow();
+    assertTrue(slowest >= fastest / 3, "Vazão instável entre rodadas: " + throughputs);
+  }
+}
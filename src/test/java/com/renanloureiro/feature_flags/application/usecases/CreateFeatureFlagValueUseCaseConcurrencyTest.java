@@ -0,0 +1,111 @@
+package com.renanloureiro.feature_flags.application.usecases;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.fasterxml.jackson.databind.node.BooleanNode;
+import com.renanloureiro.feature_flags.application.dtos.CreateFeatureFlagDTO;
+import com.renanloureiro.feature_flags.application.dtos.CreateFeatureFlagValueDTO;
+import com.renanloureiro.feature_flags.application.repositories.FeatureFlagValueRepository;
+import com.renanloureiro.feature_flags.domain.FeatureFlag;
+import com.renanloureiro.feature_flags.domain.FeatureFlagType;
+import com.renanloureiro.feature_flags.domain.FeatureFlagValue;
+
+/**
+ * Publicações concorrentes na mesma flag não podem falhar nem repetir versões
+ */
+@SpringBootTest(classes = com.renanloureiro.feature_flags.infrastructure.FeatureFlagsApplication.class)
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@Testcontainers
+class CreateFeatureFlagValueUseCaseConcurrencyTest {
+
+  private static final int WRITERS = 64;
+
+  @Container
+  static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+      .withDatabaseName("feature_flags_concurrency_test")
+      .withUsername("test_user")
+      .withPassword("test_password")
+      .withInitScript("init-test-db.sql");
+
+  @DynamicPropertySource
+  static void configureProperties(DynamicPropertyRegistry registry) {
+    registry.add("spring.datasource.url", postgres::getJdbcUrl);
+    registry.add("spring.datasource.username", postgres::getUsername);
+    registry.add("spring.datasource.password", postgres::getPassword);
+    registry.add("spring.datasource.driver-class-name", postgres::getDriverClassName);
+    registry.add("spring.datasource.hikari.maximum-pool-size", () -> WRITERS);
+  }
+
+  @Autowired
+  private CreateFeatureFlagUseCase createFeatureFlagUseCase;
+
+  @Autowired
+  private CreateFeatureFlagValueUseCase createFeatureFlagValueUseCase;
+
+  @Autowired
+  private FeatureFlagValueRepository featureFlagValueRepository;
+
+  @Test
+  @DisplayName("Deve alocar versões distintas e consecutivas para 64 publicadores simultâneos")
+  void shouldAllocateDistinctVersionsUnderContention() throws Exception {
+    // Arrange
+    FeatureFlag flag = createFeatureFlagUseCase.execute(CreateFeatureFlagDTO.builder()
+        .name("Concurrent Rollout")
+        .description("Flag publicada por vários escritores")
+        .type(FeatureFlagType.BOOLEAN)
+        .build());
+    UUID flagId = flag.getId();
+    CreateFeatureFlagValueDTO dto = CreateFeatureFlagValueDTO.builder().value(BooleanNode.TRUE).build();
+
+    ExecutorService executor = Executors.newFixedThreadPool(WRITERS);
+    CountDownLatch start = new CountDownLatch(1);
+    Set<Integer> versions = ConcurrentHashMap.newKeySet();
+    List<Future<FeatureFlagValue>> futures = new ArrayList<>(WRITERS);
+
+    // Act
+    try {
+      for (int i = 0; i < WRITERS; i++) {
+        futures.add(executor.submit(() -> {
+          start.await();
+          return createFeatureFlagValueUseCase.execute(flagId, dto);
+        }));
+      }
+      start.countDown();
+      for (Future<FeatureFlagValue> future : futures) {
+        versions.add(future.get().getVersion());
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    // Assert
+    Set<Integer> expected = IntStream.rangeClosed(1, WRITERS).boxed().collect(Collectors.toSet());
+    assertEquals(expected, versions);
+    assertEquals(WRITERS, featureFlagValueRepository.findCurrentByFlagSlug(flag.getSlug()).orElseThrow().getVersion());
+  }
+}
@@ -0,0 +1,141 @@
+package com.renanloureiro.feature_flags.application.usecases;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.renanloureiro.feature_flags.application.batch.FeatureFlagBatchItemResult;
+import com.renanloureiro.feature_flags.application.dtos.CreateFeatureFlagDTO;
+import com.renanloureiro.feature_flags.application.events.FeatureFlagsChangedEvent;
+import com.renanloureiro.feature_flags.application.exceptions.ValidationException;
+import com.renanloureiro.feature_flags.domain.FeatureFlag;
+import com.renanloureiro.feature_flags.domain.FeatureFlagType;
+import com.renanloureiro.feature_flags.infrastructure.repositories.FeatureFlagRepositoryInMemoryImpl;
+
+@ExtendWith(MockitoExtension.class)
+class CreateFeatureFlagsBatchTest {
+
+  @Mock
+  private CreateFeatureFlagUseCase createFeatureFlagUseCase;
+
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
+  private FeatureFlagRepositoryInMemoryImpl featureFlagRepository;
+
+  private CreateFeatureFlagsBatch useCase;
+
+  @BeforeEach
+  void setUp() {
+    featureFlagRepository = new FeatureFlagRepositoryInMemoryImpl();
+    useCase = new CreateFeatureFlagsBatch(createFeatureFlagUseCase, featureFlagRepository, eventPublisher);
+    when(createFeatureFlagUseCase.build(any())).thenAnswer(invocation -> {
+      CreateFeatureFlagDTO dto = invocation.getArgument(0);
+      if (dto.getDescription() == null) {
+        throw new ValidationException("Description is required");
+      }
+      return FeatureFlag.builder()
+          .name(dto.getName())
+          .slug(FeatureFlag.createSlugByName(dto.getName()))
+          .description(dto.getDescription())
+          .type(dto.getType())
+          .build();
+    });
+  }
+
+  @Test
+  @DisplayName("Deve reportar o resultado de cada item do lote")
+  void shouldReportResultPerItem() {
+    // Arrange
+    featureFlagRepository.save(FeatureFlag.builder()
+        .name("existing")
+        .slug("existing")
+        .description("existing")
+        .type(FeatureFlagType.BOOLEAN)
+        .build());
+
+    List<CreateFeatureFlagDTO> dtos = List.of(
+        dto("new-flag", "ok"),
+        dto("existing", "taken"),
+        dto("invalid", null),
+        dto("new-flag", "repeated"),
+        dto("other-flag", "ok"));
+
+    // Act
+    List<FeatureFlagBatchItemResult> results = useCase.execute(dtos);
+
+    // Assert
+    assertEquals(List.of(201, 409, 400, 409, 201), results.stream().map(FeatureFlagBatchItemResult::getStatus).toList());
+    assertEquals(List.of(0, 1, 2, 3, 4), results.stream().map(FeatureFlagBatchItemResult::getIndex).toList());
+    assertTrue(featureFlagRepository.existsBySlug("new-flag"));
+    assertTrue(featureFlagRepository.existsBySlug("other-flag"));
+    assertEquals("Description is required", results.get(2).getError());
+
+    ArgumentCaptor<FeatureFlagsChangedEvent> event = ArgumentCaptor.forClass(FeatureFlagsChangedEvent.class);
+    verify(eventPublisher).publishEvent(event.capture());
+    assertEquals(2, event.getValue().getChanges().size());
+  }
+
+  @Test
+  @DisplayName("Deve reportar 409 quando outra transação cria o slug durante o lote")
+  void shouldReportConflictWhenSlugIsTakenConcurrently() {
+    // Arrange
+    featureFlagRepository = new FeatureFlagRepositoryInMemoryImpl() {
+      @Override
+      public List<FeatureFlag> insertAllIfSlugsAvailable(List<FeatureFlag> featureFlags) {
+        // outra instância grava o mesmo slug entre a validação e a inserção
+        save(FeatureFlag.builder()
+            .name("racing")
+            .slug("racing")
+            .description("other")
+            .type(FeatureFlagType.BOOLEAN)
+            .build());
+        return super.insertAllIfSlugsAvailable(featureFlags);
+      }
+    };
+    useCase = new CreateFeatureFlagsBatch(createFeatureFlagUseCase, featureFlagRepository, eventPublisher);
+
+    // Act
+    List<FeatureFlagBatchItemResult> results = useCase.execute(List.of(dto("racing", "ok"), dto("calm", "ok")));
+
+    // Assert
+    assertEquals(List.of(409, 201), results.stream().map(FeatureFlagBatchItemResult::getStatus).toList());
+    assertEquals("racing", results.get(0).getSlug());
+    ArgumentCaptor<FeatureFlagsChangedEvent> event = ArgumentCaptor.forClass(FeatureFlagsChangedEvent.class);
+    verify(eventPublisher).publishEvent(event.capture());
+    assertEquals(1, event.getValue().getChanges().size());
+  }
+
+  @Test
+  @DisplayName("Não deve publicar evento quando nenhum item for criado")
+  void shouldNotPublishEventWhenNothingIsCreated() {
+    // Act
+    List<FeatureFlagBatchItemResult> results = useCase.execute(List.of(dto("invalid", null)));
+
+    // Assert
+    assertEquals(400, results.get(0).getStatus());
+    verify(eventPublisher, never()).publishEvent(any());
+  }
+
+  private CreateFeatureFlagDTO dto(String name, String description) {
+    return CreateFeatureFlagDTO.builder()
+        .name(name)
+        .description(description)
+        .type(FeatureFlagType.BOOLEAN)
+        .build();
+  }
+}
@@ -0,0 +1,106 @@
+package com.renanloureiro.feature_flags.application.usecases;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.renanloureiro.feature_flags.application.events.CommittedFeatureFlagChangesEvent;
+import com.renanloureiro.feature_flags.domain.FeatureFlagOutboxEntry;
+import com.renanloureiro.feature_flags.infrastructure.repositories.FeatureFlagOutboxRepositoryInMemoryImpl;
+
+@ExtendWith(MockitoExtension.class)
+class DispatchFeatureFlagOutboxTest {
+
+  private static final int MAX_ATTEMPTS = 3;
+
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
+  private FeatureFlagOutboxRepositoryInMemoryImpl featureFlagOutboxRepository;
+
+  private DispatchFeatureFlagOutbox useCase;
+
+  @BeforeEach
+  void setUp() {
+    featureFlagOutboxRepository = new FeatureFlagOutboxRepositoryInMemoryImpl();
+    useCase = new DispatchFeatureFlagOutbox(featureFlagOutboxRepository, eventPublisher);
+
+    featureFlagOutboxRepository.saveAll(IntStream.rangeClosed(1, 5)
+        .mapToObj(i -> FeatureFlagOutboxEntry.builder()
+            .flagId(UUID.randomUUID())
+            .slug("flag-" + i)
+            .originNodeId("node")
+            .build())
+        .toList());
+  }
+
+  @Test
+  @DisplayName("Deve entregar as alterações em ordem e removê-las do outbox")
+  void shouldDispatchInOrderAndDelete() {
+    // Act
+    int first = useCase.execute(3, MAX_ATTEMPTS);
+    int second = useCase.execute(3, MAX_ATTEMPTS);
+
+    // Assert
+    assertEquals(3, first);
+    assertEquals(2, second);
+    assertEquals(0, featureFlagOutboxRepository.count());
+
+    ArgumentCaptor<CommittedFeatureFlagChangesEvent> events = ArgumentCaptor
+        .forClass(CommittedFeatureFlagChangesEvent.class);
+    verify(eventPublisher, times(2)).publishEvent(events.capture());
+    assertEquals(List.of("flag-1", "flag-2", "flag-3"), slugs(events.getAllValues().get(0)));
+    assertEquals(List.of("flag-4", "flag-5"), slugs(events.getAllValues().get(1)));
+  }
+
+  @Test
+  @DisplayName("Deve manter o lote no outbox quando a entrega falhar")
+  void shouldKeepBatchWhenDispatchFails() {
+    // Arrange
+    doThrow(new IllegalStateException("redis down")).when(eventPublisher).publishEvent(any(CommittedFeatureFlagChangesEvent.class));
+
+    // Act & Assert
+    assertThrows(IllegalStateException.class, () -> useCase.execute(3, MAX_ATTEMPTS));
+    assertEquals(5, featureFlagOutboxRepository.count());
+  }
+
+  @Test
+  @DisplayName("Deve descartar sem entregar a alteração que esgotou as tentativas")
+  void shouldDiscardChangeThatExhaustedAttempts() {
+    // Arrange
+    for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+      useCase.recordFailedAttempt();
+    }
+
+    // Act
+    int removed = useCase.execute(3, MAX_ATTEMPTS);
+
+    // Assert
+    assertEquals(3, removed);
+    assertEquals(2, featureFlagOutboxRepository.count());
+    ArgumentCaptor<CommittedFeatureFlagChangesEvent> event = ArgumentCaptor
+        .forClass(CommittedFeatureFlagChangesEvent.class);
+    verify(eventPublisher).publishEvent(event.capture());
+    assertEquals(List.of("flag-2", "flag-3"), slugs(event.getValue()));
+  }
+
+  private List<String> slugs(CommittedFeatureFlagChangesEvent event) {
+    return event.getChanges().stream().map(FeatureFlagOutboxEntry::getSlug).toList();
+  }
+}
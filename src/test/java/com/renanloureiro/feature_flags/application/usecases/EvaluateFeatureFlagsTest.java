@@ -0,0 +1,92 @@
+package com.renanloureiro.feature_flags.application.usecases;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.node.BooleanNode;
+import com.renanloureiro.feature_flags.application.snapshot.FeatureFlagSnapshotEntry;
+import com.renanloureiro.feature_flags.application.snapshot.FeatureFlagSnapshotHolder;
+import com.renanloureiro.feature_flags.domain.FeatureFlag;
+import com.renanloureiro.feature_flags.domain.FeatureFlagType;
+import com.renanloureiro.feature_flags.domain.FeatureFlagValue;
+import com.renanloureiro.feature_flags.infrastructure.repositories.FeatureFlagRepositoryInMemoryImpl;
+import com.renanloureiro.feature_flags.infrastructure.repositories.FeatureFlagValueRepositoryInMemoryImpl;
+
+class EvaluateFeatureFlagsTest {
+
+  private FeatureFlagRepositoryInMemoryImpl featureFlagRepository;
+
+  private FeatureFlagValueRepositoryInMemoryImpl featureFlagValueRepository;
+
+  private FeatureFlagSnapshotHolder snapshotHolder;
+
+  private EvaluateFeatureFlags useCase;
+
+  @BeforeEach
+  void setUp() {
+    featureFlagValueRepository = new FeatureFlagValueRepositoryInMemoryImpl();
+    featureFlagRepository = new FeatureFlagRepositoryInMemoryImpl(featureFlagValueRepository);
+    snapshotHolder = new FeatureFlagSnapshotHolder(featureFlagRepository, featureFlagValueRepository);
+    useCase = new EvaluateFeatureFlags(snapshotHolder);
+  }
+
+  @Test
+  @DisplayName("Deve resolver as flags do snapshot e buscar no banco apenas as ausentes")
+  void shouldResolveFromSnapshotAndRepository() {
+    // Arrange
+    FeatureFlag darkMode = featureFlagRepository.save(flag("dark-mode"));
+    featureFlagValueRepository.save(value(darkMode, BooleanNode.TRUE, 1));
+    snapshotHolder.reload();
+
+    FeatureFlag beta = featureFlagRepository.save(flag("beta"));
+    featureFlagValueRepository.save(value(beta, BooleanNode.FALSE, 3));
+
+    // Act
+    List<FeatureFlagSnapshotEntry> result = useCase.execute(List.of("beta", "missing", "dark-mode", "beta"));
+
+    // Assert
+    assertEquals(List.of("beta", "dark-mode"), result.stream().map(entry -> entry.getFlag().getSlug()).toList());
+    assertEquals(3, result.get(0).getCurrentValue().getVersion());
+    assertEquals(BooleanNode.TRUE, result.get(1).getCurrentValue().getValue());
+    assertEquals(3, snapshotHolder.current().findBySlug("beta").orElseThrow().getCurrentValue().getVersion());
+  }
+
+  @Test
+  @DisplayName("Deve retornar flags sem valor publicado com valor nulo")
+  void shouldReturnFlagWithoutValue() {
+    // Arrange
+    featureFlagRepository.save(flag("dark-mode"));
+
+    // Act
+    List<FeatureFlagSnapshotEntry> result = useCase.execute(List.of("dark-mode"));
+
+    // Assert
+    assertEquals(1, result.size());
+    assertNull(result.get(0).getCurrentValue());
+  }
+
+  private FeatureFlag flag(String slug) {
+    return FeatureFlag.builder()
+        .id(UUID.randomUUID())
+        .name(slug)
+        .slug(slug)
+        .type(FeatureFlagType.BOOLEAN)
+        .build();
+  }
+
+  private FeatureFlagValue value(FeatureFlag flag, BooleanNode value, int version) {
+    return FeatureFlagValue.builder()
+        .flag(flag)
+        .value(value)
+        .version(version)
+        .updatedBy("api")
+        .build();
+  }
+}
@@ -0,0 +1,67 @@
+package com.renanloureiro.feature_flags.application.usecases;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.node.BooleanNode;
+import com.renanloureiro.feature_flags.application.exceptions.ResourceNotFoundException;
+import com.renanloureiro.feature_flags.application.snapshot.FeatureFlagSnapshotHolder;
+import com.renanloureiro.feature_flags.domain.FeatureFlag;
+import com.renanloureiro.feature_flags.domain.FeatureFlagType;
+import com.renanloureiro.feature_flags.domain.FeatureFlagValue;
+import com.renanloureiro.feature_flags.infrastructure.repositories.FeatureFlagRepositoryInMemoryImpl;
+import com.renanloureiro.feature_flags.infrastructure.repositories.FeatureFlagValueRepositoryInMemoryImpl;
+
+class FetchCurrentFeatureFlagValueTest {
+
+  private FeatureFlagRepositoryInMemoryImpl featureFlagRepository;
+
+  private FeatureFlagValueRepositoryInMemoryImpl featureFlagValueRepository;
+
+  private FetchCurrentFeatureFlagValue useCase;
+
+  @BeforeEach
+  void setUp() {
+    featureFlagRepository = new FeatureFlagRepositoryInMemoryImpl();
+    featureFlagValueRepository = new FeatureFlagValueRepositoryInMemoryImpl();
+    useCase = new FetchCurrentFeatureFlagValue(
+        new FeatureFlagSnapshotHolder(featureFlagRepository, featureFlagValueRepository));
+  }
+
+  @Test
+  @DisplayName("Deve retornar a versão mais recente do valor da feature flag")
+  void shouldReturnLatestVersion() {
+    // Arrange
+    FeatureFlag flag = FeatureFlag.builder()
+        .id(UUID.randomUUID())
+        .name("Dark Mode")
+        .slug("dark-mode")
+        .type(FeatureFlagType.BOOLEAN)
+        .build();
+    featureFlagRepository.save(flag);
+
+    featureFlagValueRepository.save(FeatureFlagValue.builder()
+        .flag(flag).value(BooleanNode.FALSE).version(1).updatedBy("api").build());
+    featureFlagValueRepository.save(FeatureFlagValue.builder()
+        .flag(flag).value(BooleanNode.TRUE).version(2).updatedBy("api").build());
+
+    // Act
+    FeatureFlagValue result = useCase.execute("dark-mode");
+
+    // Assert
+    assertEquals(2, result.getVersion());
+    assertEquals(BooleanNode.TRUE, result.getValue());
+  }
+
+  @Test
+  @DisplayName("Deve lançar exceção quando a feature flag não possui valor publicado")
+  void shouldThrowWhenNoValuePublished() {
+    assertThrows(ResourceNotFoundException.class, () -> useCase.execute("missing-flag"));
+  }
+}
@@ -0,0 +1,89 @@
+package com.renanloureiro.feature_flags.application.usecases;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.renanloureiro.feature_flags.application.dtos.ListFeatureFlagsDTO;
+import com.renanloureiro.feature_flags.application.pagination.FeatureFlagPage;
+import com.renanloureiro.feature_flags.application.snapshot.FeatureFlagSnapshotHolder;
+import com.renanloureiro.feature_flags.domain.FeatureFlag;
+import com.renanloureiro.feature_flags.domain.FeatureFlagType;
+import com.renanloureiro.feature_flags.infrastructure.repositories.FeatureFlagRepositoryInMemoryImpl;
+import com.renanloureiro.feature_flags.infrastructure.repositories.FeatureFlagValueRepositoryInMemoryImpl;
+
+class ListFeatureFlagsTest {
+
+  private FeatureFlagRepositoryInMemoryImpl featureFlagRepository;
+
+  private FeatureFlagSnapshotHolder snapshotHolder;
+
+  private ListFeatureFlags useCase;
+
+  @BeforeEach
+  void setUp() {
+    FeatureFlagValueRepositoryInMemoryImpl featureFlagValueRepository = new FeatureFlagValueRepositoryInMemoryImpl();
+    featureFlagRepository = new FeatureFlagRepositoryInMemoryImpl(featureFlagValueRepository);
+    snapshotHolder = new FeatureFlagSnapshotHolder(featureFlagRepository, featureFlagValueRepository);
+    useCase = new ListFeatureFlags(snapshotHolder);
+  }
+
+  @Test
+  @DisplayName("Deve percorrer a listagem por cursor em ordem de slug")
+  void shouldPageThroughFlagsBySlug() {
+    // Arrange
+    for (String slug : List.of("e-flag", "a-flag", "d-flag", "b-flag", "c-flag")) {
+      featureFlagRepository.save(flag(slug, FeatureFlagType.BOOLEAN));
+    }
+    snapshotHolder.reload();
+
+    // Act
+    FeatureFlagPage first = useCase.execute(ListFeatureFlagsDTO.builder().limit(2).build());
+    FeatureFlagPage second = useCase.execute(ListFeatureFlagsDTO.builder().limit(2).after(first.getNextCursor()).build());
+    FeatureFlagPage last = useCase.execute(ListFeatureFlagsDTO.builder().limit(2).after(second.getNextCursor()).build());
+
+    // Assert
+    assertEquals(List.of("a-flag", "b-flag"), slugs(first));
+    assertEquals("b-flag", first.getNextCursor());
+    assertEquals(List.of("c-flag", "d-flag"), slugs(second));
+    assertEquals(List.of("e-flag"), slugs(last));
+    assertNull(last.getNextCursor());
+  }
+
+  @Test
+  @DisplayName("Deve filtrar a listagem pelo tipo")
+  void shouldFilterByType() {
+    // Arrange
+    featureFlagRepository.save(flag("a-flag", FeatureFlagType.BOOLEAN));
+    featureFlagRepository.save(flag("b-flag", FeatureFlagType.STRING));
+    featureFlagRepository.save(flag("c-flag", FeatureFlagType.STRING));
+    snapshotHolder.reload();
+
+    // Act
+    FeatureFlagPage page = useCase.execute(ListFeatureFlagsDTO.builder()
+        .type(FeatureFlagType.STRING)
+        .after("a-flag")
+        .build());
+
+    // Assert
+    assertEquals(List.of("b-flag", "c-flag"), slugs(page));
+    assertNull(page.getNextCursor());
+  }
+
+  private List<String> slugs(FeatureFlagPage page) {
+    return page.getItems().stream().map(FeatureFlag::getSlug).toList();
+  }
+
+  private FeatureFlag flag(String slug, FeatureFlagType type) {
+    return FeatureFlag.builder()
+        .name(slug)
+        .slug(slug)
+        .type(type)
+        .build();
+  }
+}
@@ -0,0 +1,140 @@
+package com.renanloureiro.feature_flags.application.usecases;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.BooleanNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.renanloureiro.feature_flags.application.dtos.ChangesetValueDTO;
+import com.renanloureiro.feature_flags.application.events.FeatureFlagsChangedEvent;
+import com.renanloureiro.feature_flags.application.exceptions.FeatureFlagNotFound;
+import com.renanloureiro.feature_flags.application.exceptions.ValidationException;
+import com.renanloureiro.feature_flags.application.services.FeatureFlagValueValidationService;
+import com.renanloureiro.feature_flags.domain.FeatureFlag;
+import com.renanloureiro.feature_flags.domain.FeatureFlagType;
+import com.renanloureiro.feature_flags.domain.FeatureFlagValue;
+import com.renanloureiro.feature_flags.infrastructure.repositories.FeatureFlagRepositoryInMemoryImpl;
+import com.renanloureiro.feature_flags.infrastructure.repositories.FeatureFlagValueRepositoryInMemoryImpl;
+
+@ExtendWith(MockitoExtension.class)
+class PublishFeatureFlagValuesChangesetTest {
+
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
+  private FeatureFlagRepositoryInMemoryImpl featureFlagRepository;
+
+  private FeatureFlagValueRepositoryInMemoryImpl featureFlagValueRepository;
+
+  private PublishFeatureFlagValuesChangeset useCase;
+
+  private FeatureFlag darkMode;
+
+  private FeatureFlag newCheckout;
+
+  @BeforeEach
+  void setUp() {
+    featureFlagValueRepository = new FeatureFlagValueRepositoryInMemoryImpl();
+    featureFlagRepository = new FeatureFlagRepositoryInMemoryImpl(featureFlagValueRepository);
+    useCase = new PublishFeatureFlagValuesChangeset(featureFlagRepository, featureFlagValueRepository,
+        new FeatureFlagValueValidationService(new ObjectMapper()), eventPublisher);
+
+    darkMode = featureFlagRepository.save(flag("dark-mode"));
+    newCheckout = featureFlagRepository.save(flag("new-checkout"));
+    featureFlagValueRepository.allocateNextVersion(darkMode.getId());
+  }
+
+  @Test
+  @DisplayName("Deve publicar todos os valores com a próxima versão de cada flag")
+  void shouldPublishAllValues() {
+    // Arrange
+    List<ChangesetValueDTO> changes = List.of(
+        new ChangesetValueDTO(darkMode.getId(), BooleanNode.TRUE),
+        new ChangesetValueDTO(newCheckout.getId(), BooleanNode.FALSE));
+
+    // Act
+    List<FeatureFlagValue> values = useCase.execute(changes);
+
+    // Assert
+    assertEquals(List.of(2, 1), values.stream().map(FeatureFlagValue::getVersion).toList());
+    assertEquals(List.of(darkMode.getId(), newCheckout.getId()),
+        values.stream().map(value -> value.getFlag().getId()).toList());
+    assertEquals(values.get(0).getId(), featureFlagValueRepository.currentValueIdOf(darkMode.getId()));
+    assertEquals(values.get(1).getId(), featureFlagValueRepository.currentValueIdOf(newCheckout.getId()));
+
+    ArgumentCaptor<FeatureFlagsChangedEvent> event = ArgumentCaptor.forClass(FeatureFlagsChangedEvent.class);
+    verify(eventPublisher).publishEvent(event.capture());
+    assertEquals(2, event.getValue().getChanges().size());
+  }
+
+  @Test
+  @DisplayName("Não deve publicar nenhum valor quando algum for inválido")
+  void shouldPublishNothingWhenAnyValueIsInvalid() {
+    // Arrange
+    List<ChangesetValueDTO> changes = List.of(
+        new ChangesetValueDTO(darkMode.getId(), BooleanNode.TRUE),
+        new ChangesetValueDTO(newCheckout.getId(), TextNode.valueOf("yes")));
+
+    // Act & Assert
+    assertThrows(ValidationException.class, () -> useCase.execute(changes));
+    assertTrue(featureFlagValueRepository.findAll().isEmpty());
+    assertEquals(2, featureFlagValueRepository.allocateNextVersion(darkMode.getId()));
+    verify(eventPublisher, never()).publishEvent(any());
+  }
+
+  @Test
+  @DisplayName("Deve rejeitar a mesma flag repetida no changeset")
+  void shouldRejectRepeatedFlag() {
+    // Arrange
+    List<ChangesetValueDTO> changes = List.of(
+        new ChangesetValueDTO(darkMode.getId(), BooleanNode.TRUE),
+        new ChangesetValueDTO(darkMode.getId(), BooleanNode.FALSE));
+
+    // Act & Assert
+    assertThrows(ValidationException.class, () -> useCase.execute(changes));
+  }
+
+  @Test
+  @DisplayName("Deve informar as flags inexistentes do changeset")
+  void shouldReportMissingFlags() {
+    // Arrange
+    UUID missing = UUID.randomUUID();
+    List<ChangesetValueDTO> changes = List.of(
+        new ChangesetValueDTO(darkMode.getId(), BooleanNode.TRUE),
+        new ChangesetValueDTO(missing, BooleanNode.FALSE));
+
+    // Act
+    FeatureFlagNotFound error = assertThrows(FeatureFlagNotFound.class, () -> useCase.execute(changes));
+
+    // Assert
+    assertEquals("FEATURE_FLAGS_NOT_FOUND", error.getCode());
+    assertEquals("Feature flags não encontradas: " + missing, error.getMessage());
+    verify(eventPublisher, never()).publishEvent(any());
+  }
+
+  private FeatureFlag flag(String slug) {
+    return FeatureFlag.builder()
+        .name(slug)
+        .slug(slug)
+        .description(slug)
+        .type(FeatureFlagType.BOOLEAN)
+        .build();
+  }
+}
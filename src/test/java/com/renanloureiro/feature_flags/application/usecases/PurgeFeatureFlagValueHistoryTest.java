@@ -0,0 +1,105 @@
+package com.renanloureiro.feature_flags.application.usecases;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.node.IntNode;
+import com.renanloureiro.feature_flags.application.retention.RetentionPolicy;
+import com.renanloureiro.feature_flags.application.retention.RetentionResult;
+import com.renanloureiro.feature_flags.domain.FeatureFlag;
+import com.renanloureiro.feature_flags.domain.FeatureFlagType;
+import com.renanloureiro.feature_flags.domain.FeatureFlagValue;
+import com.renanloureiro.feature_flags.infrastructure.repositories.FeatureFlagRepositoryInMemoryImpl;
+import com.renanloureiro.feature_flags.infrastructure.repositories.FeatureFlagValueRepositoryInMemoryImpl;
+
+class PurgeFeatureFlagValueHistoryTest {
+
+  private FeatureFlagValueRepositoryInMemoryImpl featureFlagValueRepository;
+
+  private PurgeFeatureFlagValueHistory useCase;
+
+  private FeatureFlag rollout;
+
+  @BeforeEach
+  void setUp() {
+    featureFlagValueRepository = new FeatureFlagValueRepositoryInMemoryImpl();
+    FeatureFlagRepositoryInMemoryImpl featureFlagRepository = new FeatureFlagRepositoryInMemoryImpl(
+        featureFlagValueRepository);
+    useCase = new PurgeFeatureFlagValueHistory(featureFlagValueRepository);
+
+    rollout = featureFlagRepository.save(FeatureFlag.builder()
+        .name("rollout")
+        .slug("rollout")
+        .description("rollout")
+        .type(FeatureFlagType.NUMBER)
+        .build());
+
+    // versões 1 a 10 com 10 dias de idade e 11 a 12 recentes
+    for (int version = 1; version <= 12; version++) {
+      featureFlagValueRepository.save(FeatureFlagValue.builder()
+          .flag(rollout)
+          .value(IntNode.valueOf(version))
+          .version(version)
+          .updatedBy("test")
+          .createdAt(version <= 10 ? LocalDateTime.now().minusDays(10) : LocalDateTime.now())
+          .build());
+    }
+  }
+
+  @Test
+  @DisplayName("Deve remover em lotes apenas as versões fora de todos os limites")
+  void shouldDeleteOnlyVersionsOutsideEveryLimit() {
+    // Arrange
+    RetentionPolicy policy = RetentionPolicy.builder()
+        .keepLastVersions(5)
+        .maxAge(Duration.ofDays(7))
+        .batchSize(2)
+        .maxBatchesPerRun(10)
+        .build();
+
+    // Act
+    RetentionResult result = useCase.execute(policy);
+
+    // Assert
+    assertEquals(7, result.getDeletedVersions());
+    assertFalse(result.isExhausted());
+    assertEquals(List.of(8, 9, 10, 11, 12), versions());
+  }
+
+  @Test
+  @DisplayName("Deve manter o valor vigente e parar no limite de lotes")
+  void shouldKeepCurrentValueAndStopAtBatchLimit() {
+    // Arrange
+    RetentionPolicy policy = RetentionPolicy.builder()
+        .maxAge(Duration.ZERO)
+        .batchSize(3)
+        .maxBatchesPerRun(2)
+        .build();
+
+    // Act
+    RetentionResult first = useCase.execute(policy);
+    RetentionResult second = useCase.execute(policy);
+
+    // Assert
+    assertTrue(first.isExhausted());
+    assertEquals(6, first.getDeletedVersions());
+    assertEquals(5, second.getDeletedVersions());
+    assertEquals(List.of(12), versions());
+  }
+
+  private List<Integer> versions() {
+    return featureFlagValueRepository.findAll().stream()
+        .map(FeatureFlagValue::getVersion)
+        .sorted()
+        .toList();
+  }
+}
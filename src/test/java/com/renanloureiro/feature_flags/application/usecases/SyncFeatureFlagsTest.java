@@ -0,0 +1,112 @@
+package com.renanloureiro.feature_flags.application.usecases;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.node.BooleanNode;
+import com.renanloureiro.feature_flags.application.sync.FeatureFlagSyncResult;
+import com.renanloureiro.feature_flags.domain.FeatureFlag;
+import com.renanloureiro.feature_flags.domain.FeatureFlagType;
+import com.renanloureiro.feature_flags.domain.FeatureFlagValue;
+import com.renanloureiro.feature_flags.infrastructure.repositories.FeatureFlagRepositoryInMemoryImpl;
+import com.renanloureiro.feature_flags.infrastructure.repositories.FeatureFlagValueRepositoryInMemoryImpl;
+
+class SyncFeatureFlagsTest {
+
+  private FeatureFlagRepositoryInMemoryImpl featureFlagRepository;
+
+  private FeatureFlagValueRepositoryInMemoryImpl featureFlagValueRepository;
+
+  private SyncFeatureFlags useCase;
+
+  @BeforeEach
+  void setUp() {
+    featureFlagValueRepository = new FeatureFlagValueRepositoryInMemoryImpl();
+    featureFlagRepository = new FeatureFlagRepositoryInMemoryImpl(featureFlagValueRepository);
+    useCase = new SyncFeatureFlags(featureFlagRepository);
+  }
+
+  @Test
+  @DisplayName("Deve retornar apenas as flags alteradas desde o cursor informado")
+  void shouldReturnOnlyChangesSinceWatermark() {
+    // Arrange
+    FeatureFlag darkMode = featureFlagRepository.save(flag("dark-mode"));
+    featureFlagValueRepository.save(value(darkMode, BooleanNode.TRUE, 1));
+    FeatureFlag beta = featureFlagRepository.save(flag("beta"));
+    long since = featureFlagRepository.findSyncWatermark();
+
+    featureFlagValueRepository.save(value(darkMode, BooleanNode.FALSE, 2));
+
+    // Act
+    FeatureFlagSyncResult result = useCase.execute(since);
+
+    // Assert
+    assertFalse(result.isFull());
+    assertEquals(since + 1, result.getRevision());
+    assertEquals(1, result.getEntries().size());
+    assertEquals(darkMode.getId(), result.getEntries().get(0).getFlag().getId());
+    assertEquals(2, result.getEntries().get(0).getCurrentValue().getVersion());
+    assertFalse(result.getEntries().stream().anyMatch(entry -> entry.getFlag().getId().equals(beta.getId())));
+  }
+
+  @Test
+  @DisplayName("Deve retornar lista vazia quando o cliente já está no cursor atual")
+  void shouldReturnEmptyWhenUpToDate() {
+    // Arrange
+    featureFlagRepository.save(flag("dark-mode"));
+    long watermark = featureFlagRepository.findSyncWatermark();
+
+    // Act
+    FeatureFlagSyncResult result = useCase.execute(watermark);
+
+    // Assert
+    assertFalse(result.isFull());
+    assertEquals(watermark, result.getRevision());
+    assertTrue(result.getEntries().isEmpty());
+  }
+
+  @Test
+  @DisplayName("Deve fazer sincronização completa na primeira chamada ou com cursor desconhecido")
+  void shouldFallBackToFullSync() {
+    // Arrange
+    featureFlagRepository.save(flag("dark-mode"));
+    featureFlagRepository.save(flag("beta"));
+    featureFlagRepository.save(flag("new-checkout"));
+
+    // Act
+    FeatureFlagSyncResult initial = useCase.execute(0);
+    FeatureFlagSyncResult unknown = useCase.execute(99);
+
+    // Assert
+    assertTrue(initial.isFull());
+    assertEquals(List.of("dark-mode", "beta", "new-checkout"),
+        initial.getEntries().stream().map(entry -> entry.getFlag().getSlug()).toList());
+    assertTrue(unknown.isFull());
+    assertEquals(4, unknown.getRevision());
+  }
+
+  private FeatureFlag flag(String slug) {
+    return FeatureFlag.builder()
+        .name(slug)
+        .slug(slug)
+        .type(FeatureFlagType.BOOLEAN)
+        .build();
+  }
+
+  private FeatureFlagValue value(FeatureFlag flag, BooleanNode value, int version) {
+    return FeatureFlagValue.builder()
+        .flag(flag)
+        .value(value)
+        .version(version)
+        .updatedBy("api")
+        .build();
+  }
+}
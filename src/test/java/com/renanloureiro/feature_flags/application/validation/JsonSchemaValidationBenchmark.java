@@ -0,0 +1,91 @@
+package com.renanloureiro.feature_flags.application.validation;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.fge.jsonschema.core.exceptions.ProcessingException;
+import com.github.fge.jsonschema.core.report.ProcessingReport;
+import com.github.fge.jsonschema.main.JsonSchemaFactory;
+import com.renanloureiro.feature_flags.application.dtos.ListConstraints;
+import com.renanloureiro.feature_flags.application.dtos.NumberConstraints;
+import com.renanloureiro.feature_flags.application.dtos.StringConstraints;
+import com.renanloureiro.feature_flags.application.services.SchemaGeneratorService;
+import com.renanloureiro.feature_flags.domain.FeatureFlagType;
+
+/**
+ * Custo de uma validação com os schemas gerados pelo
+ * {@link SchemaGeneratorService}: compilando o schema a cada chamada, como antes
+ * do cache, e pelo {@link JsonSchemaValidationService}. Executado por
+ * {@link JsonSchemaValidationBenchmarkTest}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonSchemaValidationBenchmark {
+
+  @Param({ "BOOLEAN", "NUMBER", "STRING", "LIST" })
+  public FeatureFlagType type;
+
+  private final JsonSchemaFactory schemaFactory = JsonSchemaFactory.byDefault();
+
+  private final JsonSchemaValidationService validationService = new JsonSchemaValidationService();
+
+  private JsonNode schema;
+
+  private JsonNode document;
+
+  @Setup
+  public void setUp() {
+    ObjectMapper objectMapper = new ObjectMapper();
+    SchemaGeneratorService generator = new SchemaGeneratorService(objectMapper);
+    switch (type) {
+      case BOOLEAN -> {
+        schema = generator.generateSchema(type, null);
+        document = objectMapper.valueToTree(true);
+      }
+      case NUMBER -> {
+        schema = generator.generateSchema(type, NumberConstraints.builder().minimum(0.0).maximum(100.0).build());
+        document = objectMapper.valueToTree(42);
+      }
+      case STRING -> {
+        schema = generator.generateSchema(type, StringConstraints.builder()
+            .enumValues(List.of("control", "variant-a", "variant-b"))
+            .minLength(1)
+            .maxLength(20)
+            .build());
+        document = objectMapper.valueToTree("variant-a");
+      }
+      case LIST -> {
+        schema = generator.generateSchema(type, ListConstraints.builder()
+            .itemType("string")
+            .minItems(1)
+            .maxItems(50)
+            .uniqueItems(true)
+            .build());
+        document = objectMapper.valueToTree(List.of("BR", "PT", "US", "MX", "AR"));
+      }
+    }
+  }
+
+  @Benchmark
+  public ProcessingReport compileEveryTime() throws ProcessingException {
+    return schemaFactory.getJsonSchema(schema).validate(document);
+  }
+
+  @Benchmark
+  public JsonNode cachedSchema() {
+    validationService.validateDocument(schema, document);
+    return document;
+  }
+}
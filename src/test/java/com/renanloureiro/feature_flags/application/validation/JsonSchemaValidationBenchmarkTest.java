@@ -0,0 +1,60 @@
+package com.renanloureiro.feature_flags.application.validation;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Executa o {@link JsonSchemaValidationBenchmark} com o JMH. Executar com
+ * {@code mvn test -Pbenchmark}.
+ */
+@Slf4j
+@Tag("benchmark")
+class JsonSchemaValidationBenchmarkTest {
+
+  @Test
+  @DisplayName("Benchmark: validação com e sem o cache de schemas compilados")
+  void shouldValidateFasterWithCompiledSchemaCache() throws Exception {
+    Options options = new OptionsBuilder()
+        .include(JsonSchemaValidationBenchmark.class.getName())
+        .forks(1)
+        .warmupIterations(3)
+        .warmupTime(TimeValue.seconds(1))
+        .measurementIterations(5)
+        .measurementTime(TimeValue.seconds(1))
+        .build();
+
+    Collection<RunResult> results = new Runner(options).run();
+
+    // µs por validação, agrupados por tipo e por método
+    Map<String, Map<String, Double>> scores = results.stream().collect(Collectors.groupingBy(
+        result -> result.getParams().getParam("type"),
+        Collectors.toMap(
+            result -> result.getParams().getBenchmark().replaceAll(".*\\.", ""),
+            result -> result.getPrimaryResult().getScore())));
+
+    scores.forEach((type, byMethod) -> {
+      double compile = byMethod.get("compileEveryTime");
+      double cached = byMethod.get("cachedSchema");
+      log.info("{}: compilando {} µs, com cache {} µs por validação", type, format(compile), format(cached));
+      assertTrue(cached < compile, "Validação com cache mais lenta para " + type);
+    });
+  }
+
+  private static String format(double micros) {
+    return String.format("%.2f", micros);
+  }
+}
@@ -0,0 +1,56 @@
+package com.renanloureiro.feature_flags.application.validation;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.renanloureiro.feature_flags.application.exceptions.ValidationException;
+
+class JsonSchemaValidationServiceCacheTest {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  private final JsonSchemaValidationService validationService = new JsonSchemaValidationService();
+
+  @Test
+  void shouldIgnorePropertyOrderInFingerprint() throws Exception {
+    // Given
+    JsonNode schema = objectMapper.readTree("{\"type\":\"array\",\"items\":{\"type\":\"string\"},\"maxItems\":5}");
+    JsonNode reordered = objectMapper.readTree("{\"maxItems\":5,\"items\":{\"type\":\"string\"},\"type\":\"array\"}");
+
+    // When / Then
+    assertEquals(JsonSchemaValidationService.fingerprint(schema), JsonSchemaValidationService.fingerprint(reordered));
+  }
+
+  @Test
+  void shouldDistinguishSchemasThatDifferInContent() throws Exception {
+    // Given
+    JsonNode integral = objectMapper.readTree("{\"type\":\"array\",\"maxItems\":5}");
+    JsonNode decimal = objectMapper.readTree("{\"type\":\"array\",\"maxItems\":5.0}");
+    JsonNode nested = objectMapper.readTree("{\"type\":\"array\",\"items\":{\"type\":\"number\"}}");
+    JsonNode otherNested = objectMapper.readTree("{\"type\":\"array\",\"items\":{\"type\":\"string\"}}");
+
+    // When / Then
+    assertNotEquals(JsonSchemaValidationService.fingerprint(integral), JsonSchemaValidationService.fingerprint(decimal));
+    assertNotEquals(JsonSchemaValidationService.fingerprint(nested),
+        JsonSchemaValidationService.fingerprint(otherNested));
+  }
+
+  @Test
+  void shouldValidateEachDocumentAgainstItsOwnSchema() throws Exception {
+    // Given
+    JsonNode atMostTwo = objectMapper.readTree("{\"type\":\"array\",\"maxItems\":2}");
+    JsonNode atMostThree = objectMapper.readTree("{\"type\":\"array\",\"maxItems\":3}");
+    JsonNode threeItems = objectMapper.readTree("[1,2,3]");
+
+    // When / Then
+    assertDoesNotThrow(() -> validationService.validateDocument(atMostThree, threeItems));
+    assertThrows(ValidationException.class, () -> validationService.validateDocument(atMostTwo, threeItems));
+    assertDoesNotThrow(() -> validationService.validateDocument(atMostThree.deepCopy(), threeItems));
+  }
+}
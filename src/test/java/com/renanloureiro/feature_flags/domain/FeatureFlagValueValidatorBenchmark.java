@@ -0,0 +1,60 @@
+package com.renanloureiro.feature_flags.domain;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Validação de uma lista com 100 mil itens distintos por um schema com
+ * {@code uniqueItems}. Executado por {@link FeatureFlagValueValidatorBenchmarkTest}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class FeatureFlagValueValidatorBenchmark {
+
+  static final int ITEMS = 100_000;
+
+  @Param({ "string", "number" })
+  public String itemType;
+
+  private FeatureFlagValueValidator validator;
+
+  private ArrayNode value;
+
+  @Setup
+  public void setUp() {
+    ObjectMapper objectMapper = new ObjectMapper();
+    ObjectNode schema = objectMapper.createObjectNode()
+        .put("type", "array")
+        .put("maxItems", ITEMS)
+        .put("uniqueItems", true);
+    schema.putObject("items").put("type", itemType);
+    validator = FeatureFlagValueValidator.compile(FeatureFlagType.LIST, schema);
+
+    value = objectMapper.createArrayNode();
+    for (int i = 0; i < ITEMS; i++) {
+      if (itemType.equals("string")) {
+        value.add("user-" + i);
+      } else {
+        value.add(i);
+      }
+    }
+  }
+
+  @Benchmark
+  public FeatureFlagValueViolation validateList() {
+    return validator.violationOf(value, "allowlist");
+  }
+}
@@ -0,0 +1,50 @@
+package com.renanloureiro.feature_flags.domain;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collection;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Executa o {@link FeatureFlagValueValidatorBenchmark} com o JMH. Executar com
+ * {@code mvn test -Pbenchmark}.
+ */
+@Slf4j
+@Tag("benchmark")
+class FeatureFlagValueValidatorBenchmarkTest {
+
+  private static final double MAX_MILLIS = 10.0;
+
+  @Test
+  @DisplayName("Benchmark: validação de uma lista com 100 mil itens únicos")
+  void shouldValidateLargeListWithinFewMilliseconds() throws Exception {
+    Options options = new OptionsBuilder()
+        .include(FeatureFlagValueValidatorBenchmark.class.getName())
+        .forks(1)
+        .warmupIterations(3)
+        .warmupTime(TimeValue.seconds(1))
+        .measurementIterations(5)
+        .measurementTime(TimeValue.seconds(1))
+        .build();
+
+    Collection<RunResult> results = new Runner(options).run();
+
+    for (RunResult result : results) {
+      String itemType = result.getParams().getParam("itemType");
+      double millis = result.getPrimaryResult().getScore();
+      log.info("{} itens do tipo {}: {} ms por validação", FeatureFlagValueValidatorBenchmark.ITEMS, itemType,
+          String.format("%.2f", millis));
+      assertTrue(millis < MAX_MILLIS, "Validação da lista de " + itemType + " levou " + millis + " ms");
+    }
+  }
+}
@@ -0,0 +1,180 @@
+package com.renanloureiro.feature_flags.domain;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.StringWriter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class FeatureFlagValueValidatorTest {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  @Test
+  @DisplayName("Deve aplicar os limites numéricos do schema")
+  void shouldApplyNumberBounds() throws Exception {
+    FeatureFlagValueValidator validator = validator(FeatureFlagType.NUMBER, "{\"type\":\"number\",\"minimum\":1,\"maximum\":10}");
+
+    assertNull(validator.violationOf(json("5"), "limit"));
+    assertNull(validator.violationOf(json("10"), "limit"));
+    assertEquals(String.format("Valor %.2f é menor que o mínimo permitido (%.2f) para feature flag 'limit'", 0.5, 1.0),
+        validator.violationOf(json("0.5"), "limit").getMessage());
+    assertEquals("Valor deve ser do tipo number para feature flag 'limit'",
+        validator.violationOf(json("\"5\""), "limit").getMessage());
+  }
+
+  @Test
+  @DisplayName("Deve aplicar enum, tamanho e pattern de strings")
+  void shouldApplyStringConstraints() throws Exception {
+    FeatureFlagValueValidator validator = validator(FeatureFlagType.STRING,
+        "{\"type\":\"string\",\"enum\":[\"BR\",\"PT\",\"pt\"],\"maxLength\":2,\"pattern\":\"^[A-Z]+$\"}");
+
+    assertNull(validator.violationOf(json("\"BR\""), "country"));
+    assertEquals("Valor 'US' não está entre os valores permitidos para feature flag 'country'",
+        validator.violationOf(json("\"US\""), "country").getMessage());
+    assertEquals("String deve ter no máximo 2 caracteres para feature flag 'country'",
+        validator.violationOf(json("\"BRA\""), "country").getMessage());
+    assertEquals("Valor 'pt' não corresponde ao pattern '^[A-Z]+$' da feature flag 'country'",
+        validator.violationOf(json("\"pt\""), "country").getMessage());
+  }
+
+  @Test
+  @DisplayName("Deve tratar o pattern como busca não ancorada")
+  void shouldMatchUnanchoredPattern() throws Exception {
+    FeatureFlagValueValidator validator = validator(FeatureFlagType.STRING, "{\"type\":\"string\",\"pattern\":\"[0-9]\"}");
+
+    assertNull(validator.violationOf(json("\"v2-beta\""), "release"));
+    assertEquals("Valor 'beta' não corresponde ao pattern '[0-9]' da feature flag 'release'",
+        validator.violationOf(json("\"beta\""), "release").getMessage());
+  }
+
+  @Test
+  @DisplayName("Deve rejeitar valores quando o pattern do schema não compila")
+  void shouldRejectValuesWhenPatternIsInvalid() throws Exception {
+    FeatureFlagValueValidator validator = validator(FeatureFlagType.STRING, "{\"type\":\"string\",\"pattern\":\"[a-\"}");
+
+    assertEquals("Pattern '[a-' do schema da feature flag 'release' é inválido",
+        validator.violationOf(json("\"a\""), "release").getMessage());
+  }
+
+  @Test
+  @DisplayName("Deve aplicar tamanho e tipo dos itens de listas")
+  void shouldApplyListConstraints() throws Exception {
+    FeatureFlagValueValidator validator = validator(FeatureFlagType.LIST,
+        "{\"type\":\"array\",\"items\":{\"type\":\"string\"},\"minItems\":1,\"maxItems\":3}");
+
+    assertNull(validator.violationOf(json("[\"BR\",\"PT\"]"), "countries"));
+    assertEquals("Array deve ter pelo menos 1 itens para feature flag 'countries'",
+        validator.violationOf(json("[]"), "countries").getMessage());
+    assertEquals("Array deve ter no máximo 3 itens para feature flag 'countries'",
+        validator.violationOf(json("[\"a\",\"b\",\"c\",\"d\"]"), "countries").getMessage());
+    assertEquals("Item na posição 1 deve ser do tipo string para feature flag 'countries'",
+        validator.violationOf(json("[\"BR\",1]"), "countries").getMessage());
+  }
+
+  @Test
+  @DisplayName("Deve aplicar limites exclusivos booleanos e numéricos")
+  void shouldApplyExclusiveBounds() throws Exception {
+    FeatureFlagValueValidator draft4 = validator(FeatureFlagType.NUMBER,
+        "{\"type\":\"number\",\"minimum\":0,\"exclusiveMinimum\":true,\"maximum\":1,\"exclusiveMaximum\":true}");
+    FeatureFlagValueValidator draft6 = validator(FeatureFlagType.NUMBER,
+        "{\"type\":\"number\",\"exclusiveMinimum\":0,\"maximum\":1}");
+
+    assertNull(draft4.violationOf(json("0.5"), "ratio"));
+    assertEquals(String.format("Valor %.2f deve ser maior que %.2f para feature flag 'ratio'", 0.0, 0.0),
+        draft4.violationOf(json("0"), "ratio").getMessage());
+    assertEquals(String.format("Valor %.2f deve ser menor que %.2f para feature flag 'ratio'", 1.0, 1.0),
+        draft4.violationOf(json("1"), "ratio").getMessage());
+    assertNull(draft6.violationOf(json("1"), "ratio"));
+    assertEquals(String.format("Valor %.2f deve ser maior que %.2f para feature flag 'ratio'", 0.0, 0.0),
+        draft6.violationOf(json("0.0"), "ratio").getMessage());
+  }
+
+  @Test
+  @DisplayName("Deve rejeitar itens repetidos quando o schema exige itens únicos")
+  void shouldRejectDuplicatedItems() throws Exception {
+    FeatureFlagValueValidator validator = validator(FeatureFlagType.LIST, "{\"type\":\"array\",\"uniqueItems\":true}");
+
+    assertNull(validator.violationOf(json("[\"1\",1,true,{\"a\":1},[1]]"), "mixed"));
+    assertEquals("Item na posição 2 é repetido e a feature flag 'mixed' exige itens únicos",
+        validator.violationOf(json("[1,2,1.0]"), "mixed").getMessage());
+    assertEquals("Item na posição 1 é repetido e a feature flag 'mixed' exige itens únicos",
+        validator.violationOf(json("[{\"a\":[1]},{\"a\":[1]}]"), "mixed").getMessage());
+  }
+
+  @Test
+  @DisplayName("Deve aplicar as mesmas regras de lista durante a leitura em stream")
+  void shouldApplyListConstraintsWhileStreaming() throws Exception {
+    FeatureFlagValueValidator validator = validator(FeatureFlagType.LIST,
+        "{\"type\":\"array\",\"items\":{\"type\":\"number\"},\"minItems\":2,\"uniqueItems\":true}");
+
+    assertEquals("[1,2.5]", stream(validator, "[1, 2.5]"));
+    assertEquals("Array deve ter pelo menos 2 itens para feature flag 'limits'", stream(validator, "[1]"));
+    assertEquals("Item na posição 1 deve ser do tipo number para feature flag 'limits'",
+        stream(validator, "[1,\"2\"]"));
+    assertEquals("Item na posição 2 é repetido e a feature flag 'limits' exige itens únicos",
+        stream(validator, "[1,2,1.0]"));
+  }
+
+  @Test
+  @DisplayName("Deve interromper patterns com backtracking catastrófico")
+  void shouldStopCatastrophicPattern() throws Exception {
+    FeatureFlagValueValidator validator = validator(FeatureFlagType.STRING, "{\"type\":\"string\",\"pattern\":\"(.*a){12}$\"}");
+
+    assertNull(validator.violationOf(json("\"" + "a".repeat(12) + "\""), "greedy"));
+    assertEquals("Valor excedeu o limite de processamento do pattern '(.*a){12}$' da feature flag 'greedy'",
+        validator.violationOf(json("\"" + "a".repeat(30) + "!\""), "greedy").getMessage());
+  }
+
+  @Test
+  @DisplayName("Deve reaproveitar o validador da flag até o schema ser substituído")
+  void shouldReuseFlagValidatorUntilSchemaChanges() throws Exception {
+    FeatureFlag flag = FeatureFlag.builder()
+        .name("limit")
+        .type(FeatureFlagType.NUMBER)
+        .schema(json("{\"type\":\"number\",\"maximum\":10}"))
+        .build();
+
+    FeatureFlagValueValidator first = flag.valueValidator();
+    assertSame(first, flag.valueValidator());
+
+    flag.setSchema(json("{\"type\":\"number\",\"maximum\":20}"));
+    FeatureFlagValueValidator rebuilt = flag.valueValidator();
+
+    assertNotSame(first, rebuilt);
+    assertNull(rebuilt.violationOf(json("15"), "limit"));
+  }
+
+  /**
+   * Valida em stream e retorna a violação ou, quando válido, o JSON copiado
+   */
+  private String stream(FeatureFlagValueValidator validator, String content) throws Exception {
+    StringWriter copy = new StringWriter();
+    try (JsonParser parser = objectMapper.createParser(content);
+        JsonGenerator generator = objectMapper.createGenerator(copy)) {
+      parser.nextToken();
+      FeatureFlagValueViolation violation = validator.streamListViolation(parser, generator, "limits");
+      if (violation != null) {
+        return violation.getMessage();
+      }
+    }
+    return copy.toString();
+  }
+
+  private FeatureFlagValueValidator validator(FeatureFlagType type, String schema) throws Exception {
+    return FeatureFlagValueValidator.compile(type, json(schema));
+  }
+
+  private JsonNode json(String content) throws Exception {
+    return objectMapper.readTree(content);
+  }
+}
@@ -0,0 +1,58 @@
+package com.renanloureiro.feature_flags.domain;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class UniqueItemSetTest {
+
+  @Test
+  @DisplayName("Deve detectar textos repetidos depois de crescer as tabelas")
+  void shouldDetectRepeatedTextsAcrossResizes() {
+    // Given
+    UniqueItemSet set = new UniqueItemSet();
+
+    // When
+    for (int i = 0; i < 10_000; i++) {
+      assertTrue(add(set, "user-" + i));
+    }
+
+    // Then
+    assertFalse(add(set, "user-0"));
+    assertFalse(add(set, "user-9999"));
+    assertTrue(add(set, "user-"));
+    assertTrue(add(set, "user-10000"));
+  }
+
+  @Test
+  @DisplayName("Deve comparar números, booleanos e estruturas pela igualdade do JSON Schema")
+  void shouldCompareScalarsAndStructures() throws Exception {
+    // Given
+    UniqueItemSet set = new UniqueItemSet();
+    ObjectMapper objectMapper = new ObjectMapper();
+
+    // When & Then
+    assertTrue(set.addIntegral(1));
+    assertFalse(set.addNumber(1.0));
+    assertTrue(set.addNumber(1.5));
+    assertFalse(set.addNumber(1.5));
+    assertTrue(add(set, "1"));
+    assertTrue(set.addBoolean(true));
+    assertFalse(set.addBoolean(true));
+    assertTrue(set.addBoolean(false));
+    assertTrue(set.addNull());
+    assertFalse(set.addNull());
+    assertTrue(set.addStructure(objectMapper.readTree("{\"a\":[1]}")));
+    assertFalse(set.addStructure(objectMapper.readTree("{\"a\":[1]}")));
+  }
+
+  private static boolean add(UniqueItemSet set, String text) {
+    // o texto fica no meio do buffer, como no parser
+    char[] buffer = ("[\"" + text + "\"]").toCharArray();
+    return set.addText(buffer, 2, text.length());
+  }
+}
@@ -0,0 +1,42 @@
+package com.renanloureiro.feature_flags.infrastructure.cache;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import com.renanloureiro.feature_flags.application.cache.CacheNames;
+import com.renanloureiro.feature_flags.application.events.FeatureFlagChangedEvent;
+
+class FeatureFlagCacheInvalidationListenerTest {
+
+  private ConcurrentMapCacheManager cacheManager;
+
+  private FeatureFlagCacheInvalidationListener listener;
+
+  @BeforeEach
+  void setUp() {
+    cacheManager = new ConcurrentMapCacheManager(CacheNames.FEATURE_FLAGS_BY_ID);
+    listener = new FeatureFlagCacheInvalidationListener(cacheManager);
+  }
+
+  @Test
+  void shouldEvictIdEntry() {
+    // Given
+    UUID flagId = UUID.randomUUID();
+    UUID otherFlagId = UUID.randomUUID();
+    cacheManager.getCache(CacheNames.FEATURE_FLAGS_BY_ID).put(flagId, "cached");
+    cacheManager.getCache(CacheNames.FEATURE_FLAGS_BY_ID).put(otherFlagId, "cached");
+
+    // When
+    listener.onFeatureFlagChanged(new FeatureFlagChangedEvent(flagId, "dark-mode", null, null));
+
+    // Then
+    assertNull(cacheManager.getCache(CacheNames.FEATURE_FLAGS_BY_ID).get(flagId));
+    assertNotNull(cacheManager.getCache(CacheNames.FEATURE_FLAGS_BY_ID).get(otherFlagId));
+  }
+}
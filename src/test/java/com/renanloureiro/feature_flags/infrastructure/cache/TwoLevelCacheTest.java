@@ -0,0 +1,128 @@
+package com.renanloureiro.feature_flags.infrastructure.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+class TwoLevelCacheTest {
+
+  private CaffeineCache localCache;
+
+  private ConcurrentMapCache remoteCache;
+
+  private CacheInvalidationPublisher publisher;
+
+  private TwoLevelCache cache;
+
+  @BeforeEach
+  void setUp() {
+    localCache = new CaffeineCache("flags", Caffeine.newBuilder().build());
+    remoteCache = new ConcurrentMapCache("flags");
+    publisher = mock(CacheInvalidationPublisher.class);
+    cache = new TwoLevelCache(localCache, remoteCache, publisher);
+  }
+
+  @Test
+  void shouldPopulateLocalCacheFromRemoteOnLocalMiss() {
+    // Given
+    remoteCache.put("dark-mode", "flag");
+
+    // When
+    Cache.ValueWrapper value = cache.get("dark-mode");
+
+    // Then
+    assertNotNull(value);
+    assertEquals("flag", value.get());
+    assertNotNull(localCache.get("dark-mode"));
+  }
+
+  @Test
+  void shouldLoadOnceAndWriteThroughBothLevels() {
+    // Given
+    AtomicInteger loads = new AtomicInteger();
+
+    // When
+    cache.get("dark-mode", () -> "flag-" + loads.incrementAndGet());
+    String second = cache.get("dark-mode", () -> "flag-" + loads.incrementAndGet());
+
+    // Then
+    assertEquals("flag-1", second);
+    assertEquals(1, loads.get());
+    assertEquals("flag-1", remoteCache.get("dark-mode").get());
+  }
+
+  @Test
+  void shouldEvictBothLevelsAndBroadcast() {
+    // Given
+    cache.put("dark-mode", "flag");
+
+    // When
+    cache.evict("dark-mode");
+
+    // Then
+    assertNull(localCache.get("dark-mode"));
+    assertNull(remoteCache.get("dark-mode"));
+    verify(publisher).publishEvict("flags", "dark-mode");
+  }
+
+  @Test
+  void shouldEvictManyKeysWithSingleBroadcast() {
+    // Given
+    cache.put("dark-mode", "flag");
+    cache.put("new-checkout", "flag");
+
+    // When
+    cache.evictAll(List.of("dark-mode", "new-checkout"));
+
+    // Then
+    assertNull(localCache.get("dark-mode"));
+    assertNull(remoteCache.get("new-checkout"));
+    verify(publisher).publishEvictAll("flags", List.of("dark-mode", "new-checkout"));
+    verify(publisher, never()).publishEvict(any(), any());
+  }
+
+  @Test
+  void shouldEvictOnlyLocalLevelOnRemoteInvalidation() {
+    // Given
+    cache.put("dark-mode", "flag");
+
+    // When
+    cache.evictLocal("dark-mode");
+
+    // Then
+    assertNull(localCache.get("dark-mode"));
+    assertNotNull(remoteCache.get("dark-mode"));
+    verifyNoInteractions(publisher);
+  }
+
+  @Test
+  void shouldTreatRemoteFailureAsMiss() {
+    // Given
+    Cache failingRemote = mock(Cache.class);
+    when(failingRemote.get(any())).thenThrow(new IllegalStateException("redis down"));
+    TwoLevelCache degradedCache = new TwoLevelCache(localCache, failingRemote, publisher);
+
+    // When
+    Cache.ValueWrapper value = degradedCache.get("dark-mode");
+
+    // Then
+    assertNull(value);
+  }
+}
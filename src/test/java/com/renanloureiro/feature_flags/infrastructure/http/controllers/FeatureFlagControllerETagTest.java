@@ -0,0 +1,166 @@
+package com.renanloureiro.feature_flags.infrastructure.http.controllers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.BooleanNode;
+import com.renanloureiro.feature_flags.application.pagination.FeatureFlagPage;
+import com.renanloureiro.feature_flags.application.snapshot.FeatureFlagSnapshotEntry;
+import com.renanloureiro.feature_flags.application.usecases.FetchCurrentFeatureFlagValue;
+import com.renanloureiro.feature_flags.application.usecases.FetchFeatureFlagBySlug;
+import com.renanloureiro.feature_flags.application.usecases.ListFeatureFlags;
+import com.renanloureiro.feature_flags.domain.FeatureFlag;
+import com.renanloureiro.feature_flags.domain.FeatureFlagType;
+import com.renanloureiro.feature_flags.domain.FeatureFlagValue;
+import com.renanloureiro.feature_flags.infrastructure.http.etag.RevisionETags;
+import com.renanloureiro.feature_flags.infrastructure.http.presenters.SerializedResponseCache;
+
+@ExtendWith(MockitoExtension.class)
+class FeatureFlagControllerETagTest {
+
+  @Mock
+  private FetchFeatureFlagBySlug fetchFeatureFlagBySlugUseCase;
+
+  @Mock
+  private ListFeatureFlags listFeatureFlagsUseCase;
+
+  @Mock
+  private FetchCurrentFeatureFlagValue fetchCurrentFeatureFlagValueUseCase;
+
+  @Spy
+  private RevisionETags revisionETags = new RevisionETags();
+
+  @Spy
+  private SerializedResponseCache serializedResponseCache = new SerializedResponseCache(new ObjectMapper());
+
+  @InjectMocks
+  private FeatureFlagController controller;
+
+  private MockMvc mockMvc;
+
+  private FeatureFlagSnapshotEntry entry;
+
+  @BeforeEach
+  void setUp() {
+    mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+
+    FeatureFlag flag = FeatureFlag.builder()
+        .id(UUID.randomUUID())
+        .name("Dark Mode")
+        .slug("dark-mode")
+        .type(FeatureFlagType.BOOLEAN)
+        .revision(7L)
+        .build();
+    entry = new FeatureFlagSnapshotEntry(flag, null, 1);
+  }
+
+  @Test
+  void shouldReturnETagForFlag() throws Exception {
+    // Given
+    when(fetchFeatureFlagBySlugUseCase.execute("dark-mode")).thenReturn(entry);
+
+    // When / Then
+    mockMvc.perform(get("/v1/feature-flags/dark-mode"))
+        .andExpect(status().isOk())
+        .andExpect(header().string("ETag", "\"7\""))
+        .andExpect(jsonPath("$.slug").value("dark-mode"));
+  }
+
+  @Test
+  void shouldReturnNotModifiedWhenFlagETagMatches() throws Exception {
+    // Given
+    when(fetchFeatureFlagBySlugUseCase.execute("dark-mode")).thenReturn(entry);
+
+    // When / Then
+    mockMvc.perform(get("/v1/feature-flags/dark-mode").header("If-None-Match", "\"7\""))
+        .andExpect(status().isNotModified())
+        .andExpect(header().string("ETag", "\"7\""))
+        .andExpect(content().string(""));
+  }
+
+  @Test
+  void shouldReturnListWhenRevisionChanged() throws Exception {
+    // Given
+    FeatureFlagPage previous = new FeatureFlagPage(List.of(), null);
+    FeatureFlagPage current = new FeatureFlagPage(List.of(entry.getFlag()), null);
+    when(listFeatureFlagsUseCase.execute(any())).thenReturn(current);
+
+    // When / Then
+    mockMvc.perform(get("/v1/feature-flags").header("If-None-Match", revisionETags.of(previous)))
+        .andExpect(status().isOk())
+        .andExpect(header().string("ETag", revisionETags.of(current)))
+        .andExpect(jsonPath("$.items[0].slug").value("dark-mode"))
+        .andExpect(jsonPath("$.nextCursor").doesNotExist());
+
+    mockMvc.perform(get("/v1/feature-flags").header("If-None-Match", revisionETags.of(current)))
+        .andExpect(status().isNotModified());
+  }
+
+  @Test
+  void shouldChangeListETagWhenPageItemsChangeBelowHead() {
+    // Given
+    FeatureFlag alpha = flag("alpha", 9L);
+    FeatureFlag beta = flag("beta", 5L);
+    FeatureFlag gamma = flag("gamma", 3L);
+
+    // When
+    String before = revisionETags.of(new FeatureFlagPage(List.of(alpha, gamma), null));
+    String after = revisionETags.of(new FeatureFlagPage(List.of(alpha, beta), "beta"));
+
+    // Then
+    assertNotEquals(before, after);
+    assertEquals(before, new RevisionETags().of(new FeatureFlagPage(List.of(alpha, gamma), null)));
+  }
+
+  @Test
+  void shouldReturnNotModifiedWhenValueETagMatches() throws Exception {
+    // Given
+    FeatureFlagValue value = FeatureFlagValue.builder()
+        .id(UUID.randomUUID())
+        .flag(entry.getFlag())
+        .value(BooleanNode.TRUE)
+        .version(1)
+        .revision(12L)
+        .build();
+    when(fetchCurrentFeatureFlagValueUseCase.execute("dark-mode")).thenReturn(value);
+
+    // When / Then
+    mockMvc.perform(get("/v1/feature-flags/dark-mode/value"))
+        .andExpect(status().isOk())
+        .andExpect(header().string("ETag", "\"12\""));
+
+    mockMvc.perform(get("/v1/feature-flags/dark-mode/value").header("If-None-Match", "\"12\""))
+        .andExpect(status().isNotModified());
+  }
+
+  private FeatureFlag flag(String slug, long revision) {
+    return FeatureFlag.builder()
+        .id(UUID.randomUUID())
+        .name(slug)
+        .slug(slug)
+        .type(FeatureFlagType.BOOLEAN)
+        .revision(revision)
+        .build();
+  }
+}
@@ -0,0 +1,30 @@
+package com.renanloureiro.feature_flags.infrastructure.http.handlers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ErrorLogSamplerTest {
+
+  @Test
+  @DisplayName("Deve limitar os logs por código e informar quantos foram omitidos")
+  void shouldLimitLogsPerCodeAndWindow() {
+    // Given
+    AtomicLong now = new AtomicLong();
+    ErrorLogSampler sampler = new ErrorLogSampler(2, 1_000, now::get);
+
+    // When / Then
+    assertEquals(0, sampler.sample("VALUE_TOO_LONG"));
+    assertEquals(0, sampler.sample("VALUE_TOO_LONG"));
+    assertEquals(-1, sampler.sample("VALUE_TOO_LONG"));
+    assertEquals(-1, sampler.sample("VALUE_TOO_LONG"));
+    assertEquals(0, sampler.sample("BODY_MALFORMED"));
+
+    now.addAndGet(1_000);
+    assertEquals(2, sampler.sample("VALUE_TOO_LONG"));
+    assertEquals(0, sampler.sample("VALUE_TOO_LONG"));
+  }
+}
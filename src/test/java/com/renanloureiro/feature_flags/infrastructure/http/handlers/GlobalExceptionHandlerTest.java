@@ -3,12 +3,17 @@ package com.renanloureiro.feature_flags.infrastructure.http.handlers;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.HttpMediaTypeNotSupportedException;
 import org.springframework.web.context.request.WebRequest;
 
 import com.renanloureiro.feature_flags.application.exceptions.AppError;
+import com.renanloureiro.feature_flags.application.exceptions.ErrorCode;
 import com.renanloureiro.feature_flags.application.exceptions.ResourceNotFoundException;
 import com.renanloureiro.feature_flags.application.exceptions.SlugAlreadyExists;
 import com.renanloureiro.feature_flags.application.exceptions.ValidationException;
@@ -31,6 +36,7 @@ class GlobalExceptionHandlerTest {
     assertEquals(409, response.getBody().getStatus());
     assertEquals("Already exists a feature flag with this slug, please try another name",
         response.getBody().getMessage());
+    assertEquals("SLUG_ALREADY_EXISTS", response.getBody().getCode());
     assertNotNull(response.getBody().getTimestamp());
   }
 
@@ -46,6 +52,7 @@ class GlobalExceptionHandlerTest {
     assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
     assertEquals(400, response.getBody().getStatus());
     assertEquals("Nome deve ter pelo menos 3 caracteres", response.getBody().getMessage());
+    assertEquals("VALIDATION_FAILED", response.getBody().getCode());
     assertNotNull(response.getBody().getTimestamp());
   }
 
@@ -64,6 +71,22 @@ class GlobalExceptionHandlerTest {
     assertNotNull(response.getBody().getTimestamp());
   }
 
+  @Test
+  void shouldHandleUnsupportedMediaType() {
+    // Given
+    HttpMediaTypeNotSupportedException exception = new HttpMediaTypeNotSupportedException(MediaType.TEXT_PLAIN,
+        List.of(MediaType.APPLICATION_JSON));
+
+    // When
+    ResponseEntity<AppError> response = handler.handleMediaTypeNotSupported(exception, webRequest);
+
+    // Then
+    assertEquals(HttpStatus.UNSUPPORTED_MEDIA_TYPE, response.getStatusCode());
+    assertEquals(415, response.getBody().getStatus());
+    assertEquals("Content-Type não suportado: text/plain. Use application/json", response.getBody().getMessage());
+    assertEquals("UNSUPPORTED_MEDIA_TYPE", response.getBody().getCode());
+  }
+
   @Test
   void shouldHandleGenericException() {
     // Given
@@ -76,6 +99,21 @@ class GlobalExceptionHandlerTest {
     assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
     assertEquals(500, response.getBody().getStatus());
     assertEquals("Erro interno do servidor", response.getBody().getMessage());
+    assertEquals("INTERNAL_ERROR", response.getBody().getCode());
     assertNotNull(response.getBody().getTimestamp());
   }
-}
\ No newline at end of file
+
+  @Test
+  void shouldHandleValueViolationWithoutStackTrace() {
+    // Given
+    ValidationException exception = new ValidationException(ErrorCode.CHANGESET_DUPLICATED_FLAG, 42);
+
+    // When
+    ResponseEntity<AppError> response = handler.handleValidationException(exception, webRequest);
+
+    // Then
+    assertEquals(0, exception.getStackTrace().length);
+    assertEquals("CHANGESET_DUPLICATED_FLAG", response.getBody().getCode());
+    assertEquals("A flag 42 aparece mais de uma vez no changeset", response.getBody().getMessage());
+  }
+}
@@ -0,0 +1,107 @@
+package com.renanloureiro.feature_flags.infrastructure.http.presenters;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.renanloureiro.feature_flags.application.pagination.FeatureFlagPage;
+import com.renanloureiro.feature_flags.domain.FeatureFlag;
+import com.renanloureiro.feature_flags.domain.FeatureFlagType;
+import com.renanloureiro.feature_flags.domain.FeatureFlagValue;
+
+class SerializedResponseCacheTest {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  private final SerializedResponseCache cache = new SerializedResponseCache(objectMapper);
+
+  @Test
+  void shouldSerializeFlagOnlyOnce() throws Exception {
+    // Given
+    FeatureFlag flag = flag("dark-mode");
+
+    // When
+    byte[] first = cache.flag(flag);
+    byte[] second = cache.flag(flag);
+
+    // Then
+    assertSame(first, second);
+    assertEquals(objectMapper.writeValueAsString(FeatureFlagPresenter.toHttp(flag)), new String(first));
+  }
+
+  @Test
+  void shouldBuildPageFromFlagBytes() throws Exception {
+    // Given
+    FeatureFlag beta = flag("beta");
+    FeatureFlag darkMode = flag("dark-mode");
+    byte[] betaBytes = cache.flag(beta);
+
+    // When
+    JsonNode page = objectMapper.readTree(cache.page(new FeatureFlagPage(List.of(beta, darkMode), "dark-mode"), true));
+    JsonNode lastPage = objectMapper.readTree(cache.page(new FeatureFlagPage(List.of(), null), true));
+
+    // Then
+    assertSame(betaBytes, cache.flag(beta));
+    JsonNode expected = objectMapper.valueToTree(List.of(FeatureFlagPresenter.toHttp(beta),
+        FeatureFlagPresenter.toHttp(darkMode)));
+    assertEquals(expected, page.get("items"));
+    assertEquals("dark-mode", page.get("nextCursor").asText());
+    assertEquals(0, lastPage.get("items").size());
+    assertTrue(lastPage.get("nextCursor").isNull());
+  }
+
+  @Test
+  void shouldOmitSchemaFromSummaryPage() throws Exception {
+    // Given
+    FeatureFlag darkMode = flag("dark-mode");
+    byte[] fullBytes = cache.flag(darkMode);
+
+    // When
+    JsonNode page = objectMapper.readTree(cache.page(new FeatureFlagPage(List.of(darkMode), null), false));
+
+    // Then
+    JsonNode item = page.get("items").get(0);
+    assertFalse(item.has("schema"));
+    assertEquals("dark-mode", item.get("slug").asText());
+    assertTrue(objectMapper.readTree(fullBytes).has("schema"));
+  }
+
+  @Test
+  void shouldWriteValueAndValueAsStringFromSameJson() throws Exception {
+    // Given
+    FeatureFlag flag = flag("allowed-countries");
+    FeatureFlagValue value = FeatureFlagValue.builder()
+        .id(UUID.randomUUID())
+        .flag(flag)
+        .value(objectMapper.readTree("[\"BR\",\"PT\"]"))
+        .version(3)
+        .build();
+
+    // When
+    JsonNode json = objectMapper.readTree(cache.value(value));
+
+    // Then
+    assertEquals(objectMapper.readTree("[\"BR\",\"PT\"]"), json.get("value"));
+    assertEquals("[\"BR\",\"PT\"]", json.get("valueAsString").asText());
+    assertEquals(3, json.get("version").asInt());
+  }
+
+  private FeatureFlag flag(String slug) {
+    return FeatureFlag.builder()
+        .id(UUID.randomUUID())
+        .name(slug)
+        .slug(slug)
+        .type(FeatureFlagType.LIST)
+        .schema(objectMapper.createObjectNode().put("type", "array"))
+        .description("d")
+        .build();
+  }
+}
@@ -0,0 +1,156 @@
+package com.renanloureiro.feature_flags.infrastructure.http.stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.BooleanNode;
+import com.renanloureiro.feature_flags.application.events.FeatureFlagSnapshotUpdatedEvent;
+import com.renanloureiro.feature_flags.application.snapshot.FeatureFlagSnapshotEntry;
+import com.renanloureiro.feature_flags.domain.FeatureFlag;
+import com.renanloureiro.feature_flags.domain.FeatureFlagType;
+import com.renanloureiro.feature_flags.domain.FeatureFlagValue;
+import com.renanloureiro.feature_flags.infrastructure.cluster.ClusterNode;
+import com.renanloureiro.feature_flags.infrastructure.http.controllers.FeatureFlagStreamController;
+
+class FeatureFlagChangeStreamTest {
+
+  private ClusterNode clusterNode;
+
+  private FeatureFlagChangeStream stream;
+
+  private MockMvc mockMvc;
+
+  @BeforeEach
+  void setUp() {
+    clusterNode = new ClusterNode();
+    useStream(2, 4);
+  }
+
+  @AfterEach
+  void tearDown() {
+    stream.destroy();
+  }
+
+  @Test
+  void shouldPushChangesToSubscribers() throws Exception {
+    // Given
+    MockHttpServletResponse response = open(null);
+
+    // When
+    stream.onSnapshotUpdated(changed("dark-mode", 1));
+
+    // Then
+    await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> assertThat(response.getContentAsString())
+        .contains("event:ready")
+        .contains("id:" + clusterNode.getId() + "-1")
+        .contains("event:flag-changed")
+        .contains("\"slug\":\"dark-mode\""));
+  }
+
+  @Test
+  void shouldReplayMissedEventsFromLastEventId() throws Exception {
+    // Given
+    stream.onSnapshotUpdated(changed("dark-mode", 1));
+    stream.onSnapshotUpdated(changed("beta", 1));
+
+    // When
+    MockHttpServletResponse response = open(clusterNode.getId() + "-1");
+
+    // Then
+    await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> assertThat(response.getContentAsString())
+        .contains("id:" + clusterNode.getId() + "-2")
+        .contains("\"slug\":\"beta\"")
+        .doesNotContain("\"slug\":\"dark-mode\""));
+  }
+
+  @Test
+  void shouldAskForResetWhenLastEventIdIsUnknown() throws Exception {
+    // Given
+    stream.onSnapshotUpdated(changed("dark-mode", 1));
+    stream.onSnapshotUpdated(changed("dark-mode", 2));
+    stream.onSnapshotUpdated(changed("dark-mode", 3));
+
+    // When
+    MockHttpServletResponse evicted = open(clusterNode.getId() + "-0");
+    MockHttpServletResponse otherNode = open(UUID.randomUUID() + "-3");
+
+    // Then
+    await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> {
+      assertThat(evicted.getContentAsString()).contains("event:reset");
+      assertThat(otherNode.getContentAsString()).contains("event:reset");
+    });
+  }
+
+  @Test
+  void shouldAskForResetWhenMissedEventsExceedQueueCapacity() throws Exception {
+    // Given
+    stream.destroy();
+    useStream(16, 4);
+    for (int version = 1; version <= 6; version++) {
+      stream.onSnapshotUpdated(changed("dark-mode", version));
+    }
+
+    // When
+    MockHttpServletResponse tooFarBack = open(clusterNode.getId() + "-1");
+    MockHttpServletResponse withinQueue = open(clusterNode.getId() + "-2");
+
+    // Then
+    await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> {
+      assertThat(tooFarBack.getContentAsString())
+          .contains("event:reset")
+          .doesNotContain("event:flag-changed");
+      assertThat(withinQueue.getContentAsString())
+          .contains("id:" + clusterNode.getId() + "-6")
+          .doesNotContain("event:reset");
+    });
+  }
+
+  private void useStream(int bufferSize, int queueCapacity) {
+    stream = new FeatureFlagChangeStream(new ObjectMapper(), clusterNode, bufferSize, queueCapacity,
+        Duration.ofMinutes(1), Duration.ofMinutes(1));
+
+    FeatureFlagStreamController controller = new FeatureFlagStreamController();
+    ReflectionTestUtils.setField(controller, "featureFlagChangeStream", stream);
+    mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+  }
+
+  private MockHttpServletResponse open(String lastEventId) throws Exception {
+    var builder = get("/v1/feature-flags/stream");
+    if (lastEventId != null) {
+      builder.header("Last-Event-ID", lastEventId);
+    }
+    return mockMvc.perform(builder)
+        .andExpect(request().asyncStarted())
+        .andReturn()
+        .getResponse();
+  }
+
+  private FeatureFlagSnapshotUpdatedEvent changed(String slug, int version) {
+    FeatureFlag flag = FeatureFlag.builder()
+        .id(UUID.randomUUID())
+        .name(slug)
+        .slug(slug)
+        .type(FeatureFlagType.BOOLEAN)
+        .build();
+    FeatureFlagValue value = FeatureFlagValue.builder()
+        .flag(flag)
+        .value(BooleanNode.TRUE)
+        .version(version)
+        .build();
+    return new FeatureFlagSnapshotUpdatedEvent(new FeatureFlagSnapshotEntry(flag, value, version));
+  }
+}
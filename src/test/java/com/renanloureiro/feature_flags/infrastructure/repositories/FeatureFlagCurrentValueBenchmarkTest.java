@@ -0,0 +1,123 @@
+package com.renanloureiro.feature_flags.infrastructure.repositories;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.renanloureiro.feature_flags.application.repositories.FeatureFlagRepository;
+import com.renanloureiro.feature_flags.application.repositories.FeatureFlagValueRepository;
+import com.renanloureiro.feature_flags.infrastructure.AbstractPostgresBenchmarkTest;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Leitura do valor vigente com 10 milhões de versões no histórico: ponteiro em
+ * {@code feature_flag_current_values} contra a busca da maior versão. Executar
+ * com {@code mvn test -Pbenchmark}.
+ */
+@Slf4j
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class FeatureFlagCurrentValueBenchmarkTest extends AbstractPostgresBenchmarkTest {
+
+  private static final int FLAGS = 1_000;
+
+  private static final int VERSIONS_PER_FLAG = 10_000;
+
+  private static final int ITERATIONS = 50;
+
+  // Consultas anteriores ao ponteiro, mantidas apenas para comparação
+  private static final String MAX_VERSION_ALL = "select f.id, v.id, v.value from feature_flags f "
+      + "left join feature_flag_values v on v.flag_id = f.id and v.version = "
+      + "(select max(v2.version) from feature_flag_values v2 where v2.flag_id = f.id)";
+
+  private static final String MAX_VERSION_ONE = "select v.id from feature_flag_values v "
+      + "join feature_flags f on f.id = v.flag_id where f.slug = ? order by v.version desc limit 1";
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private FeatureFlagRepository featureFlagRepository;
+
+  @Autowired
+  private FeatureFlagValueRepository featureFlagValueRepository;
+
+  @BeforeAll
+  void seedHistory() {
+    long startedAt = System.nanoTime();
+    jdbcTemplate.execute("insert into feature_flags (slug, name, type, schema) "
+        + "select 'bench-' || lpad(g::text, 5, '0'), 'bench-' || g, 'BOOLEAN', '{\"type\":\"boolean\"}' "
+        + "from generate_series(1, " + FLAGS + ") g");
+    jdbcTemplate.execute("insert into feature_flag_values (flag_id, value, version, updated_by) "
+        + "select f.id, 'true', v, 'benchmark' from feature_flags f, generate_series(1, " + VERSIONS_PER_FLAG + ") v");
+    log.info("Histórico com {} versões criado em {} s", FLAGS * VERSIONS_PER_FLAG, seconds(startedAt));
+
+    // mesmo backfill da migração V5
+    startedAt = System.nanoTime();
+    jdbcTemplate.execute("insert into feature_flag_current_values (flag_id, value_id, version) "
+        + "select distinct on (flag_id) flag_id, id, version from feature_flag_values "
+        + "order by flag_id, version desc");
+    log.info("Backfill dos ponteiros em {} s", seconds(startedAt));
+
+    jdbcTemplate.execute("vacuum analyze");
+  }
+
+  @Test
+  @DisplayName("Benchmark: valor vigente de todas as flags")
+  void shouldResolveAllCurrentValuesThroughPointer() {
+    double maxVersionMs = measure(() -> jdbcTemplate.queryForList(MAX_VERSION_ALL).size());
+    double pointerMs = measure(() -> featureFlagRepository.findAllWithCurrentValue().size());
+    log.info("Todas as flags: maior versão {} ms, ponteiro {} ms", format(maxVersionMs), format(pointerMs));
+
+    assertEquals(FLAGS, featureFlagRepository.findAllWithCurrentValue().stream()
+        .filter(entry -> entry.getCurrentValue().getVersion() == VERSIONS_PER_FLAG)
+        .count());
+    assertTrue(pointerMs < maxVersionMs, "Ponteiro mais lento que a busca da maior versão");
+  }
+
+  @Test
+  @DisplayName("Benchmark: valor vigente de uma flag")
+  void shouldResolveOneCurrentValueThroughPointer() {
+    double maxVersionMs = measure(() -> jdbcTemplate.queryForList(MAX_VERSION_ONE, "bench-00500").size());
+    double pointerMs = measure(() -> featureFlagValueRepository.findCurrentByFlagSlug("bench-00500").isPresent()
+        ? 1
+        : 0);
+    log.info("Uma flag: maior versão {} ms, ponteiro {} ms", format(maxVersionMs), format(pointerMs));
+
+    assertEquals(VERSIONS_PER_FLAG, featureFlagValueRepository.findCurrentByFlagSlug("bench-00500")
+        .orElseThrow().getVersion());
+    assertTrue(pointerMs < maxVersionMs, "Ponteiro mais lento que a busca da maior versão");
+  }
+
+  /**
+   * Tempo médio por execução em milissegundos, depois de uma rodada de
+   * aquecimento
+   */
+  private double measure(Supplier<Integer> query) {
+    for (int i = 0; i < ITERATIONS / 5; i++) {
+      query.get();
+    }
+
+    long startedAt = System.nanoTime();
+    for (int i = 0; i < ITERATIONS; i++) {
+      query.get();
+    }
+    return (System.nanoTime() - startedAt) / 1_000_000.0 / ITERATIONS;
+  }
+
+  private static String seconds(long startedAt) {
+    return String.format("%.1f", (System.nanoTime() - startedAt) / 1_000_000_000.0);
+  }
+
+  private static String format(double millis) {
+    return String.format("%.2f", millis);
+  }
+}
@@ -0,0 +1,48 @@
+package com.renanloureiro.feature_flags.infrastructure.repositories;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeMap;
+
+import com.renanloureiro.feature_flags.application.repositories.FeatureFlagOutboxRepository;
+import com.renanloureiro.feature_flags.domain.FeatureFlagOutboxEntry;
+
+public class FeatureFlagOutboxRepositoryInMemoryImpl implements FeatureFlagOutboxRepository {
+
+  private final TreeMap<Long, FeatureFlagOutboxEntry> entries = new TreeMap<>();
+
+  private long lastId = 0;
+
+  @Override
+  public <S extends FeatureFlagOutboxEntry> List<S> saveAll(Iterable<S> newEntries) {
+    List<S> saved = new ArrayList<>();
+    for (S entry : newEntries) {
+      entry.setId(++lastId);
+      entries.put(entry.getId(), entry);
+      saved.add(entry);
+    }
+    return saved;
+  }
+
+  // sem concorrência, não há lotes bloqueados por outras transações
+  @Override
+  public List<FeatureFlagOutboxEntry> lockNextBatch(int limit) {
+    return entries.values().stream().limit(limit).toList();
+  }
+
+  @Override
+  public void deleteAllByIdInBatch(Iterable<Long> ids) {
+    ids.forEach(entries::remove);
+  }
+
+  @Override
+  public void incrementAttempts(Collection<Long> ids) {
+    ids.forEach(id -> entries.get(id).setAttempts(entries.get(id).getAttempts() + 1));
+  }
+
+  @Override
+  public long count() {
+    return entries.size();
+  }
+}
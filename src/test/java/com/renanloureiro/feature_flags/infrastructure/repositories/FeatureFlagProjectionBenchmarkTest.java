@@ -0,0 +1,149 @@
+package com.renanloureiro.feature_flags.infrastructure.repositories;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.renanloureiro.feature_flags.application.pagination.FeatureFlagPage;
+import com.renanloureiro.feature_flags.application.repositories.FeatureFlagRepository;
+import com.renanloureiro.feature_flags.application.snapshot.FeatureFlagSnapshotEntry;
+import com.renanloureiro.feature_flags.domain.FeatureFlag;
+import com.renanloureiro.feature_flags.infrastructure.AbstractPostgresBenchmarkTest;
+import com.renanloureiro.feature_flags.infrastructure.http.presenters.SerializedResponseCache;
+
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Carga do catálogo com 50 mil flags: seleção das entidades contra a projeção
+ * em {@link FeatureFlagEntryProjection}, medindo tempo e memória alocada por
+ * carga. Executar com {@code mvn test -Pbenchmark}.
+ */
+@Slf4j
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class FeatureFlagProjectionBenchmarkTest extends AbstractPostgresBenchmarkTest {
+
+  private static final int FLAGS = 50_000;
+
+  private static final int ITERATIONS = 10;
+
+  private static final int PAGE_SIZE = 500;
+
+  // Consulta anterior à projeção, mantida apenas para comparação
+  private static final String ENTITIES_ALL = "select new com.renanloureiro.feature_flags.application.snapshot"
+      + ".FeatureFlagSnapshotEntry(f, v, coalesce(greatest(f.revision, v.revision), 0L)) "
+      + "from FeatureFlag f left join FeatureFlagCurrentValue c on c.flagId = f.id left join c.value v";
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  @Autowired
+  private FeatureFlagRepository featureFlagRepository;
+
+  @Autowired
+  private SerializedResponseCache serializedResponseCache;
+
+  @BeforeAll
+  void seedCatalog() {
+    long startedAt = System.nanoTime();
+    jdbcTemplate.execute("insert into feature_flags (slug, name, type, schema, description) "
+        + "select 'bench-' || lpad(g::text, 5, '0'), 'bench-' || g, 'LIST', "
+        + "'{\"type\":\"array\",\"items\":{\"type\":\"string\",\"pattern\":\"^[A-Z]{2}$\"},"
+        + "\"minItems\":1,\"maxItems\":50,\"uniqueItems\":true}', 'Países liberados' "
+        + "from generate_series(1, " + FLAGS + ") g");
+    jdbcTemplate.execute("insert into feature_flag_values (flag_id, value, version, updated_by) "
+        + "select id, '[\"BR\",\"PT\",\"US\"]', 1, 'benchmark' from feature_flags");
+    jdbcTemplate.execute("insert into feature_flag_current_values (flag_id, value_id, version) "
+        + "select flag_id, id, version from feature_flag_values");
+    jdbcTemplate.execute("vacuum analyze");
+    log.info("Catálogo com {} flags criado em {} s", FLAGS, seconds(startedAt));
+  }
+
+  @Test
+  @DisplayName("Benchmark: carga de todas as flags por entidades e por projeção")
+  void shouldLoadCatalogThroughProjection() {
+    // mesma transação somente leitura em que a consulta do repositório executava
+    TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+    readOnly.setReadOnly(true);
+    Measurement entities = measure(() -> readOnly.execute(status -> entityManager
+        .createQuery(ENTITIES_ALL, FeatureFlagSnapshotEntry.class)
+        .getResultList()));
+    Measurement projection = measure(featureFlagRepository::findAllWithCurrentValue);
+    log.info("Entidades: {} ms e {} MB alocados por carga", format(entities.millis()), megabytes(entities.bytes()));
+    log.info("Projeção: {} ms e {} MB alocados por carga", format(projection.millis()), megabytes(projection.bytes()));
+
+    List<FeatureFlagSnapshotEntry> loaded = featureFlagRepository.findAllWithCurrentValue();
+    assertEquals(FLAGS, loaded.size());
+    assertTrue(loaded.stream().allMatch(entry -> entry.getCurrentValue().getFlag() == entry.getFlag()));
+    assertTrue(projection.bytes() < entities.bytes(), "Projeção alocou mais que as entidades");
+    assertTrue(projection.millis() < entities.millis(), "Projeção mais lenta que as entidades");
+  }
+
+  @Test
+  @DisplayName("Benchmark: página da listagem com e sem schema")
+  void shouldShrinkPageWithoutSchema() {
+    List<FeatureFlag> items = featureFlagRepository.findPage(null, null, PAGE_SIZE).stream()
+        .map(FeatureFlagSnapshotEntry::getFlag)
+        .toList();
+    FeatureFlagPage page = new FeatureFlagPage(items, null);
+
+    int full = serializedResponseCache.page(page, true).length;
+    int summary = serializedResponseCache.page(page, false).length;
+    log.info("Página com {} flags: {} KB com schema, {} KB sem schema", PAGE_SIZE, full / 1024, summary / 1024);
+
+    assertTrue(summary < full, "Página sem schema não ficou menor");
+  }
+
+  /**
+   * Tempo médio e bytes alocados pela thread por execução, depois de uma rodada
+   * de aquecimento
+   */
+  private Measurement measure(Supplier<List<?>> load) {
+    com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    for (int i = 0; i < ITERATIONS / 2; i++) {
+      load.get();
+    }
+
+    long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+    long startedAt = System.nanoTime();
+    for (int i = 0; i < ITERATIONS; i++) {
+      load.get();
+    }
+    long elapsed = System.nanoTime() - startedAt;
+    long allocated = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+    return new Measurement(elapsed / 1_000_000.0 / ITERATIONS, allocated / ITERATIONS);
+  }
+
+  private static String seconds(long startedAt) {
+    return String.format("%.1f", (System.nanoTime() - startedAt) / 1_000_000_000.0);
+  }
+
+  private static String format(double millis) {
+    return String.format("%.2f", millis);
+  }
+
+  private static String megabytes(long bytes) {
+    return String.format("%.1f", bytes / (1024.0 * 1024.0));
+  }
+
+  private record Measurement(double millis, long bytes) {
+  }
+}
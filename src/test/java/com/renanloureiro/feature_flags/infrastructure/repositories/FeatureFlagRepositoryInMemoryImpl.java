@@ -1,30 +1,74 @@
 package com.renanloureiro.feature_flags.infrastructure.repositories;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import com.renanloureiro.feature_flags.application.repositories.FeatureFlagRepository;
+import com.renanloureiro.feature_flags.application.snapshot.FeatureFlagSnapshotEntry;
 import com.renanloureiro.feature_flags.domain.FeatureFlag;
+import com.renanloureiro.feature_flags.domain.FeatureFlagType;
+import com.renanloureiro.feature_flags.domain.FeatureFlagValue;
 
 public class FeatureFlagRepositoryInMemoryImpl implements FeatureFlagRepository {
 
   private final Map<UUID, FeatureFlag> featureFlags = new HashMap<>();
 
+  private final FeatureFlagValueRepositoryInMemoryImpl featureFlagValueRepository;
+
+  public FeatureFlagRepositoryInMemoryImpl() {
+    this(new FeatureFlagValueRepositoryInMemoryImpl());
+  }
+
+  public FeatureFlagRepositoryInMemoryImpl(FeatureFlagValueRepositoryInMemoryImpl featureFlagValueRepository) {
+    this.featureFlagValueRepository = featureFlagValueRepository;
+  }
+
   @Override
   public FeatureFlag save(FeatureFlag featureFlag) {
     if (featureFlag.getId() == null) {
       featureFlag.setId(UUID.randomUUID());
     }
+    featureFlag.setRevision(featureFlagValueRepository.nextRevision());
 
     featureFlags.put(featureFlag.getId(), featureFlag);
 
     return featureFlag;
   }
 
+  @Override
+  public Optional<FeatureFlag> insertIfSlugAvailable(FeatureFlag featureFlag) {
+    if (existsBySlug(featureFlag.getSlug())) {
+      return Optional.empty();
+    }
+    return Optional.of(save(featureFlag));
+  }
+
+  @Override
+  public <S extends FeatureFlag> List<S> saveAll(Iterable<S> featureFlags) {
+    List<S> saved = new ArrayList<>();
+    featureFlags.forEach(featureFlag -> {
+      save(featureFlag);
+      saved.add(featureFlag);
+    });
+    return saved;
+  }
+
+  @Override
+  public List<FeatureFlag> insertAllIfSlugsAvailable(List<FeatureFlag> featureFlags) {
+    List<FeatureFlag> inserted = new ArrayList<>();
+    featureFlags.forEach(featureFlag -> insertIfSlugAvailable(featureFlag).ifPresent(inserted::add));
+    return inserted;
+  }
+
   @Override
   public Optional<FeatureFlag> findBySlug(String slug) {
     return featureFlags.values().stream()
@@ -32,17 +76,27 @@ public class FeatureFlagRepositoryInMemoryImpl implements FeatureFlagRepository
         .findFirst();
   }
 
-  @Override
   public boolean existsBySlug(String slug) {
     return featureFlags.values().stream()
         .anyMatch(featureFlag -> featureFlag.getSlug().equals(slug));
   }
 
-  @Override
   public List<FeatureFlag> findAll() {
     return new ArrayList<FeatureFlag>(featureFlags.values());
   }
 
+  @Override
+  public List<FeatureFlagSnapshotEntry> findPage(FeatureFlagType type, String afterSlug, int limit) {
+    return featureFlags.values().stream()
+        .filter(featureFlag -> type == null || featureFlag.getType() == type)
+        .filter(featureFlag -> afterSlug == null || featureFlag.getSlug().compareTo(afterSlug) > 0)
+        .sorted(Comparator.comparing(FeatureFlag::getSlug))
+        .limit(limit)
+        .map(featureFlag -> new FeatureFlagSnapshotEntry(featureFlag,
+            featureFlagValueRepository.findCurrentByFlagSlug(featureFlag.getSlug()).orElse(null), 0))
+        .toList();
+  }
+
   public void clear() {
     featureFlags.clear();
   }
@@ -51,4 +105,65 @@ public class FeatureFlagRepositoryInMemoryImpl implements FeatureFlagRepository
   public Optional<FeatureFlag> findById(UUID id) {
     return Optional.ofNullable(featureFlags.get(id));
   }
-}
\ No newline at end of file
+
+  @Override
+  public List<FeatureFlag> findAllByIdIn(Collection<UUID> ids) {
+    return ids.stream()
+        .distinct()
+        .map(featureFlags::get)
+        .filter(Objects::nonNull)
+        .toList();
+  }
+
+  @Override
+  public List<FeatureFlagSnapshotEntry> findWithCurrentValueBySlugs(Collection<String> slugs) {
+    return featureFlags.values().stream()
+        .filter(featureFlag -> slugs.contains(featureFlag.getSlug()))
+        .map(featureFlag -> new FeatureFlagSnapshotEntry(featureFlag,
+            featureFlagValueRepository.findCurrentByFlagSlug(featureFlag.getSlug()).orElse(null), 0))
+        .toList();
+  }
+
+  @Override
+  public List<FeatureFlagSnapshotEntry> findWithCurrentValueByIds(Collection<UUID> ids) {
+    return featureFlags.values().stream()
+        .filter(featureFlag -> ids.contains(featureFlag.getId()))
+        .map(this::withCurrentValue)
+        .toList();
+  }
+
+  @Override
+  public List<FeatureFlagSnapshotEntry> findAllWithCurrentValue() {
+    return featureFlags.values().stream()
+        .map(this::withCurrentValue)
+        .toList();
+  }
+
+  // Sem transações concorrentes, cada escrita é a própria transação: o cursor é
+  // a próxima revisão a ser atribuída
+  @Override
+  public List<UUID> findIdsChangedSince(long watermark) {
+    Set<UUID> ids = new HashSet<>();
+    featureFlags.values().stream()
+        .filter(featureFlag -> featureFlag.getRevision() >= watermark)
+        .forEach(featureFlag -> ids.add(featureFlag.getId()));
+    featureFlagValueRepository.findAll().stream()
+        .filter(featureFlagValue -> featureFlagValue.getRevision() >= watermark)
+        .forEach(featureFlagValue -> ids.add(featureFlagValue.getFlag().getId()));
+    return new ArrayList<>(ids);
+  }
+
+  @Override
+  public long findSyncWatermark() {
+    return featureFlagValueRepository.currentRevision() + 1;
+  }
+
+  private FeatureFlagSnapshotEntry withCurrentValue(FeatureFlag featureFlag) {
+    FeatureFlagValue currentValue = featureFlagValueRepository.findCurrentByFlagSlug(featureFlag.getSlug())
+        .orElse(null);
+    long revision = currentValue != null
+        ? Math.max(featureFlag.getRevision(), currentValue.getRevision())
+        : featureFlag.getRevision();
+    return new FeatureFlagSnapshotEntry(featureFlag, currentValue, revision);
+  }
+}
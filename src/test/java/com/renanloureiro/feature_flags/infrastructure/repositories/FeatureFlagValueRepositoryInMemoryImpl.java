@@ -1,24 +1,41 @@
 package com.renanloureiro.feature_flags.infrastructure.repositories;
 
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
 import com.renanloureiro.feature_flags.application.repositories.FeatureFlagValueRepository;
-import com.renanloureiro.feature_flags.domain.FeatureFlag;
 import com.renanloureiro.feature_flags.domain.FeatureFlagValue;
 
 public class FeatureFlagValueRepositoryInMemoryImpl implements FeatureFlagValueRepository {
 
   private final Map<UUID, FeatureFlagValue> featureFlagValues = new HashMap<>();
 
+  private final Map<UUID, Integer> versionCounters = new HashMap<>();
+
+  // Ponteiros registrados por markAsCurrent; as leituras continuam derivando o
+  // valor vigente da maior versão, o que é equivalente
+  private final Map<UUID, UUID> currentValueIds = new HashMap<>();
+
+  // Simula a sequência de revisões compartilhada pelas duas tabelas
+  private long revision = 0;
+
   @Override
   public FeatureFlagValue save(FeatureFlagValue featureFlagValue) {
     if (featureFlagValue.getId() == null) {
       featureFlagValue.setId(UUID.randomUUID());
     }
+    if (featureFlagValue.getCreatedAt() == null) {
+      featureFlagValue.setCreatedAt(LocalDateTime.now());
+    }
+    featureFlagValue.setRevision(nextRevision());
 
     featureFlagValues.put(featureFlagValue.getId(), featureFlagValue);
 
@@ -26,18 +43,26 @@ public class FeatureFlagValueRepositoryInMemoryImpl implements FeatureFlagValueR
   }
 
   @Override
-  public Optional<FeatureFlagValue> findByFlagAndVersion(FeatureFlag flag, Integer version) {
-    return featureFlagValues.values().stream()
-        .filter(featureFlagValue -> featureFlagValue.getFlag().getId().equals(flag.getId())
-            && featureFlagValue.getVersion().equals(version))
-        .findFirst();
+  public FeatureFlagValue insertJson(FeatureFlagValue featureFlagValue, String json) {
+    return save(featureFlagValue);
   }
 
   @Override
-  public boolean existsByFlagAndVersion(FeatureFlag flag, Integer version) {
-    return featureFlagValues.values().stream()
-        .anyMatch(featureFlagValue -> featureFlagValue.getFlag().getId().equals(flag.getId())
-            && featureFlagValue.getVersion().equals(version));
+  public List<FeatureFlagValue> insertAll(List<FeatureFlagValue> featureFlagValues) {
+    featureFlagValues.forEach(this::save);
+    return featureFlagValues;
+  }
+
+  public long nextRevision() {
+    return ++revision;
+  }
+
+  public long currentRevision() {
+    return revision;
+  }
+
+  public List<FeatureFlagValue> findAll() {
+    return List.copyOf(featureFlagValues.values());
   }
 
   public void clear() {
@@ -45,10 +70,61 @@ public class FeatureFlagValueRepositoryInMemoryImpl implements FeatureFlagValueR
   }
 
   @Override
-  public Optional<Integer> findLatestVersionByFlagId(UUID flagId) {
+  public synchronized int allocateNextVersion(UUID flagId) {
+    return versionCounters.merge(flagId, 1, Integer::sum);
+  }
+
+  @Override
+  public synchronized Map<UUID, Integer> allocateNextVersions(Collection<UUID> flagIds) {
+    Map<UUID, Integer> versions = new HashMap<>();
+    flagIds.forEach(flagId -> versions.put(flagId, allocateNextVersion(flagId)));
+    return versions;
+  }
+
+  @Override
+  public void markAsCurrent(Collection<UUID> valueIds) {
+    valueIds.stream()
+        .map(featureFlagValues::get)
+        .forEach(featureFlagValue -> currentValueIds.put(featureFlagValue.getFlag().getId(), featureFlagValue.getId()));
+  }
+
+  public UUID currentValueIdOf(UUID flagId) {
+    return currentValueIds.get(flagId);
+  }
+
+  @Override
+  public Optional<FeatureFlagValue> findCurrentByFlagSlug(String slug) {
     return featureFlagValues.values().stream()
-        .filter(featureFlagValue -> featureFlagValue.getFlag().getId().equals(flagId))
-        .map(FeatureFlagValue::getVersion)
-        .max(Comparator.naturalOrder());
+        .filter(featureFlagValue -> featureFlagValue.getFlag().getSlug().equals(slug))
+        .max(Comparator.comparing(FeatureFlagValue::getVersion));
+  }
+
+  @Override
+  public int deleteExpiredVersions(int keepLastVersions, Instant olderThan, int batchSize) {
+    Map<UUID, Integer> currentVersions = new HashMap<>();
+    featureFlagValues.values().forEach(featureFlagValue -> currentVersions.merge(
+        featureFlagValue.getFlag().getId(), featureFlagValue.getVersion(), Math::max));
+
+    List<UUID> expired = featureFlagValues.values().stream()
+        .filter(featureFlagValue -> featureFlagValue.getVersion() <= currentVersions
+            .get(featureFlagValue.getFlag().getId()) - keepLastVersions)
+        .filter(featureFlagValue -> featureFlagValue.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant()
+            .isBefore(olderThan))
+        .limit(batchSize)
+        .map(FeatureFlagValue::getId)
+        .toList();
+    expired.forEach(featureFlagValues::remove);
+    return expired.size();
+  }
+
+  // Sem partições em memória
+  @Override
+  public List<String> dropExpiredPartitions(int keepLastVersions, Instant olderThan) {
+    return List.of();
+  }
+
+  @Override
+  public int createPartitionsAhead(int monthsAhead) {
+    return 0;
   }
-}
\ No newline at end of file
+}